@@ -0,0 +1,82 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatSseEvent;
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatStreamDeltaDto;
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatSseEventType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 1개 / 구독자 100명 / 이벤트 1,000건 fan-out
+ * - perSubscriber: 구독자마다 직렬화 (기존 emitter.send(event) 방식)
+ * - oncePerRoom: 방 단위 1회 직렬화 후 같은 프레임을 모든 구독자에 적재
+ * - writer 는 호출 스레드에서 바로 drain, emitter 는 네트워크 대신 빌드 결과만 소비
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SseFanOutBenchmark {
+
+    private static final int SUBSCRIBERS = 100;
+    private static final int EVENTS = 1_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<SseSubscriber> subscribers;
+    private List<ChatSseEvent<ChatStreamDeltaDto>> events;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Executor direct = Runnable::run;
+
+        subscribers = new ArrayList<>(SUBSCRIBERS);
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            subscribers.add(new SseSubscriber(new CountingEmitter(), EVENTS, direct, objectMapper, (s, reason) -> {
+            }));
+        }
+
+        events = new ArrayList<>(EVENTS);
+        for (int i = 1; i <= EVENTS; i++) {
+            events.add(new ChatSseEvent<>(ChatSseEventType.CHAT_STREAM,
+                    new ChatStreamDeltaDto(1L, "안녕하세요, 무엇을 도와드릴까요? ", i)));
+        }
+    }
+
+    @Benchmark
+    public void perSubscriber() throws Exception {
+        for (ChatSseEvent<ChatStreamDeltaDto> event : events) {
+            for (SseSubscriber subscriber : subscribers) {
+                subscriber.offer(SseFrame.of(event.getType().name(), event, objectMapper));
+            }
+        }
+    }
+
+    @Benchmark
+    public void oncePerRoom() throws Exception {
+        for (ChatSseEvent<ChatStreamDeltaDto> event : events) {
+            SseFrame frame = SseFrame.of(event.getType().name(), event, objectMapper);
+            for (SseSubscriber subscriber : subscribers) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+
+    /**
+     * 전송 대신 이벤트 빌드 결과 크기만 누적
+     */
+    private static class CountingEmitter extends SseEmitter {
+
+        private long written;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            written += builder.build().size();
+        }
+    }
+}
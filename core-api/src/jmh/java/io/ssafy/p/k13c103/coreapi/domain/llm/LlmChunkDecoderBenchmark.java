@@ -0,0 +1,64 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청크 디코딩 비교
+ * - threeParse: 기존 LlmStreamParser (extractUsage / extractDeltaContent / isDoneChunk 각각 readTree)
+ * - singlePass: LlmChunkDecoder (JsonParser 1회)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LlmChunkDecoderBenchmark {
+
+    @Param({"openai", "gemini", "anthropic"})
+    public String provider;
+
+    private String chunk;
+    private LlmProvider wireFormat;
+
+    private LlmStreamParser parser;
+    private LlmChunkDecoder decoder;
+    private DecodedChunk decoded;
+
+    @Setup
+    public void setup() {
+        parser = new LlmStreamParser();
+        decoder = new LlmChunkDecoder();
+        decoded = new DecodedChunk();
+        wireFormat = LlmProvider.from(provider);
+
+        chunk = switch (provider) {
+            case "openai" -> """
+                    {"id":"chatcmpl-9x","object":"chat.completion.chunk","created":1730000000,"model":"gpt-4o-mini",\
+                    "system_fingerprint":"fp_1234","choices":[{"index":0,"delta":{"content":"안녕하세요, 무엇을 도와드릴까요?"},\
+                    "logprobs":null,"finish_reason":null}],"usage":null}""";
+            case "gemini" -> """
+                    {"candidates":[{"content":{"parts":[{"text":"안녕하세요, 무엇을 도와드릴까요?"}],"role":"model"},\
+                    "index":0,"safetyRatings":[{"category":"HARM_CATEGORY_HATE_SPEECH","probability":"NEGLIGIBLE"}]}],\
+                    "usageMetadata":{"promptTokenCount":12,"candidatesTokenCount":9,"totalTokenCount":21},\
+                    "modelVersion":"gemini-2.0-flash"}""";
+            default -> """
+                    {"type":"content_block_delta","index":0,"delta":{"type":"text_delta","text":"안녕하세요, 무엇을 도와드릴까요?"}}""";
+        };
+    }
+
+    @Benchmark
+    public void threeParse(Blackhole bh) {
+        bh.consume(parser.extractUsage(provider, chunk));
+        bh.consume(parser.extractDeltaContent(provider, chunk));
+        bh.consume(parser.isDoneChunk(provider, chunk));
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole bh) {
+        DecodedChunk out = decoder.decode(wireFormat, chunk, decoded);
+        bh.consume(out.getDelta());
+        bh.consume(out.isDone());
+        bh.consume(out.getTotalTokens());
+    }
+}
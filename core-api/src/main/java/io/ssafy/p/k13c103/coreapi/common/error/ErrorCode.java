@@ -29,6 +29,7 @@ public enum ErrorCode {
     /* === 채팅 === */
     CHAT_NOT_FOUND(HttpStatus.NOT_FOUND, "채팅을 찾을 수 없습니다."),
     TOO_MANY_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "검색할 키워드가 5개 초과입니다."),
+    GENERATION_NOT_RUNNING(HttpStatus.CONFLICT, "답변을 생성 중인 채팅이 아닙니다."),
 
     /* === 그룹 === */
     GROUP_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 그룹입니다."),
@@ -49,6 +50,9 @@ public enum ErrorCode {
 
     RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "외부 API 호출 한도를 초과했습니다."),
     UPSTREAM_ERROR(HttpStatus.BAD_GATEWAY, "외부 모델 서버 오류가 발생했습니다."),
+    UPSTREAM_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "외부 모델 서버 응답 시간이 초과되었습니다."),
+    CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "외부 모델 서버 장애로 잠시 요청을 차단했습니다."),
+    LLM_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "외부 모델 서버 동시 요청 한도를 초과했습니다."),
 
     PROVIDER_NOT_FOUND(HttpStatus.NOT_FOUND, "제공사를 찾을 수 없습니다."),
     MODEL_CATALOG_EMPTY(HttpStatus.BAD_REQUEST, "해당 제공사의 유효한 모델이 존재하지 않습니다."),
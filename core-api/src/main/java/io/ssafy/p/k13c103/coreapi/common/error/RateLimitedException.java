@@ -0,0 +1,56 @@
+package io.ssafy.p.k13c103.coreapi.common.error;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 외부 API 429 응답
+ * - Retry-After 헤더 값을 함께 보관 (재시도 시 이보다 먼저 호출하지 않음)
+ * - local: 자체 호출 한도(LlmRateLimiter)가 최대 대기 시간을 넘겨 거절한 경우 (이미 기다린 뒤라 즉시 재시도 대상 아님)
+ */
+@Getter
+public class RateLimitedException extends ApiException {
+
+    // 헤더가 없거나 해석할 수 없으면 null
+    private final Duration retryAfter;
+
+    private final boolean local;
+
+    public RateLimitedException(String message, Duration retryAfter) {
+        this(message, retryAfter, false);
+    }
+
+    private RateLimitedException(String message, Duration retryAfter, boolean local) {
+        super(ErrorCode.RATE_LIMITED, message);
+        this.retryAfter = retryAfter;
+        this.local = local;
+    }
+
+    public static RateLimitedException local(String message, Duration retryAfter) {
+        return new RateLimitedException(message, retryAfter, true);
+    }
+
+    /**
+     * Retry-After: 초 단위 숫자 또는 HTTP-date (RFC 1123)
+     */
+    public static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) return null;
+        String trimmed = value.trim();
+        try {
+            long seconds = Long.parseLong(trimmed);
+            return seconds < 0 ? null : Duration.ofSeconds(seconds);
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            Duration until = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return until.isNegative() ? Duration.ZERO : until;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
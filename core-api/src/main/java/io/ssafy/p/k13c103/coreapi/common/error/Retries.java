@@ -0,0 +1,70 @@
+package io.ssafy.p.k13c103.coreapi.common.error;
+
+import io.ssafy.p.k13c103.coreapi.config.properties.RetryPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * 단계별 in-process 재시도 (Reactor retryWhen 용)
+ * - 일시적 오류(429 / 5xx / 타임아웃 / 연결 실패 / 일시적 DB 오류)만 재시도
+ * - 429 의 Retry-After 는 백오프보다 길면 그 값을 따르되 정책의 maxBackoff 를 넘기지 않음
+ */
+@Slf4j
+public final class Retries {
+
+    private Retries() {
+    }
+
+    public static Retry of(RetryPolicy policy, Predicate<Throwable> retryable, String stage) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable error = signal.failure();
+            int attempt = (int) signal.totalRetries() + 1;
+            if (attempt >= policy.getMaxAttempts() || !retryable.test(error)) {
+                return Mono.error(error);
+            }
+            Duration delay = policy.backoff(attempt, retryAfterOf(error));
+            log.warn("[RETRY] {} 실패 → {}ms 후 재시도 ({}/{}): {}",
+                    stage, delay.toMillis(), attempt, policy.getMaxAttempts(), error.getMessage());
+            return Mono.delay(delay);
+        }));
+    }
+
+    public static boolean isTransient(Throwable error) {
+        if (error instanceof ApiException apiException) {
+            return switch (apiException.getErrorCode()) {
+                case RATE_LIMITED, UPSTREAM_ERROR, UPSTREAM_TIMEOUT -> true;
+                default -> false;
+            };
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return error instanceof WebClientRequestException
+                || error instanceof TimeoutException
+                || error instanceof IOException
+                || error instanceof TransientDataAccessException
+                || error instanceof CannotCreateTransactionException;
+    }
+
+    public static Duration retryAfterOf(Throwable error) {
+        if (error instanceof RateLimitedException rateLimited) {
+            return rateLimited.getRetryAfter();
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            return RateLimitedException.parseRetryAfter(responseException.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,10 @@
+package io.ssafy.p.k13c103.coreapi.common.job;
+
+/**
+ * 큐에서 꺼낸 작업 1건
+ * - id: Redis Stream 엔트리 id (ACK 대상)
+ * - attempt: 1부터 시작, 재시도마다 1씩 증가
+ * - payload: 작업별 입력값 (JSON)
+ */
+public record Job(String id, JobType type, int attempt, String payload) {
+}
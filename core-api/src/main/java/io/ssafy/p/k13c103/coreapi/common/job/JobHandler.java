@@ -0,0 +1,17 @@
+package io.ssafy.p.k13c103.coreapi.common.job;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 작업 종류별 처리기
+ * - 완료 신호 → ACK, 에러 → 재시도 정책에 따라 지연 재시도 또는 jobs:dead
+ * - 같은 작업이 두 번 이상 실행될 수 있으므로 (노드 장애 후 회수 등) 멱등하게 작성
+ */
+public interface JobHandler<T> {
+
+    JobType type();
+
+    Class<T> payloadType();
+
+    Mono<Void> handle(T payload, Job job);
+}
@@ -0,0 +1,12 @@
+package io.ssafy.p.k13c103.coreapi.common.job;
+
+/**
+ * 실패가 아닌 "아직 처리할 수 없음" (선행 작업 대기 등)
+ * - 재시도 정책은 동일하게 적용되지만 에러 로그를 남기지 않음
+ */
+public class JobRetryException extends RuntimeException {
+
+    public JobRetryException(String message) {
+        super(message, null, false, false);
+    }
+}
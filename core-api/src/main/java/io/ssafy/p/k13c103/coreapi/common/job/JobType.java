@@ -0,0 +1,13 @@
+package io.ssafy.p.k13c103.coreapi.common.job;
+
+/**
+ * 작업 큐에서 처리하는 작업 종류 (단계별로 나눠서 실패한 단계만 재시도)
+ */
+public enum JobType {
+
+    CHAT_ANSWER,            // 답변 생성 (LLM 스트리밍 + 저장)
+    CHAT_SUMMARY,           // 짧은 요약(방 이름) + 긴 요약/키워드
+    GROUP_SUMMARY,          // 그룹 요약/키워드
+    GROUP_SNAPSHOT_FILL     // 그룹 요약 완료 후 방의 그룹 스냅샷 채우기
+
+}
@@ -0,0 +1,336 @@
+package io.ssafy.p.k13c103.coreapi.common.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
+import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
+import io.ssafy.p.k13c103.coreapi.common.error.Retries;
+import io.ssafy.p.k13c103.coreapi.config.properties.JobQueueProperties;
+import io.ssafy.p.k13c103.coreapi.config.properties.RetryPolicy;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 작업 큐 워커 (모든 노드에서 실행)
+ * - 폴러 스레드 1개가 빈 슬롯(concurrency) 을 모두 잡고 → 죽은 노드의 작업 회수(maintenanceInterval 마다) → 남은 슬롯만큼 XREADGROUP
+ *   (회수도 폴러가 잡은 슬롯 안에서 처리해야 폴러가 슬롯을 독점해도 회수가 밀리지 않음)
+ * - 완료 → ACK, 실패 → 재시도 정책에 따라 jobs:delayed 또는 jobs:dead
+ * - 유지보수 스레드: 처리 중 작업 visibility 갱신, 재시도 작업 이동, 큐 메트릭 갱신
+ * - 노드 종료 시 처리 중이던 작업은 ACK 되지 않은 채 남아 visibilityTimeout 이후 다른 노드에서 재실행
+ */
+@Slf4j
+@Component
+public class JobWorker {
+
+    private static final Duration READ_ERROR_PAUSE = Duration.ofSeconds(1);
+    private static final int PROMOTE_BATCH = 100;
+
+    private final RedisJobQueue jobQueue;
+    private final JobQueueProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<JobType, JobHandler<?>> handlers = new EnumMap<>(JobType.class);
+
+    private final Map<String, Job> inFlight = new ConcurrentHashMap<>();
+    private final Semaphore permits;
+    private final AtomicReference<RedisJobQueue.Stats> stats = new AtomicReference<>(new RedisJobQueue.Stats(0, 0, 0, 0, 0));
+
+    private final ExecutorService poller = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("Job-Poller-"));
+    private final ScheduledExecutorService maintenance =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("Job-Maintenance-"));
+    private volatile boolean running;
+    private long nextReclaimAt = System.nanoTime();     // 폴러 스레드 전용
+
+    public JobWorker(RedisJobQueue jobQueue,
+                     List<JobHandler<?>> handlerList,
+                     JobQueueProperties properties,
+                     ObjectMapper objectMapper,
+                     MeterRegistry meterRegistry) {
+        this.jobQueue = jobQueue;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(properties.getConcurrency());
+
+        for (JobHandler<?> handler : handlerList) {
+            if (handlers.put(handler.type(), handler) != null) {
+                throw new IllegalStateException("JobHandler 중복 등록: " + handler.type());
+            }
+        }
+
+        registerGauge("jobs.queue.depth", "대기 + 처리 중 작업 수", RedisJobQueue.Stats::depth);
+        registerGauge("jobs.queue.pending", "노드에 전달됐지만 ACK 되지 않은 작업 수", RedisJobQueue.Stats::pending);
+        registerGauge("jobs.queue.delayed", "재시도 대기 작업 수", RedisJobQueue.Stats::delayed);
+        registerGauge("jobs.queue.dead", "재시도를 모두 소진한 작업 수", RedisJobQueue.Stats::dead);
+        Gauge.builder("jobs.queue.lag", stats, ref -> ref.get().lagMillis())
+                .description("가장 오래 대기 중인 (아직 전달되지 않은) 작업의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("jobs.inflight", inFlight, Map::size)
+                .description("이 노드에서 처리 중인 작업 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            jobQueue.ensureGroup();
+        } catch (Exception e) {
+            log.error("[JOB] 컨슈머 그룹 확인 실패 (폴링 중 재시도): {}", e.getMessage());
+        }
+
+        running = true;
+        poller.submit(this::pollLoop);
+        maintenance.scheduleWithFixedDelay(this::promote,
+                properties.getPromoteInterval().toMillis(), properties.getPromoteInterval().toMillis(), TimeUnit.MILLISECONDS);
+        maintenance.scheduleWithFixedDelay(this::maintain,
+                properties.getMaintenanceInterval().toMillis(), properties.getMaintenanceInterval().toMillis(), TimeUnit.MILLISECONDS);
+        log.info("[JOB] 워커 시작 → consumer={}, concurrency={}, handlers={}",
+                jobQueue.getConsumerName(), properties.getConcurrency(), handlers.keySet());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        poller.shutdownNow();
+        maintenance.shutdownNow();
+        log.info("[JOB] 워커 종료 → 처리 중이던 작업 {}건은 visibility timeout 이후 다른 노드에서 재실행", inFlight.size());
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                pollOnce();
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (!running) return;
+                log.warn("[JOB] 작업 조회 실패: {}", e.getMessage());
+                if (!pause()) return;
+                recoverGroup();
+            }
+        }
+    }
+
+    /**
+     * 빈 슬롯을 모두 잡고 회수 작업 → 새 작업 순으로 채운 뒤 실행, 못 채운 슬롯은 반환
+     */
+    void pollOnce() throws InterruptedException {
+        permits.acquire();
+        int count = 1 + permits.drainPermits();
+
+        List<Job> jobs = new ArrayList<>(count);
+        try {
+            jobs.addAll(reclaimIfDue(count));
+            if (jobs.size() < count) {
+                jobs.addAll(jobQueue.read(count - jobs.size()));
+            }
+        } finally {
+            permits.release(count - jobs.size());
+            jobs.forEach(this::dispatch);
+        }
+    }
+
+    /**
+     * visibilityTimeout 이 지난 다른 노드의 작업 회수 + 유휴 컨슈머 정리 (maintenanceInterval 마다 한 번)
+     */
+    private List<Job> reclaimIfDue(int limit) {
+        long now = System.nanoTime();
+        if (now - nextReclaimAt < 0) {
+            return List.of();
+        }
+        nextReclaimAt = now + properties.getMaintenanceInterval().toNanos();
+
+        try {
+            jobQueue.pruneConsumers();
+        } catch (Exception e) {
+            log.warn("[JOB] 유휴 컨슈머 정리 실패: {}", e.getMessage());
+        }
+
+        try {
+            return jobQueue.reclaim(limit);
+        } catch (Exception e) {
+            log.warn("[JOB] 만료 작업 회수 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 슬롯(permit) 1개를 잡은 상태로 호출
+     */
+    @SuppressWarnings("unchecked")
+    private void dispatch(Job job) {
+        JobHandler<Object> handler = job.type() == null ? null : (JobHandler<Object>) handlers.get(job.type());
+        if (handler == null) {
+            permits.release();
+            deadLetter(job, "처리기가 없는 작업 종류");
+            return;
+        }
+
+        Object payload;
+        try {
+            payload = objectMapper.readValue(job.payload(), handler.payloadType());
+        } catch (Exception e) {
+            permits.release();
+            deadLetter(job, "payload 파싱 실패: " + e.getMessage());
+            return;
+        }
+
+        inFlight.put(job.id(), job);
+        long startedAt = System.nanoTime();
+
+        Mono.defer(() -> handler.handle(payload, job))
+                .timeout(properties.getJobTimeout())
+                // ACK / 재시도 등록은 블로킹 Redis 호출 → 핸들러 스레드(Netty 이벤트 루프 등)에서 분리
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(
+                        unused -> {
+                        },
+                        error -> complete(job, startedAt, error),
+                        () -> complete(job, startedAt, null)
+                );
+    }
+
+    private void complete(Job job, long startedAt, Throwable error) {
+        inFlight.remove(job.id());
+        permits.release();
+        Timer.builder("jobs.duration")
+                .tag("type", job.type().name())
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        try {
+            if (error == null) {
+                jobQueue.ack(job);
+                count(job.type(), "success");
+                log.debug("[JOB] {} 완료 → id={}, attempt={}", job.type(), job.id(), job.attempt());
+                return;
+            }
+
+            RetryPolicy retry = properties.retryOf(job.type());
+            if (!isRetryable(error) || job.attempt() >= retry.getMaxAttempts()) {
+                log.error("[JOB] {} 실패 → jobs:dead 이동 (id={}, attempt={}): {}",
+                        job.type(), job.id(), job.attempt(), error.getMessage());
+                deadLetter(job, error.getMessage());
+                return;
+            }
+
+            Duration delay = retry.backoff(job.attempt(), Retries.retryAfterOf(error));
+            if (error instanceof JobRetryException) {
+                log.debug("[JOB] {} 대기 → {}ms 후 재시도 (id={}, attempt={}): {}",
+                        job.type(), delay.toMillis(), job.id(), job.attempt(), error.getMessage());
+            } else {
+                log.warn("[JOB] {} 실패 → {}ms 후 재시도 (id={}, attempt={}): {}",
+                        job.type(), delay.toMillis(), job.id(), job.attempt(), error.getMessage());
+            }
+            jobQueue.retryLater(job, delay);
+            count(job.type(), "retry");
+
+        } catch (Exception e) {
+            // 결과 기록 실패 → 작업은 pending 으로 남고 visibility timeout 이후 재실행
+            log.error("[JOB] {} 결과 기록 실패 (id={}): {}", job.type(), job.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * 요청 자체가 잘못된 경우(4xx)는 재시도해도 결과가 같으므로 바로 jobs:dead (429 는 Retry-After 이후 재시도)
+     */
+    private boolean isRetryable(Throwable error) {
+        if (error instanceof ApiException apiException) {
+            return apiException.getErrorCode() == ErrorCode.RATE_LIMITED
+                    || !apiException.getErrorCode().getStatus().is4xxClientError();
+        }
+        return true;
+    }
+
+    private void deadLetter(Job job, String reason) {
+        try {
+            jobQueue.deadLetter(job, reason);
+            count(job.type(), "dead");
+        } catch (Exception e) {
+            log.error("[JOB] jobs:dead 이동 실패 (id={}): {}", job.id(), e.getMessage());
+        }
+    }
+
+    private void promote() {
+        try {
+            long moved = jobQueue.promoteDue(PROMOTE_BATCH);
+            if (moved > 0) {
+                log.debug("[JOB] 재시도 작업 {}건 큐로 이동", moved);
+            }
+        } catch (Exception e) {
+            log.warn("[JOB] 재시도 작업 이동 실패: {}", e.getMessage());
+        }
+    }
+
+    private void maintain() {
+        try {
+            jobQueue.touch(List.copyOf(inFlight.keySet()));
+        } catch (Exception e) {
+            log.warn("[JOB] 처리 중 작업 갱신 실패: {}", e.getMessage());
+        }
+
+        try {
+            stats.set(jobQueue.stats());
+        } catch (Exception e) {
+            log.warn("[JOB] 큐 상태 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private void recoverGroup() {
+        try {
+            jobQueue.ensureGroup();
+        } catch (Exception e) {
+            log.debug("[JOB] 컨슈머 그룹 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(READ_ERROR_PAUSE.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void count(JobType type, String outcome) {
+        Counter.builder("jobs.processed")
+                .tag("type", type == null ? "UNKNOWN" : type.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void registerGauge(String name, String description, ToDoubleFunction<RedisJobQueue.Stats> value) {
+        Gauge.builder(name, stats, ref -> value.applyAsDouble(ref.get()))
+                .description(description)
+                .register(meterRegistry);
+    }
+}
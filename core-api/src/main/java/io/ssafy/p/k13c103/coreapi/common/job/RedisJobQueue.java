@@ -0,0 +1,368 @@
+package io.ssafy.p.k13c103.coreapi.common.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.p.k13c103.coreapi.config.properties.JobQueueProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis Streams 기반 작업 큐
+ * - jobs:stream  → 대기 + 처리 중 작업 (컨슈머 그룹으로 노드 간 분배, 완료 시 ACK + 삭제)
+ * - jobs:delayed → 재시도 대기 작업 (ZSET, score = 실행 시각)
+ * - jobs:dead    → 재시도를 모두 소진한 작업 (최근 N개만 보관)
+ * - ACK 되지 않은 작업은 XPENDING 에 남아 있으므로 노드가 죽어도 visibilityTimeout 이후 다른 노드가 회수
+ */
+@Slf4j
+@Component
+public class RedisJobQueue {
+
+    static final String STREAM_KEY = "jobs:stream";
+    static final String DELAYED_KEY = "jobs:delayed";
+    static final String DEAD_KEY = "jobs:dead";
+
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_ATTEMPT = "attempt";
+    private static final String FIELD_PAYLOAD = "payload";
+    private static final int RECLAIM_SCAN = 500;
+
+    // KEYS: stream / ARGV: group
+    private static final DefaultRedisScript<Long> ENSURE_GROUP_SCRIPT = new DefaultRedisScript<>("""
+            local ok = pcall(redis.call, 'XGROUP', 'CREATE', KEYS[1], ARGV[1], '0', 'MKSTREAM')
+            if ok then return 1 end
+            return 0
+            """, Long.class);
+
+    // KEYS: stream, set / ARGV: type, payload (= set member) → 등록된 id, 이미 제거된 member 면 nil
+    private static final DefaultRedisScript<String> ENQUEUE_REMOVED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SREM', KEYS[2], ARGV[2]) == 0 then return false end
+            return redis.call('XADD', KEYS[1], '*', 'type', ARGV[1], 'attempt', '1', 'payload', ARGV[2])
+            """, String.class);
+
+    // KEYS: stream / ARGV: group, id
+    private static final DefaultRedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('XACK', KEYS[1], ARGV[1], ARGV[2])
+            return redis.call('XDEL', KEYS[1], ARGV[2])
+            """, Long.class);
+
+    // KEYS: stream, delayed / ARGV: group, id, dueAt, member
+    private static final DefaultRedisScript<Long> RETRY_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('XACK', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('XDEL', KEYS[1], ARGV[2])
+            return redis.call('ZADD', KEYS[2], ARGV[3], ARGV[4])
+            """, Long.class);
+
+    // KEYS: stream, dead / ARGV: group, id, capacity, type, attempt, payload, error
+    private static final DefaultRedisScript<Long> DEAD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('XACK', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('XDEL', KEYS[1], ARGV[2])
+            redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[3], '*',
+                'type', ARGV[4], 'attempt', ARGV[5], 'payload', ARGV[6], 'error', ARGV[7], 'source', ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: delayed, stream / ARGV: now, limit (member: id \n type \n attempt \n payload)
+    private static final DefaultRedisScript<Long> PROMOTE_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, member in ipairs(due) do
+              local a = string.find(member, '\\n', 1, true)
+              local b = a and string.find(member, '\\n', a + 1, true)
+              local c = b and string.find(member, '\\n', b + 1, true)
+              if c then
+                redis.call('XADD', KEYS[2], '*',
+                    'type', string.sub(member, a + 1, b - 1),
+                    'attempt', string.sub(member, b + 1, c - 1),
+                    'payload', string.sub(member, c + 1))
+              end
+              redis.call('ZREM', KEYS[1], member)
+            end
+            return #due
+            """, Long.class);
+
+    // KEYS: stream / ARGV: consumer, group, minIdleMillis, id... → XCLAIM JUSTID 로 idle 시간만 초기화 (전달 횟수 증가 X)
+    // 아직 이 컨슈머 소유인 작업만 (다른 노드가 이미 회수한 작업을 되가져오지 않도록)
+    private static final DefaultRedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>("""
+            local touched = 0
+            for i = 4, #ARGV do
+              local owned = redis.call('XPENDING', KEYS[1], ARGV[2], ARGV[i], ARGV[i], 1, ARGV[1])
+              if #owned > 0 then
+                touched = touched + #redis.call('XCLAIM', KEYS[1], ARGV[2], ARGV[1], ARGV[3], ARGV[i], 'JUSTID')
+              end
+            end
+            return touched
+            """, Long.class);
+
+    // KEYS: stream / ARGV: group, idleMillis, self → 처리 중인 작업이 없고 idleMillis 이상 조용한 컨슈머 삭제
+    private static final DefaultRedisScript<Long> PRUNE_CONSUMERS_SCRIPT = new DefaultRedisScript<>("""
+            local ok, consumers = pcall(redis.call, 'XINFO', 'CONSUMERS', KEYS[1], ARGV[1])
+            if not ok then return 0 end
+            local removed = 0
+            for _, c in ipairs(consumers) do
+              local info = {}
+              for i = 1, #c, 2 do info[c[i]] = c[i + 1] end
+              if info['name'] ~= ARGV[3] and tonumber(info['pending']) == 0
+                  and tonumber(info['idle']) >= tonumber(ARGV[2]) then
+                redis.call('XGROUP', 'DELCONSUMER', KEYS[1], ARGV[1], info['name'])
+                removed = removed + 1
+              end
+            end
+            return removed
+            """, Long.class);
+
+    // KEYS: stream, delayed, dead / ARGV: group, now → [depth, pending, lagMillis, delayed, dead]
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> STATS_SCRIPT = new DefaultRedisScript<>("""
+            local depth = redis.call('XLEN', KEYS[1])
+            local pending = 0
+            local lag = 0
+            local ok, groups = pcall(redis.call, 'XINFO', 'GROUPS', KEYS[1])
+            if ok then
+              for _, g in ipairs(groups) do
+                local info = {}
+                for i = 1, #g, 2 do info[g[i]] = g[i + 1] end
+                if info['name'] == ARGV[1] then
+                  pending = info['pending']
+                  local waiting = redis.call('XRANGE', KEYS[1], '(' .. info['last-delivered-id'], '+', 'COUNT', 1)
+                  if #waiting > 0 then
+                    local ts = tonumber(string.match(waiting[1][1], '^(%d+)'))
+                    lag = math.max(0, tonumber(ARGV[2]) - ts)
+                  end
+                end
+              end
+            end
+            return {depth, pending, lag, redis.call('ZCARD', KEYS[2]), redis.call('XLEN', KEYS[3])}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JobQueueProperties properties;
+    private final String consumerName = "node-" + UUID.randomUUID();
+
+    public RedisJobQueue(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, JobQueueProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    public String getConsumerName() {
+        return consumerName;
+    }
+
+    /**
+     * 작업 등록 (트랜잭션 커밋 이후 호출)
+     * - Redis 에 기록된 뒤에는 노드 재시작/배포와 무관하게 어느 노드에서든 처리됨
+     */
+    public String enqueue(JobType type, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("작업 payload 직렬화 실패: " + type, e);
+        }
+
+        RecordId id = streamOps().add(StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofMap(Map.of(FIELD_TYPE, type.name(), FIELD_ATTEMPT, "1", FIELD_PAYLOAD, json)));
+        log.debug("[JOB] {} 등록 → id={}", type, id);
+        return id == null ? null : id.getValue();
+    }
+
+    /**
+     * 대기 목록(Set)에서 payload 를 제거한 쪽만 작업 등록 (SREM + XADD 를 한 번에 → 제거 후 등록 실패로 대기자가 사라지지 않음)
+     * - payloadJson 은 Set 의 member 그대로 (작업 payload 직렬화 결과)
+     * @return 등록된 작업 id (다른 쪽이 먼저 제거했으면 null)
+     */
+    public String enqueueRemoved(JobType type, String setKey, String payloadJson) {
+        String id = redisTemplate.execute(ENQUEUE_REMOVED_SCRIPT, List.of(STREAM_KEY, setKey), type.name(), payloadJson);
+        if (id != null) {
+            log.debug("[JOB] {} 등록 → id={}", type, id);
+        }
+        return id;
+    }
+
+    public void ensureGroup() {
+        Long created = redisTemplate.execute(ENSURE_GROUP_SCRIPT, List.of(STREAM_KEY), properties.getGroup());
+        if (created != null && created > 0) {
+            log.info("[JOB] 컨슈머 그룹 생성 → stream={}, group={}", STREAM_KEY, properties.getGroup());
+        }
+    }
+
+    /**
+     * 새 작업 가져오기 (다른 노드에 전달되지 않은 것만, 최대 readBlock 동안 대기)
+     */
+    public List<Job> read(int count) {
+        List<MapRecord<String, String, String>> records = streamOps().read(
+                Consumer.from(properties.getGroup(), consumerName),
+                StreamReadOptions.empty().count(count).block(properties.getReadBlock()),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        return toJobs(records);
+    }
+
+    /**
+     * visibilityTimeout 동안 ACK 도 갱신도 없는 작업을 이 노드로 회수
+     * - XCLAIM 의 min-idle 조건으로 여러 노드가 동시에 회수해도 한 노드만 성공
+     * - 전달 횟수가 maxAttempts 를 넘은 작업은 (처리 중 노드를 반복해서 죽인 작업) 회수 대신 jobs:dead
+     */
+    public List<Job> reclaim(int limit) {
+        Duration minIdle = properties.getVisibilityTimeout();
+        Map<String, Long> deliveries = new HashMap<>();
+
+        for (PendingMessage message : streamOps().pending(STREAM_KEY, properties.getGroup(), Range.unbounded(), RECLAIM_SCAN)) {
+            if (deliveries.size() >= limit) break;
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) continue;
+            if (consumerName.equals(message.getConsumerName())) continue;    // 이 노드가 처리 중인 작업은 touch 로 갱신
+            deliveries.put(message.getIdAsString(), message.getTotalDeliveryCount());
+        }
+        if (deliveries.isEmpty()) {
+            return List.of();
+        }
+
+        List<Job> claimed = toJobs(streamOps().claim(STREAM_KEY, properties.getGroup(), consumerName, minIdle,
+                deliveries.keySet().stream().map(RecordId::of).toArray(RecordId[]::new)));
+        List<Job> runnable = new ArrayList<>(claimed.size());
+        for (Job job : claimed) {
+            if (job.type() != null && deliveries.get(job.id()) >= properties.retryOf(job.type()).getMaxAttempts()) {
+                deadLetter(job, "visibility timeout exceeded");
+            } else {
+                runnable.add(job);
+            }
+        }
+        log.info("[JOB] 만료된 작업 {}건 회수 (consumer={})", runnable.size(), consumerName);
+        return runnable;
+    }
+
+    /**
+     * 처리 중인 작업의 idle 시간 초기화 (오래 걸리는 작업을 다른 노드가 회수하지 않도록)
+     * - maintenanceInterval 의 절반 이상 idle 인 작업만 (방금 읽거나 갱신한 작업은 건너뜀)
+     */
+    public void touch(Collection<String> ids) {
+        if (ids.isEmpty()) return;
+
+        List<String> args = new ArrayList<>(ids.size() + 3);
+        args.add(consumerName);
+        args.add(properties.getGroup());
+        args.add(String.valueOf(properties.getMaintenanceInterval().toMillis() / 2));
+        args.addAll(ids);
+        redisTemplate.execute(TOUCH_SCRIPT, List.of(STREAM_KEY), args.toArray());
+    }
+
+    /**
+     * 종료된 노드의 컨슈머 정리 (컨슈머 이름이 시작마다 새로 만들어지므로)
+     * - 처리 중인 작업이 남은 컨슈머는 회수(reclaim)가 끝날 때까지 유지
+     */
+    public long pruneConsumers() {
+        Long removed = redisTemplate.execute(PRUNE_CONSUMERS_SCRIPT, List.of(STREAM_KEY),
+                properties.getGroup(),
+                String.valueOf(properties.getConsumerIdleTimeout().toMillis()),
+                consumerName);
+        if (removed != null && removed > 0) {
+            log.info("[JOB] 유휴 컨슈머 {}개 삭제 (group={})", removed, properties.getGroup());
+        }
+        return removed == null ? 0 : removed;
+    }
+
+    public void ack(Job job) {
+        redisTemplate.execute(ACK_SCRIPT, List.of(STREAM_KEY), properties.getGroup(), job.id());
+    }
+
+    /**
+     * ACK 후 delay 뒤에 다시 실행되도록 jobs:delayed 에 등록 (attempt + 1)
+     */
+    public void retryLater(Job job, Duration delay) {
+        String member = job.id() + "\n" + job.type().name() + "\n" + (job.attempt() + 1) + "\n" + job.payload();
+        redisTemplate.execute(RETRY_SCRIPT, List.of(STREAM_KEY, DELAYED_KEY),
+                properties.getGroup(),
+                job.id(),
+                String.valueOf(System.currentTimeMillis() + delay.toMillis()),
+                member);
+    }
+
+    public void deadLetter(Job job, String error) {
+        redisTemplate.execute(DEAD_SCRIPT, List.of(STREAM_KEY, DEAD_KEY),
+                properties.getGroup(),
+                job.id(),
+                String.valueOf(properties.getDeadLetterCapacity()),
+                job.type() == null ? "UNKNOWN" : job.type().name(),
+                String.valueOf(job.attempt()),
+                job.payload() == null ? "" : job.payload(),
+                error == null ? "" : error);
+    }
+
+    /**
+     * 실행 시각이 된 재시도 작업을 jobs:stream 으로 이동
+     */
+    public long promoteDue(int limit) {
+        Long moved = redisTemplate.execute(PROMOTE_SCRIPT, List.of(DELAYED_KEY, STREAM_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(limit));
+        return moved == null ? 0L : moved;
+    }
+
+    public Stats stats() {
+        List<?> result = redisTemplate.execute(STATS_SCRIPT, List.of(STREAM_KEY, DELAYED_KEY, DEAD_KEY),
+                properties.getGroup(), String.valueOf(System.currentTimeMillis()));
+        if (result == null || result.size() < 5) {
+            return new Stats(0, 0, 0, 0, 0);
+        }
+        return new Stats(asLong(result.get(0)), asLong(result.get(1)), asLong(result.get(2)),
+                asLong(result.get(3)), asLong(result.get(4)));
+    }
+
+    private List<Job> toJobs(List<MapRecord<String, String, String>> records) {
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+
+        List<Job> jobs = new ArrayList<>(records.size());
+        for (MapRecord<String, String, String> record : records) {
+            Map<String, String> fields = record.getValue();
+            JobType type;
+            int attempt;
+            try {
+                type = JobType.valueOf(fields.get(FIELD_TYPE));
+                attempt = Integer.parseInt(fields.getOrDefault(FIELD_ATTEMPT, "1"));
+            } catch (RuntimeException e) {
+                type = null;            // 알 수 없는 작업 → 워커에서 jobs:dead 로 이동
+                attempt = 1;
+            }
+            jobs.add(new Job(record.getId().getValue(), type, attempt, fields.get(FIELD_PAYLOAD)));
+        }
+        return jobs;
+    }
+
+    private StreamOperations<String, String, String> streamOps() {
+        return redisTemplate.opsForStream();
+    }
+
+    private long asLong(Object value) {
+        return value == null ? 0L : Long.parseLong(String.valueOf(value));
+    }
+
+    /**
+     * 큐 상태 (메트릭용)
+     * - depth: 대기 + 처리 중 작업 수
+     * - pending: 노드에 전달됐지만 아직 ACK 되지 않은 작업 수
+     * - lagMillis: 아직 아무 노드도 가져가지 않은 가장 오래된 작업의 대기 시간
+     */
+    public record Stats(long depth, long pending, long lagMillis, long delayed, long dead) {
+    }
+}
@@ -0,0 +1,247 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.p.k13c103.coreapi.config.properties.SseProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Sub 기반 SSE 이벤트 버스
+ * - 방 채널: sse:room:{roomId}
+ * - 제어 채널: sse:control
+ * - 재전송 버퍼: sse:{roomId}:seq (id 카운터), sse:{roomId}:events (ZSET, score = id, 최근 N개만 유지)
+ * - 구독 노드 목록: sse:{roomId}:nodes (SET, 방 구독자가 있는 노드 id) → 클러스터 전체에서 방이 비었는지 판단
+ *   (비정상 종료한 노드의 항목은 남을 수 있으나 중단을 생략하는 쪽으로만 동작, 이벤트 발행마다 TTL 연장)
+ * - id 부여 + 버퍼 저장 + 발행을 Lua 스크립트 1회로 처리 → 버퍼 순서와 발행 순서가 항상 일치
+ * - 발행 실패 시 로그만 남김 (로컬 구독자 전송에는 영향 X)
+ */
+@Slf4j
+@Component
+public class RedisSseEventBus implements SseEventBus, MessageListener {
+
+    private static final String ROOM_CHANNEL_PREFIX = "sse:room:";
+    private static final ChannelTopic CONTROL_TOPIC = new ChannelTopic("sse:control");
+    private static final String WIRE_SEPARATOR = "\n";     // 채널: origin \n id \n name \n payload / 버퍼: id \n name \n payload
+
+    // KEYS: seq, events, nodes / ARGV: channel, origin, name, payload, capacity, ttlSeconds
+    private static final DefaultRedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            local id = redis.call('INCR', KEYS[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[6])
+            redis.call('EXPIRE', KEYS[3], ARGV[6])
+            redis.call('ZADD', KEYS[2], id, id .. '\\n' .. ARGV[3] .. '\\n' .. ARGV[4])
+            redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -(tonumber(ARGV[5]) + 1))
+            redis.call('EXPIRE', KEYS[2], ARGV[6])
+            redis.call('PUBLISH', ARGV[1], ARGV[2] .. '\\n' .. id .. '\\n' .. ARGV[3] .. '\\n' .. ARGV[4])
+            return id
+            """, Long.class);
+
+    // KEYS: seq, events / ARGV: afterId → [latestId, event...]
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> REPLAY_SCRIPT = new DefaultRedisScript<>("""
+            local latest = redis.call('GET', KEYS[1]) or '0'
+            local events = redis.call('ZRANGEBYSCORE', KEYS[2], '(' .. ARGV[1], '+inf')
+            table.insert(events, 1, latest)
+            return events
+            """, List.class);
+
+    // KEYS: nodes / ARGV: nodeId, ttlSeconds
+    private static final DefaultRedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SADD', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: nodes / ARGV: nodeId → 남은 노드 수
+    private static final DefaultRedisScript<Long> LEAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SREM', KEYS[1], ARGV[1])
+            return redis.call('SCARD', KEYS[1])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final SseProperties.Replay replayProperties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile BiConsumer<Long, SseBusEvent> roomHandler = (roomId, event) -> {
+    };
+    private final List<Consumer<SseControlMessage>> controlListeners = new CopyOnWriteArrayList<>();
+
+    public RedisSseEventBus(RedisTemplate<String, String> redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            ObjectMapper objectMapper,
+                            SseProperties sseProperties) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.replayProperties = sseProperties.getReplay();
+        listenerContainer.addMessageListener(this, CONTROL_TOPIC);
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public long publish(Long roomId, String name, String payload) {
+        try {
+            Long id = redisTemplate.execute(PUBLISH_SCRIPT, List.of(seqKey(roomId), eventsKey(roomId), nodesKey(roomId)),
+                    ROOM_CHANNEL_PREFIX + roomId,
+                    nodeId,
+                    name,
+                    payload,
+                    String.valueOf(replayProperties.getCapacity()),
+                    String.valueOf(replayProperties.getTtl().toSeconds()));
+            return id == null ? 0L : id;
+        } catch (Exception e) {
+            log.warn("[SSE-BUS] Room {} publish failed: {}", roomId, e.getMessage());
+            return 0L;
+        }
+    }
+
+    @Override
+    public Replay replay(Long roomId, long afterId) {
+        List<?> result = redisTemplate.execute(REPLAY_SCRIPT, List.of(seqKey(roomId), eventsKey(roomId)),
+                String.valueOf(afterId));
+        if (result == null || result.isEmpty()) {
+            return new Replay(0L, List.of());
+        }
+
+        long latestId = Long.parseLong(String.valueOf(result.get(0)));
+        List<SseBusEvent> events = new ArrayList<>(result.size() - 1);
+        for (int i = 1; i < result.size(); i++) {
+            SseBusEvent event = parse(null, String.valueOf(result.get(i)));
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        return new Replay(latestId, events);
+    }
+
+    @Override
+    public void publishControl(SseControlMessage message) {
+        try {
+            redisTemplate.convertAndSend(CONTROL_TOPIC.getTopic(), objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("[SSE-BUS] Control publish failed ({}): {}", message.type(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Long roomId) {
+        listenerContainer.addMessageListener(this, roomTopic(roomId));
+        try {
+            redisTemplate.execute(JOIN_SCRIPT, List.of(nodesKey(roomId)),
+                    nodeId, String.valueOf(replayProperties.getTtl().toSeconds()));
+        } catch (Exception e) {
+            log.warn("[SSE-BUS] Room {} node join failed: {}", roomId, e.getMessage());
+        }
+        log.debug("[SSE-BUS] Subscribed room {}", roomId);
+    }
+
+    @Override
+    public boolean unsubscribe(Long roomId) {
+        listenerContainer.removeMessageListener(this, roomTopic(roomId));
+        log.debug("[SSE-BUS] Unsubscribed room {}", roomId);
+        try {
+            Long remaining = redisTemplate.execute(LEAVE_SCRIPT, List.of(nodesKey(roomId)), nodeId);
+            return remaining != null && remaining == 0;
+        } catch (Exception e) {
+            log.warn("[SSE-BUS] Room {} node leave failed: {}", roomId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void bind(BiConsumer<Long, SseBusEvent> roomHandler, Consumer<SseControlMessage> controlHandler) {
+        this.roomHandler = roomHandler;
+        this.controlListeners.add(controlHandler);
+    }
+
+    @Override
+    public void addControlListener(Consumer<SseControlMessage> listener) {
+        controlListeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            if (CONTROL_TOPIC.getTopic().equals(channel)) {
+                SseControlMessage control = objectMapper.readValue(body, SseControlMessage.class);
+                for (Consumer<SseControlMessage> listener : controlListeners) {
+                    try {
+                        listener.accept(control);
+                    } catch (Exception e) {
+                        log.error("[SSE-BUS] Control listener failed ({}): {}", control.type(), e.getMessage());
+                    }
+                }
+            } else if (channel.startsWith(ROOM_CHANNEL_PREFIX)) {
+                int originEnd = body.indexOf(WIRE_SEPARATOR);
+                SseBusEvent event = originEnd < 0 ? null : parse(body.substring(0, originEnd), body.substring(originEnd + 1));
+                if (event == null) {
+                    log.warn("[SSE-BUS] Malformed room message on {}", channel);
+                    return;
+                }
+                if (!nodeId.equals(event.origin())) {    // 자기 자신이 발행한 이벤트는 이미 로컬 전달됨
+                    roomHandler.accept(Long.valueOf(channel.substring(ROOM_CHANNEL_PREFIX.length())), event);
+                }
+            }
+        } catch (JsonProcessingException | NumberFormatException e) {
+            log.warn("[SSE-BUS] Malformed message on {}: {}", channel, e.getMessage());
+        } catch (Exception e) {
+            log.error("[SSE-BUS] Handler failed on {}: {}", channel, e.getMessage());
+        }
+    }
+
+    /**
+     * id \n name \n payload 파싱 (payload 안의 개행은 그대로 유지)
+     */
+    private SseBusEvent parse(String origin, String message) {
+        int first = message.indexOf(WIRE_SEPARATOR);
+        int second = first < 0 ? -1 : message.indexOf(WIRE_SEPARATOR, first + 1);
+        if (second < 0) {
+            return null;
+        }
+        try {
+            long id = Long.parseLong(message.substring(0, first));
+            return new SseBusEvent(origin, id, message.substring(first + 1, second), message.substring(second + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String seqKey(Long roomId) {
+        return "sse:{" + roomId + "}:seq";
+    }
+
+    private String eventsKey(Long roomId) {
+        return "sse:{" + roomId + "}:events";
+    }
+
+    private String nodesKey(Long roomId) {
+        return "sse:{" + roomId + "}:nodes";
+    }
+
+    private ChannelTopic roomTopic(Long roomId) {
+        return new ChannelTopic(ROOM_CHANNEL_PREFIX + roomId);
+    }
+}
@@ -0,0 +1,9 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+/**
+ * 버스로 전달되거나 재전송 버퍼에서 읽은 방 이벤트
+ * - origin: 발행 노드 (재전송 버퍼에서 읽은 경우 null)
+ * - id: 방 단위 단조 증가 이벤트 id (SSE id 필드 / Last-Event-ID 기준)
+ */
+public record SseBusEvent(String origin, long id, String name, String payload) {
+}
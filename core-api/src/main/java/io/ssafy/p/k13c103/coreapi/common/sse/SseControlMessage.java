@@ -0,0 +1,47 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+/**
+ * 노드 간 제어 메시지
+ * - MIGRATE_SESSION: sessionUuid 구독자를 roomId 방으로 이전
+ * - DISCONNECT_ROOM: roomId 방의 모든 구독자 종료
+ * - DISCONNECT_SUBSCRIBER: roomId 방의 subscriberId 구독자 1명만 종료 (연결된 노드에서 처리)
+ * - CANCEL_GENERATION: chatId 답변 생성 중단 (생성 중인 노드에서 처리)
+ * - CANCEL_ROOM_GENERATIONS: roomId 방의 모든 답변 생성 중단
+ */
+public record SseControlMessage(
+        Type type,
+        String origin,
+        String sessionUuid,
+        Long roomId,
+        Long chatId,
+        String subscriberId
+) {
+
+    public enum Type {
+        MIGRATE_SESSION,
+        DISCONNECT_ROOM,
+        DISCONNECT_SUBSCRIBER,
+        CANCEL_GENERATION,
+        CANCEL_ROOM_GENERATIONS
+    }
+
+    public static SseControlMessage migrateSession(String origin, String sessionUuid, Long roomId) {
+        return new SseControlMessage(Type.MIGRATE_SESSION, origin, sessionUuid, roomId, null, null);
+    }
+
+    public static SseControlMessage disconnectRoom(String origin, Long roomId) {
+        return new SseControlMessage(Type.DISCONNECT_ROOM, origin, null, roomId, null, null);
+    }
+
+    public static SseControlMessage disconnectSubscriber(String origin, Long roomId, String subscriberId) {
+        return new SseControlMessage(Type.DISCONNECT_SUBSCRIBER, origin, null, roomId, null, subscriberId);
+    }
+
+    public static SseControlMessage cancelGeneration(String origin, Long roomId, Long chatId) {
+        return new SseControlMessage(Type.CANCEL_GENERATION, origin, null, roomId, chatId, null);
+    }
+
+    public static SseControlMessage cancelRoomGenerations(String origin, Long roomId) {
+        return new SseControlMessage(Type.CANCEL_ROOM_GENERATIONS, origin, null, roomId, null, null);
+    }
+}
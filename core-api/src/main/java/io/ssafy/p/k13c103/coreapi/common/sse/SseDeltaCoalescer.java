@@ -0,0 +1,129 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+import io.ssafy.p.k13c103.coreapi.config.properties.SseProperties;
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatSseEvent;
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatStreamDeltaDto;
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatSseEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CHAT_STREAM delta 묶음 전송
+ * - 디코더와 SseEmitterManager 사이에서 delta 를 모았다가 시간 창 / 바이트 기준 도달 시 한 번에 전송
+ * - CHAT_DONE / CHAT_ERROR 전에는 반드시 flush() 호출
+ * - 전송한 묶음은 FlushListener 로도 전달 (답변 체크포인트 등)
+ */
+@Component
+@RequiredArgsConstructor
+public class SseDeltaCoalescer {
+
+    private final SseEmitterManager sseEmitterManager;
+    private final SseProperties sseProperties;
+
+    /**
+     * 스트림(채팅 1건)마다 버퍼 1개
+     */
+    public DeltaBuffer open(Long roomId, Long chatId) {
+        return open(roomId, chatId, (text, seq, eventId) -> {
+        });
+    }
+
+    public DeltaBuffer open(Long roomId, Long chatId, FlushListener listener) {
+        SseProperties.Coalesce coalesce = sseProperties.getCoalesce();
+        return new DeltaBuffer(roomId, chatId, coalesce.getWindow(), coalesce.getMaxBytes(), listener);
+    }
+
+    /**
+     * 묶음 발행 직후 호출 (SseEmitterManager 발행 스레드에서 전송 순서대로 호출됨)
+     * - eventId: 방 이벤트 id (버스 발행 실패 시 0)
+     */
+    @FunctionalInterface
+    public interface FlushListener {
+        void onFlush(String text, long seq, long eventId);
+    }
+
+    public final class DeltaBuffer {
+
+        private final Long roomId;
+        private final Long chatId;
+        private final long windowMillis;
+        private final int maxBytes;
+        private final FlushListener listener;
+
+        private final StringBuilder pending = new StringBuilder();
+        private int pendingBytes;
+        private long seq;
+        private Disposable scheduledFlush;
+
+        private DeltaBuffer(Long roomId, Long chatId, Duration window, int maxBytes, FlushListener listener) {
+            this.roomId = roomId;
+            this.chatId = chatId;
+            this.windowMillis = window.toMillis();
+            this.maxBytes = maxBytes;
+            this.listener = listener;
+        }
+
+        public synchronized void append(String delta) {
+            if (delta == null || delta.isEmpty()) return;
+
+            pending.append(delta);
+            pendingBytes += utf8Length(delta);
+
+            if (windowMillis <= 0 || pendingBytes >= maxBytes) {
+                flushPending();
+                return;
+            }
+
+            // 창의 첫 delta 에서만 타이머 예약
+            if (scheduledFlush == null) {
+                scheduledFlush = Schedulers.parallel().schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * 남은 delta 즉시 전송 (종료 이벤트 직전 / 타이머)
+         */
+        public synchronized void flush() {
+            flushPending();
+        }
+
+        private void flushPending() {
+            if (scheduledFlush != null) {
+                scheduledFlush.dispose();
+                scheduledFlush = null;
+            }
+            if (pending.isEmpty()) return;
+
+            String text = pending.toString();
+            pending.setLength(0);
+            pendingBytes = 0;
+
+            // 발행(Redis) 은 SseEmitterManager 발행 스레드에서 → 버퍼 락 안에서 네트워크 I/O 없음
+            long flushedSeq = ++seq;
+            sseEmitterManager.sendEvent(
+                    roomId,
+                    new ChatSseEvent<>(ChatSseEventType.CHAT_STREAM, new ChatStreamDeltaDto(chatId, text, flushedSeq)),
+                    eventId -> listener.onFlush(text, flushedSeq, eventId)
+            );
+        }
+
+        private int utf8Length(String s) {
+            int bytes = 0;
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c < 0x80) bytes += 1;
+                else if (c < 0x800) bytes += 2;
+                else if (Character.isHighSurrogate(c)) {
+                    bytes += 4;
+                    i++;
+                } else bytes += 3;
+            }
+            return bytes;
+        }
+    }
+}
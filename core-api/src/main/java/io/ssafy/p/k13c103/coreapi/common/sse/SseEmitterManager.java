@@ -1,156 +1,537 @@
 package io.ssafy.p.k13c103.coreapi.common.sse;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.p.k13c103.coreapi.config.properties.SseProperties;
 import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatSseEvent;
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatStreamDeltaDto;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
 
 @Slf4j
 @Component
 public class SseEmitterManager {
 
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 30;    // 타임아웃: 30분
-    private static final long HEARTBEAT_INTERVAL = 15L;             // 하트비트(ping): 15초
+    private static final String RESYNC_EVENT = "RESYNC";            // 재전송 버퍼로 메울 수 없는 구간 → FE 전체 재조회
 
-    // roomId -> emitter (1:1 관계)
-    private final Map<Long, SseEmitter> roomEmitters = new ConcurrentHashMap<>();
-    private final Map<String, SseEmitter> sessionEmitters = new ConcurrentHashMap<>();
+    // roomId -> subscribers (1:N, 여러 탭/기기 동시 구독)
+    private final Map<Long, Set<SseSubscriber>> roomEmitters = new ConcurrentHashMap<>();
+    private final Map<String, SseSubscriber> sessionEmitters = new ConcurrentHashMap<>();
 
-    private final ThreadPoolTaskScheduler scheduler;    // 하트비트 스케줄러 (스레드풀 기반)
+    private final SseHeartbeatWheel heartbeatWheel;     // 하트비트 (단일 타이밍 휠)
+    private final SseEventBus eventBus;                 // 노드 간 전달 (Redis Pub/Sub)
+    private final ObjectProvider<SseSnapshotProvider> snapshotProviders;    // 새 구독자용 진행 중 상태
+    private final ObjectProvider<SseRoomVacancyListener> vacancyListeners;  // 클러스터 전체에서 방이 비었을 때
+    private final ExecutorService writerPool;           // 구독자별 큐 drain 전용 (네트워크 I/O)
+    private final ExecutorService publisherPool;        // 방별 발행 큐 drain / 채널 구독 정리 전용 (Redis I/O)
+    private final Map<Long, RoomPublisher> publishers = new ConcurrentHashMap<>();
+    private final Set<Long> subscribedRooms = ConcurrentHashMap.newKeySet();   // 방 채널을 구독 중인 방
+    private final Object channelLock = new Object();
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
 
-    public SseEmitterManager() {
-        this.scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(5);                       // 동시에 여러 emitter의 heartbeat 관리
-        scheduler.setThreadNamePrefix("SSE-Heartbeat-");
-        scheduler.initialize();
+    public SseEmitterManager(SseProperties sseProperties, SseHeartbeatWheel heartbeatWheel,
+                             SseEventBus eventBus, ObjectProvider<SseSnapshotProvider> snapshotProviders,
+                             ObjectProvider<SseRoomVacancyListener> vacancyListeners, ObjectMapper objectMapper) {
+        this.heartbeatWheel = heartbeatWheel;
+        this.eventBus = eventBus;
+        this.snapshotProviders = snapshotProviders;
+        this.vacancyListeners = vacancyListeners;
+        this.objectMapper = objectMapper;
+        // 멈춘 전송이 스레드를 잡고 있어도 다른 구독자는 새 스레드로 전송 (최대치 초과 시 해당 구독자 종료)
+        this.writerPool = new ThreadPoolExecutor(
+                sseProperties.getWriterThreads(), Math.max(sseProperties.getWriterThreads(), sseProperties.getWriterMaxThreads()),
+                60L, TimeUnit.SECONDS, new SynchronousQueue<>(), new CustomizableThreadFactory("SSE-Writer-"));
+        this.publisherPool = Executors.newFixedThreadPool(
+                sseProperties.getPublisherThreads(), new CustomizableThreadFactory("SSE-Publisher-"));
+        this.queueCapacity = sseProperties.getQueueCapacity();
+
+        eventBus.bind(this::onRemoteEvent, this::onControlMessage);
     }
 
     @PreDestroy
-    public void shutdownScheduler() {
-        scheduler.shutdown();
-        log.info("[SSE] Heartbeat scheduler shut down");
+    public void shutdownWriterPool() {
+        publisherPool.shutdown();
+        writerPool.shutdown();
+        log.info("[SSE] Writer / publisher pools shut down");
     }
 
+    /**
+     * 세션 구독자를 방으로 이전
+     * - 세션이 다른 노드에 연결되어 있을 수 있으므로 로컬에 없으면 제어 메시지로 전파
+     */
     public void migrateSessionEmitterToRoom(String sessionUuid, Long roomId) {
-        SseEmitter emitter = sessionEmitters.remove(sessionUuid);
-        if (emitter != null) {
-            roomEmitters.put(roomId, emitter);
-            log.info("[SSE] Migrated session {} → room {}", sessionUuid, roomId);
-        } else {
-            log.warn("[SSE] No emitter found for session {} (migration skipped)", sessionUuid);
+        if (!migrateLocal(sessionUuid, roomId)) {
+            eventBus.publishControl(SseControlMessage.migrateSession(eventBus.getNodeId(), sessionUuid, roomId));
+            log.info("[SSE] Session {} not on this node → migration broadcast (room {})", sessionUuid, roomId);
         }
     }
 
+    private boolean migrateLocal(String sessionUuid, Long roomId) {
+        SseSubscriber subscriber = sessionEmitters.remove(sessionUuid);
+        if (subscriber == null) {
+            return false;
+        }
+        subscriber.setKey(roomId);
+        attachToRoom(roomId, subscriber);
+        log.info("[SSE] Migrated session {} → room {}", sessionUuid, roomId);
+        return true;
+    }
+
     public SseEmitter createEmitterBySession(String sessionUuid) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        sessionEmitters.put(sessionUuid, emitter);
+        SseSubscriber subscriber = newSubscriber(sessionUuid);
+        SseSubscriber previous = sessionEmitters.put(sessionUuid, subscriber);
+        if (previous != null) {
+            previous.close("replaced");
+        }
         log.info("[SSE] Session {} connected (pre-room)", sessionUuid);
 
-        emitter.onCompletion(() -> removeSessionEmitter(sessionUuid, "completed"));
-        emitter.onTimeout(() -> removeSessionEmitter(sessionUuid, "timed out"));
-        emitter.onError(e -> removeSessionEmitter(sessionUuid, "error: " + e.getMessage()));
+        // 연결 직후 FE가 정상적으로 구독되었음을 알리기 위한 초기 메시지
+        subscriber.offer(initFrame("Connected to session " + sessionUuid, subscriber));
 
-        startHeartbeatForSession(sessionUuid, emitter);
-        return emitter;
+        heartbeatWheel.register(subscriber);
+        return subscriber.getEmitter();
     }
 
     public void removeSessionEmitter(String sessionUuid, String reason) {
-        SseEmitter emitter = sessionEmitters.remove(sessionUuid);
-        if (emitter != null) {
-            try { emitter.complete(); } catch (Exception ignored) {}
+        SseSubscriber subscriber = sessionEmitters.remove(sessionUuid);
+        if (subscriber != null) {
+            subscriber.close(reason);
             log.info("[SSE] Session {} emitter removed ({})", sessionUuid, reason);
         }
     }
 
-    /* 새로운 SSE 연결 생성 및 저장 */
-    public SseEmitter createEmitterByRoom(Long roomId) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        roomEmitters.put(roomId, emitter);
-        log.info("[SSE] Room {} connected", roomId);
+    /**
+     * 새로운 SSE 연결 생성 및 저장 (기존 구독자는 유지)
+     * - lastEventId 가 있으면 그 이후 이벤트만 재전송 버퍼에서 이어서 전송
+     * - 처음 연결(또는 이어갈 수 없는 재연결)이면 생성 중인 답변 스냅샷 + 스냅샷 이후 delta 를 먼저 전송
+     * - 조회 중 도착한 실시간 이벤트는 구독자에 보류 → 재전송 후 중복 없이 이어서 전송
+     */
+    public SseEmitter createEmitterByRoom(Long roomId, Long lastEventId) {
+        SseSubscriber subscriber = newSubscriber(roomId);
+
+        // 연결 직후 FE가 정상적으로 구독되었음을 알리기 위한 초기 메시지
+        subscriber.offer(initFrame("Connected to room " + roomId, subscriber));
+
+        subscriber.beginReplay();
+        attachToRoom(roomId, subscriber);
+        log.info("[SSE] Room {} connected (lastEventId={})", roomId, lastEventId);
+
+        subscriber.completeReplay(joinFrames(roomId, lastEventId));
+
+        heartbeatWheel.register(subscriber);
+        return subscriber.getEmitter();
+    }
+
+    private List<SseFrame> joinFrames(Long roomId, Long lastEventId) {
+        List<SseFrame> frames = new ArrayList<>();
+        if (lastEventId != null && lastEventId >= 0 && resumeFrames(roomId, lastEventId, frames)) {
+            return frames;
+        }
+        snapshotFrames(roomId, frames);
+        return frames;
+    }
+
+    /**
+     * lastEventId 이후 이벤트를 재전송 프레임으로 변환
+     * - 버퍼가 잘려 나갔거나 만료되어 빈 구간이 생기면 RESYNC 만 보내고 false (FE 전체 재조회 + 스냅샷으로 진행)
+     * - 연속된 CHAT_STREAM delta 는 하나로 합쳐 전송 (구독자 큐 초과 방지)
+     */
+    private boolean resumeFrames(Long roomId, long lastEventId, List<SseFrame> frames) {
+        SseEventBus.Replay replay;
+        try {
+            replay = eventBus.replay(roomId, lastEventId);
+        } catch (Exception e) {
+            log.warn("[SSE] Replay lookup failed for room {}: {}", roomId, e.getMessage());
+            frames.add(textFrame(RESYNC_EVENT, "replay unavailable"));
+            return false;
+        }
+
+        List<SseBusEvent> events = replay.events();
+        long firstId = events.isEmpty() ? replay.latestId() + 1 : events.get(0).id();
+        if (firstId > lastEventId + 1 || lastEventId > replay.latestId()) {
+            frames.add(textFrame(RESYNC_EVENT, "events after " + lastEventId + " are no longer available"));
+            log.info("[SSE] Room {} replay after {} → gap, resync", roomId, lastEventId);
+            return false;
+        }
+
+        appendReplayed(roomId, events, Map.of(), frames);
+        log.info("[SSE] Room {} replay after {} → {} events ({} frames)", roomId, lastEventId, events.size(), frames.size());
+        return true;
+    }
+
+    /**
+     * 진행 중 상태 스냅샷 + 스냅샷 이후 이벤트
+     * - 스냅샷은 주기적으로 기록되므로 그 이후 delta 는 재전송 버퍼에서 채움 (스냅샷에 이미 포함된 delta 는 생략)
+     */
+    private void snapshotFrames(Long roomId, List<SseFrame> frames) {
+        List<SseSnapshot> snapshots = new ArrayList<>();
+        snapshotProviders.orderedStream().forEach(provider -> {
+            try {
+                snapshots.addAll(provider.snapshots(roomId));
+            } catch (Exception e) {
+                log.warn("[SSE] Snapshot lookup failed for room {}: {}", roomId, e.getMessage());
+            }
+        });
+        if (snapshots.isEmpty()) return;
+
+        Map<Long, Long> coveredUntil = new HashMap<>();
+        long afterId = Long.MAX_VALUE;
+        for (SseSnapshot snapshot : snapshots) {
+            try {
+                frames.add(SseFrame.of(snapshot.event().getType().name(), snapshot.event(), objectMapper)
+                        .withId(snapshot.eventId()));
+            } catch (JsonProcessingException e) {
+                log.warn("[SSE] Failed to serialize snapshot for room {}: {}", roomId, e.getMessage());
+                continue;
+            }
+            coveredUntil.merge(snapshot.chatId(), snapshot.eventId(), Math::max);
+            if (snapshot.eventId() > 0) {
+                afterId = Math.min(afterId, snapshot.eventId());
+            }
+        }
+
+        if (afterId != Long.MAX_VALUE) {
+            try {
+                appendReplayed(roomId, eventBus.replay(roomId, afterId).events(), coveredUntil, frames);
+            } catch (Exception e) {
+                log.warn("[SSE] Replay after snapshot failed for room {}: {}", roomId, e.getMessage());
+            }
+        }
+        log.info("[SSE] Room {} joined with {} snapshots ({} frames)", roomId, snapshots.size(), frames.size());
+    }
 
-        emitter.onCompletion(() -> removeRoomEmitter(roomId, "completed"));
-        emitter.onTimeout(() -> removeRoomEmitter(roomId, "timed out"));
-        emitter.onError(e -> removeRoomEmitter(roomId, "error: " + e.getMessage()));
+    /**
+     * 버스 이벤트를 프레임으로 복원해 추가
+     * - coveredUntil: chatId → 스냅샷에 이미 반영된 마지막 이벤트 id (그 이하 delta 는 생략)
+     */
+    private void appendReplayed(Long roomId, List<SseBusEvent> events, Map<Long, Long> coveredUntil, List<SseFrame> frames) {
+        for (SseBusEvent event : events) {
+            try {
+                SseFrame frame = SseFrame.fromStored(event.id(), event.name(), event.payload(), objectMapper);
+                ChatStreamDeltaDto delta = frame.streamDelta();
+                if (delta != null && frame.id() <= coveredUntil.getOrDefault(delta.chatId(), 0L)) {
+                    continue;
+                }
+                appendCompacted(frames, frame);
+            } catch (JsonProcessingException e) {
+                log.warn("[SSE] Skipped unreadable replay event {} for room {}", event.id(), roomId);
+            }
+        }
+    }
+
+    private void appendCompacted(List<SseFrame> frames, SseFrame frame) throws JsonProcessingException {
+        ChatStreamDeltaDto delta = frame.streamDelta();
+        SseFrame last = frames.isEmpty() ? null : frames.get(frames.size() - 1);
+        ChatStreamDeltaDto lastDelta = last == null ? null : last.streamDelta();
 
-        startHeartbeat(roomId, emitter);
-        return emitter;
+        if (delta != null && lastDelta != null && lastDelta.chatId().equals(delta.chatId())) {
+            ChatStreamDeltaDto merged = new ChatStreamDeltaDto(delta.chatId(), lastDelta.delta() + delta.delta(), delta.seq());
+            frames.set(frames.size() - 1, SseFrame.ofDelta(merged, frame.id(), objectMapper));
+            return;
+        }
+        frames.add(frame);
     }
 
-    /* 특정 roomId에 이벤트 전송 */
+    /**
+     * 특정 roomId에 이벤트 전송 (논블로킹, 호출 스레드는 Redis 를 기다리지 않음)
+     * - 한 번만 직렬화 → 방별 발행 큐에 적재
+     * - 발행 스레드에서 방 채널로 발행 (id 부여 + 재전송 버퍼 저장) → 부여된 id 로 로컬 구독자 큐에 적재
+     * - 방마다 한 번에 하나의 drain 만 실행 → id 순서 = 로컬 전달 순서 = sendEvent 호출 순서
+     */
     public <T> void sendEvent(Long roomId, ChatSseEvent<T> event) {
-        SseEmitter emitter = roomEmitters.get(roomId);
+        sendEvent(roomId, event, id -> {
+        });
+    }
+
+    /**
+     * @param onPublished 부여된 이벤트 id (발행 실패 시 0) 로 발행 스레드에서 순서대로 호출
+     */
+    public <T> void sendEvent(Long roomId, ChatSseEvent<T> event, LongConsumer onPublished) {
+        SseFrame frame;
+        try {
+            frame = SseFrame.of(event.getType().name(), event, objectMapper);   // ChatSseEventType
+        } catch (JsonProcessingException e) {
+            log.error("[SSE] Failed to serialize event for room {}: {}", roomId, e.getMessage());
+            return;
+        }
 
-        if (emitter == null) {
-            log.warn("[SSE] No active emitter found for room {}", roomId);
+        RoomPublisher[] target = new RoomPublisher[1];
+        publishers.compute(roomId, (id, publisher) -> {
+            RoomPublisher current = publisher != null ? publisher : new RoomPublisher(roomId);
+            current.queue.offer(new PendingPublish(frame, onPublished));
+            target[0] = current;
+            return current;
+        });
+        target[0].scheduleDrain();
+    }
+
+    /**
+     * 로컬 구독자에게 전달
+     */
+    private void deliverLocal(Long roomId, SseFrame frame) {
+        Set<SseSubscriber> subscribers = roomEmitters.get(roomId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            log.debug("[SSE] No local emitter for room {}", roomId);
             return;
         }
 
+        for (SseSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(frame)) {
+                log.warn("[SSE] Failed to queue event for room {} => {}", roomId, frame.name());
+            }
+        }
+        log.debug("[SSE] Event queued for room {} ({} subscribers) => {}", roomId, subscribers.size(), frame.name());
+    }
+
+    /**
+     * 다른 노드가 발행한 방 이벤트 (자기 자신이 발행한 이벤트는 버스에서 걸러짐)
+     */
+    private void onRemoteEvent(Long roomId, SseBusEvent event) {
         try {
-            emitter.send(SseEmitter.event()
-                    .name(event.getType().name())   // ChatSseEventType
-                    .data(event)
-            );
-            log.info("[SSE] Event sent to room {} => {}", roomId, event.getType());
-        } catch (IOException e) {
-            log.error("[SSE] Failed to send event to room {}: {}", roomId, e.getMessage());
-            removeRoomEmitter(roomId, "send failed");
+            deliverLocal(roomId, SseFrame.fromStored(event.id(), event.name(), event.payload(), objectMapper));
+        } catch (JsonProcessingException e) {
+            log.warn("[SSE] Failed to read bus event for room {}: {}", roomId, e.getMessage());
         }
     }
 
-    /* 연결 강제 종료 */
-    public void removeRoomEmitter(Long roomId, String reason) {
-        SseEmitter emitter = roomEmitters.remove(roomId);
-        if (emitter != null) {
-            try {
-                emitter.complete();
-            } catch (Exception ignored) {
+    private void onControlMessage(SseControlMessage message) {
+        if (eventBus.getNodeId().equals(message.origin())) return;
+
+        switch (message.type()) {
+            case MIGRATE_SESSION -> migrateLocal(message.sessionUuid(), message.roomId());
+            case DISCONNECT_ROOM -> closeRoomLocal(message.roomId(), "disconnected");
+            case DISCONNECT_SUBSCRIBER -> closeSubscriberLocal(message.roomId(), message.subscriberId(), "disconnected");
+            default -> {
+                // 그 외 메시지는 다른 수신자가 처리
+            }
+        }
+    }
+
+    /**
+     * 구독자 1명만 종료 (다른 탭/기기의 연결은 유지)
+     * - 요청이 연결과 다른 노드로 들어올 수 있으므로 로컬에 없으면 제어 메시지로 전파
+     */
+    public void removeRoomSubscriber(Long roomId, String subscriberId, String reason) {
+        if (!closeSubscriberLocal(roomId, subscriberId, reason)) {
+            eventBus.publishControl(SseControlMessage.disconnectSubscriber(eventBus.getNodeId(), roomId, subscriberId));
+        }
+    }
+
+    private boolean closeSubscriberLocal(Long roomId, String subscriberId, String reason) {
+        Set<SseSubscriber> subscribers = roomEmitters.get(roomId);
+        if (subscribers == null || subscriberId == null) return false;
+
+        for (SseSubscriber subscriber : subscribers) {
+            if (subscriberId.equals(subscriber.getId())) {
+                subscriber.close(reason);
+                log.info("[SSE] Room {} subscriber {} removed ({})", roomId, subscriberId, reason);
+                return true;
             }
-            log.info("[SSE] Room {} emitter removed ({})", roomId, reason);
         }
+        return false;
+    }
+
+    /* 연결 강제 종료 (모든 노드의 해당 방 구독자) — 방 삭제 / 관리 용도 */
+    public void removeRoomEmitter(Long roomId, String reason) {
+        closeRoomLocal(roomId, reason);
+        eventBus.publishControl(SseControlMessage.disconnectRoom(eventBus.getNodeId(), roomId));
+    }
+
+    private void closeRoomLocal(Long roomId, String reason) {
+        List<SseSubscriber> closing = new ArrayList<>();
+        roomEmitters.computeIfPresent(roomId, (id, subscribers) -> {
+            closing.addAll(subscribers);
+            return null;
+        });
+        syncChannelLater(roomId);
+
+        if (!closing.isEmpty()) {
+            closing.forEach(subscriber -> subscriber.close(reason));
+            log.info("[SSE] Room {} emitters removed ({}, {} subscribers)", roomId, reason, closing.size());
+        }
+    }
+
+    public int countRoomSubscribers(Long roomId) {
+        Set<SseSubscriber> subscribers = roomEmitters.get(roomId);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    private SseSubscriber newSubscriber(Object key) {
+        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
+        SseSubscriber subscriber = new SseSubscriber(emitter, queueCapacity, writerPool, objectMapper, this::detach);
+        subscriber.setKey(key);
+
+        emitter.onCompletion(() -> subscriber.close("completed"));
+        emitter.onTimeout(() -> subscriber.close("timed out"));
+        emitter.onError(e -> subscriber.close("error: " + e.getMessage()));
+        return subscriber;
     }
 
     /**
-     * 하트비트 스케줄링
-     * - 15초마다 "heartbeat" 이벤트를 클라이언트로 보냄
-     * - 실패 시 emitter 제거
+     * 방에 구독자 추가 (이 노드의 첫 구독자면 방 채널 구독)
+     * - 재전송 조회 전에 채널 구독이 끝나야 하므로 호출 스레드에서 바로 맞춤
      */
-    private void startHeartbeat(Long roomId, SseEmitter emitter) {
-        // ThreadPoolTaskScheduler 사용 → 15초마다 heartbeat 이벤트 전송
-        scheduler.scheduleAtFixedRate(() -> {
-            if (!roomEmitters.containsKey(roomId)) return;  // 이미 종료된 emitter는 skip
+    private void attachToRoom(Long roomId, SseSubscriber subscriber) {
+        roomEmitters.compute(roomId, (id, subscribers) -> {
+            Set<SseSubscriber> target = subscribers != null ? subscribers : new CopyOnWriteArraySet<>();
+            target.add(subscriber);
+            return target;
+        });
+        syncChannel(roomId);
+    }
 
+    /**
+     * 방 채널 구독 상태를 로컬 구독자 유무에 맞춤 (Redis 호출은 compute 밖에서, 방 추가/제거가 엇갈려도 최종 상태 기준)
+     * - 이 노드의 마지막 구독자가 빠지면서 방을 구독 중인 노드가 더 없으면 vacancy 리스너 호출
+     */
+    private void syncChannel(Long roomId) {
+        boolean vacant = false;
+        synchronized (channelLock) {
+            boolean wanted = roomEmitters.containsKey(roomId);
+            if (wanted && subscribedRooms.add(roomId)) {
+                eventBus.subscribe(roomId);
+            } else if (!wanted && subscribedRooms.remove(roomId)) {
+                vacant = eventBus.unsubscribe(roomId);
+            }
+        }
+        if (vacant) {
+            notifyVacant(roomId);
+        }
+    }
+
+    private void notifyVacant(Long roomId) {
+        vacancyListeners.orderedStream().forEach(listener -> {
             try {
-                // heartbeat 이벤트 전송
-                emitter.send(SseEmitter.event()
-                        .name("heartbeat")
-                        .data("ping"));
-                log.debug("[SSE] Heartbeat sent to room {}", roomId);
+                listener.onRoomVacant(roomId);
             } catch (Exception e) {
-                // 전송 실패 시 emitter 제거 (끊긴 연결로 간주)
-                log.warn("[SSE] Heartbeat failed for room {}, removing emitter", roomId);
-                removeRoomEmitter(roomId, "completed");
+                log.warn("[SSE] Vacancy listener failed for room {}: {}", roomId, e.getMessage());
             }
-        }, TimeUnit.SECONDS.toMillis(HEARTBEAT_INTERVAL));
+        });
     }
 
-    private void startHeartbeatForSession(String sessionUuid, SseEmitter emitter) {
-        scheduler.scheduleAtFixedRate(() -> {
-            if (!sessionEmitters.containsKey(sessionUuid)) return;
+    /**
+     * 구독 해제 쪽은 구독자 종료 경로(생산자 스레드 포함)에서 불리므로 발행 풀에서 처리
+     */
+    private void syncChannelLater(Long roomId) {
+        try {
+            publisherPool.execute(() -> syncChannel(roomId));
+        } catch (RejectedExecutionException e) {
+            log.debug("[SSE] Channel sync skipped for room {} (shutting down)", roomId);
+        }
+    }
+
+    /**
+     * 닫힌 구독자만 제거 (같은 방의 다른 구독자는 유지, 비면 방 키 삭제 + 채널 구독 해제)
+     */
+    private void detach(SseSubscriber subscriber, String reason) {
+        heartbeatWheel.unregister(subscriber);
+
+        Object key = subscriber.getKey();
+        boolean[] removed = {false};
+        if (key instanceof Long roomId) {
+            roomEmitters.computeIfPresent(roomId, (id, subscribers) -> {
+                removed[0] = subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            if (removed[0]) {
+                syncChannelLater(roomId);
+            }
+        } else if (key instanceof String sessionUuid) {
+            removed[0] = sessionEmitters.remove(sessionUuid, subscriber);
+        }
+
+        if (removed[0]) {
+            log.info("[SSE] {} emitter removed ({})", key, reason);
+        }
+    }
+
+    private SseFrame textFrame(String name, String text) {
+        return SseFrame.text(name, text);
+    }
+
+    private SseFrame initFrame(String message, SseSubscriber subscriber) {
+        try {
+            return SseFrame.of("INIT", new SseInit(message, subscriber.getId()), objectMapper);
+        } catch (JsonProcessingException e) {
+            return textFrame("INIT", message);
+        }
+    }
+
+    private record PendingPublish(SseFrame frame, LongConsumer onPublished) {
+    }
+
+    /**
+     * 방별 발행 큐 (단일 writer)
+     * - 큐가 비면 map 에서 제거 (적재는 compute 안에서 하므로 제거와 엇갈리지 않음)
+     */
+    private final class RoomPublisher {
+
+        private final Long roomId;
+        private final Queue<PendingPublish> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private RoomPublisher(Long roomId) {
+            this.roomId = roomId;
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) return;
+
             try {
-                emitter.send(SseEmitter.event().name("heartbeat").data("ping"));
-                log.debug("[SSE] Heartbeat sent to session {}", sessionUuid);
-            } catch (Exception e) {
-                log.warn("[SSE] Heartbeat failed for session {}, removing emitter", sessionUuid);
-                removeSessionEmitter(sessionUuid, "heartbeat failed");
+                publisherPool.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                log.warn("[SSE] Publisher rejected for room {} (shutting down)", roomId);
+            }
+        }
+
+        private void drain() {
+            try {
+                PendingPublish next;
+                while ((next = queue.poll()) != null) {
+                    SseFrame frame = next.frame();
+                    long id = eventBus.publish(roomId, frame.name(), frame.payload());
+                    deliverLocal(roomId, frame.withId(id));
+                    try {
+                        next.onPublished().accept(id);
+                    } catch (Exception e) {
+                        log.warn("[SSE] Publish callback failed for room {}: {}", roomId, e.getMessage());
+                    }
+                }
+            } finally {
+                draining.set(false);
+                if (!queue.isEmpty()) {
+                    scheduleDrain();
+                } else {
+                    publishers.computeIfPresent(roomId, (id, publisher) ->
+                            publisher == this && queue.isEmpty() && !draining.get() ? null : publisher);
+                }
             }
-        }, TimeUnit.SECONDS.toMillis(HEARTBEAT_INTERVAL));
+        }
     }
 
 }
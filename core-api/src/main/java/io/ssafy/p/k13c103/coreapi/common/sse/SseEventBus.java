@@ -0,0 +1,60 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 SSE 이벤트 버스
+ * - 방 이벤트: 방 채널로 발행, 해당 방 구독자를 가진 노드만 채널 구독
+ * - 방 이벤트는 발행 시 방 단위 id 를 부여받고 재전송 버퍼(최근 N개)에 함께 저장
+ * - 제어 메시지: 모든 노드가 구독 (세션 → 방 이전 등)
+ */
+public interface SseEventBus {
+
+    /**
+     * 노드 식별자 (자기 자신이 발행한 메시지 구분용)
+     */
+    String getNodeId();
+
+    /**
+     * 방 이벤트 발행
+     * @return 부여된 이벤트 id (실패 시 0 → id 없이 로컬 전송만)
+     */
+    long publish(Long roomId, String name, String payload);
+
+    /**
+     * afterId 이후에 발행된 이벤트 조회 (id 오름차순)
+     */
+    Replay replay(Long roomId, long afterId);
+
+    void publishControl(SseControlMessage message);
+
+    /**
+     * 이 노드에 방 구독자가 생김 → 방 채널 구독 + 방을 구독 중인 노드 목록에 등록
+     */
+    void subscribe(Long roomId);
+
+    /**
+     * 이 노드의 방 구독자가 모두 종료 → 방 채널 구독 해제 + 노드 목록에서 제거
+     * @return 방을 구독 중인 노드가 더 없으면 true (조회 실패 시 false)
+     */
+    boolean unsubscribe(Long roomId);
+
+    /**
+     * 수신 핸들러 등록 (SseEmitterManager 에서 1회)
+     */
+    void bind(BiConsumer<Long, SseBusEvent> roomHandler, Consumer<SseControlMessage> controlHandler);
+
+    /**
+     * 제어 메시지 추가 수신자 (SSE 외 모듈: 답변 생성 중단 등)
+     */
+    void addControlListener(Consumer<SseControlMessage> listener);
+
+    /**
+     * 재전송 조회 결과
+     * - latestId: 방에 마지막으로 부여된 id (버퍼가 잘려 나간 구간 판단용)
+     */
+    record Replay(long latestId, List<SseBusEvent> events) {
+    }
+}
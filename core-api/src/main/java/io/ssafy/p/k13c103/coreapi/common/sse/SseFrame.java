@@ -0,0 +1,77 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatSseEvent;
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatStreamDeltaDto;
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatSseEventType;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 직렬화가 끝난 SSE 프레임
+ * - 방 단위로 한 번만 직렬화하고 모든 구독자가 같은 payload 를 그대로 전송
+ * - source 는 delta 병합 판단용 원본 객체
+ * - id: 방 단위 이벤트 id (Last-Event-ID 재전송 기준), 0 이면 id 없이 전송 (INIT, heartbeat 등)
+ */
+record SseFrame(String name, Object source, String payload, MediaType mediaType, long id) {
+
+    static SseFrame text(String name, String text) {
+        return new SseFrame(name, text, text, MediaType.TEXT_PLAIN, 0L);
+    }
+
+    static SseFrame of(String name, Object data, ObjectMapper objectMapper) throws JsonProcessingException {
+        // 문자열(INIT, heartbeat 등)은 기존과 동일하게 그대로 전송
+        if (data instanceof CharSequence text) {
+            return text(name, text.toString());
+        }
+        return new SseFrame(name, data, objectMapper.writeValueAsString(data), MediaType.APPLICATION_JSON, 0L);
+    }
+
+    static SseFrame ofDelta(ChatStreamDeltaDto delta, long id, ObjectMapper objectMapper) throws JsonProcessingException {
+        return of(ChatSseEventType.CHAT_STREAM.name(), new ChatSseEvent<>(ChatSseEventType.CHAT_STREAM, delta), objectMapper)
+                .withId(id);
+    }
+
+    /**
+     * 다른 노드 / 재전송 버퍼에서 읽은 payload 로 프레임 복원 (재직렬화 X)
+     * - CHAT_STREAM 은 병합 판단을 위해 delta 만 원본 객체로 복원
+     */
+    static SseFrame fromStored(long id, String name, String payload, ObjectMapper objectMapper) throws JsonProcessingException {
+        Object source = payload;
+        if (ChatSseEventType.CHAT_STREAM.name().equals(name)) {
+            JsonNode data = objectMapper.readTree(payload).path("data");
+            source = new ChatSseEvent<>(ChatSseEventType.CHAT_STREAM, new ChatStreamDeltaDto(
+                    data.path("chat_id").asLong(),
+                    data.path("delta").asText(""),
+                    data.path("seq").asLong()
+            ));
+        }
+        return new SseFrame(name, source, payload, MediaType.APPLICATION_JSON, id);
+    }
+
+    SseFrame withId(long id) {
+        return new SseFrame(name, source, payload, mediaType, id);
+    }
+
+    /**
+     * CHAT_STREAM delta 프레임이면 delta 반환 (병합 대상 판단)
+     */
+    ChatStreamDeltaDto streamDelta() {
+        if (source instanceof ChatSseEvent<?> event
+                && event.getType() == ChatSseEventType.CHAT_STREAM
+                && event.getData() instanceof ChatStreamDeltaDto delta) {
+            return delta;
+        }
+        return null;
+    }
+
+    SseEmitter.SseEventBuilder toEvent() {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(name);
+        if (id > 0) {
+            event.id(String.valueOf(id));
+        }
+        return event.data(payload, mediaType);
+    }
+}
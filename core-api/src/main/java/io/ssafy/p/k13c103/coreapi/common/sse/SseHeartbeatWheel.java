@@ -0,0 +1,135 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ssafy.p.k13c103.coreapi.config.properties.SseProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 하트비트 타이밍 휠
+ * - 연결마다 스케줄 작업을 만들지 않고, 스레드 1개가 1초마다 휠의 칸 하나를 돌며 해당 칸의 구독자에게 ping
+ * - 구독자는 등록 시점 기준 칸에 배치되어 15초(칸 수 × tick)마다 한 번씩 ping 을 받음
+ * - 연결 종료 시 즉시 휠에서 제거 (누적 연결 수와 무관하게 살아있는 연결만 순회)
+ * - 매 tick 마다 전송이 writeTimeout 을 넘긴 연결을 찾아 종료 (느린 클라이언트가 writer 스레드를 붙잡지 않도록)
+ */
+@Slf4j
+@Component
+public class SseHeartbeatWheel {
+
+    private static final long TICK_MILLIS = 1000L;      // 휠 한 칸 = 1초
+    private static final int SLOTS = 15;                // 하트비트 주기: 15초
+
+    private final Set<SseSubscriber>[] wheel;
+    private final Map<SseSubscriber, Integer> slotOf = new ConcurrentHashMap<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private final ScheduledExecutorService ticker;
+    private final Counter heartbeatFailures;
+    private final Counter writeTimeouts;
+    private final long writeTimeoutNanos;
+
+    @SuppressWarnings("unchecked")
+    public SseHeartbeatWheel(MeterRegistry meterRegistry, SseProperties sseProperties) {
+        this.writeTimeoutNanos = sseProperties.getWriteTimeout().toNanos();
+        this.wheel = new Set[SLOTS];
+        for (int i = 0; i < SLOTS; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+
+        Gauge.builder("sse.connections.live", slotOf, Map::size)
+                .description("하트비트 대상 SSE 연결 수")
+                .register(meterRegistry);
+        this.heartbeatFailures = Counter.builder("sse.heartbeat.failures")
+                .description("하트비트 전송 실패로 종료된 연결 수")
+                .register(meterRegistry);
+        this.writeTimeouts = Counter.builder("sse.write.timeouts")
+                .description("전송 시간 초과로 종료된 연결 수")
+                .register(meterRegistry);
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("SSE-Heartbeat-"));
+        ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdown();
+        log.info("[SSE] Heartbeat wheel shut down");
+    }
+
+    /**
+     * 현재 칸의 바로 이전 칸에 배치 → 첫 ping 은 약 한 바퀴(15초) 뒤
+     */
+    void register(SseSubscriber subscriber) {
+        int slot = Math.floorMod(cursor.get() - 1, SLOTS);
+        if (slotOf.putIfAbsent(subscriber, slot) == null) {
+            wheel[slot].add(subscriber);
+        }
+    }
+
+    void unregister(SseSubscriber subscriber) {
+        Integer slot = slotOf.remove(subscriber);
+        if (slot != null) {
+            wheel[slot].remove(subscriber);
+        }
+    }
+
+    public int getLiveConnections() {
+        return slotOf.size();
+    }
+
+    public double getHeartbeatFailures() {
+        return heartbeatFailures.count();
+    }
+
+    private void tick() {
+        abortStalled();
+
+        int slot = Math.floorMod(cursor.getAndIncrement(), SLOTS);
+        Set<SseSubscriber> bucket = wheel[slot];
+        if (bucket.isEmpty()) return;
+
+        int sent = 0;
+        for (SseSubscriber subscriber : bucket) {
+            try {
+                if (subscriber.isClosed()) {
+                    unregister(subscriber);
+                    continue;
+                }
+                if (subscriber.offer(SseSubscriber.HEARTBEAT_FRAME)) {
+                    sent++;
+                } else {
+                    heartbeatFailures.increment();
+                    unregister(subscriber);
+                }
+            } catch (Exception e) {
+                log.warn("[SSE] Heartbeat failed: {}", e.getMessage());
+                heartbeatFailures.increment();
+                unregister(subscriber);
+            }
+        }
+        log.debug("[SSE] Heartbeat slot {} → {} pings queued", slot, sent);
+    }
+
+    private void abortStalled() {
+        long now = System.nanoTime();
+        for (SseSubscriber subscriber : slotOf.keySet()) {
+            if (subscriber.isWriteStalled(now, writeTimeoutNanos)) {
+                writeTimeouts.increment();
+                subscriber.abort("write timeout");
+                log.info("[SSE] Subscriber {} aborted (write timeout)", subscriber.getId());
+            }
+        }
+    }
+}
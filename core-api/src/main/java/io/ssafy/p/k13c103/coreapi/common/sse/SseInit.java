@@ -0,0 +1,8 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+/**
+ * 연결 직후 INIT 이벤트 본문
+ * - subscriberId: 이 연결의 구독자 id (연결 종료 요청 시 이 연결만 닫기 위해 사용)
+ */
+record SseInit(String message, String subscriberId) {
+}
@@ -0,0 +1,10 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+/**
+ * 방의 마지막 구독자가 모든 노드에서 종료된 시점 알림 (예: 받을 사람이 없는 답변 생성 중단)
+ * - SseEmitterManager 발행 스레드에서 호출
+ */
+public interface SseRoomVacancyListener {
+
+    void onRoomVacant(Long roomId);
+}
@@ -0,0 +1,11 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatSseEvent;
+
+/**
+ * 새 구독자에게 실시간 이벤트보다 먼저 보내는 진행 중 상태
+ * - eventId: 스냅샷에 반영된 마지막 방 이벤트 id (이후 이벤트는 재전송 버퍼에서 이어서 전송)
+ * - chatId: 스냅샷이 대신하는 CHAT_STREAM delta 의 chat (eventId 이하 delta 는 중복이므로 생략)
+ */
+public record SseSnapshot(Long chatId, long eventId, ChatSseEvent<?> event) {
+}
@@ -0,0 +1,11 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+import java.util.List;
+
+/**
+ * 방 구독 시점의 진행 중 상태 제공 (예: 생성 중인 답변)
+ */
+public interface SseSnapshotProvider {
+
+    List<SseSnapshot> snapshots(Long roomId);
+}
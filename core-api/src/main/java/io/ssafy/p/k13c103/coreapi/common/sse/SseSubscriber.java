@@ -0,0 +1,332 @@
+package io.ssafy.p.k13c103.coreapi.common.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatStreamDeltaDto;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * SSE 구독자 1명 (emitter 1개)
+ * - 전송 프레임은 bounded lock-free 큐에 넣고, 공용 writer 풀에서 구독자별로 한 번에 하나의 drain 만 실행
+ * - 이벤트/하트비트 모두 큐를 거치므로 프레임이 섞이지 않고, 생산자(LLM 스트림 스레드)는 네트워크 I/O 를 기다리지 않음
+ * - 큐가 가득 찬 경우 (느린 클라이언트)
+ *   1. heartbeat → 버림
+ *   2. CHAT_STREAM delta → 하나의 delta 로 합쳐서 보류 (seq, 이벤트 id 는 마지막 값)
+ *   3. 그 외 합칠 수 없는 프레임 → 연결 종료 (재연결 유도)
+ * - 재연결(Last-Event-ID) 시 재전송이 끝날 때까지 실시간 프레임을 보류했다가, 재전송분과 겹치지 않는 것만 이어서 적재
+ * - 전송 1회가 writeTimeout 을 넘기면 하트비트 휠이 abort (전송 중인 writer 스레드를 interrupt, emitter 는 writer 가 돌아온 뒤 종료)
+ * - writer 풀이 가득 차 drain 이 거절되면 연결을 끊지 않고 잠시 뒤 다시 요청 (멈춘 연결이 abort 되면 자리가 남)
+ */
+@Slf4j
+class SseSubscriber {
+
+    static final String HEARTBEAT_EVENT = "heartbeat";
+    static final SseFrame HEARTBEAT_FRAME = SseFrame.text(HEARTBEAT_EVENT, "ping");
+
+    // drain 1회당 최대 전송 수 (한 구독자가 writer 스레드를 독점하지 않도록)
+    private static final int DRAIN_BATCH = 64;
+
+    // writer 풀 거절 시 drain 재요청 간격
+    private static final Executor DRAIN_RETRY = CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS);
+
+    @Getter
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor writer;
+    private final ObjectMapper objectMapper;    // 병합된 delta 재직렬화용
+    private final BiConsumer<SseSubscriber, String> onClose;
+
+    private final Queue<SseFrame> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicReference<PendingDelta> overflowDelta = new AtomicReference<>();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private volatile long sendStartedAt;        // 전송 중이면 시작 시각 (nanoTime), 아니면 0
+    private volatile boolean aborted;
+    private final Object sendLock = new Object();
+    private Thread sendingThread;               // 전송 중인 writer 스레드 (sendLock 으로 보호, abort 시 interrupt)
+
+    // 재전송 중 도착한 실시간 프레임 (replaying 동안만 사용)
+    private final Object replayLock = new Object();
+    private final List<SseFrame> held = new ArrayList<>();
+    private volatile boolean replaying;
+
+    // 구독자 id (INIT 으로 전달, 이 연결만 종료할 때 사용) — 세션 → 방 이전 후에도 유지
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+
+    // 등록 위치 (roomId 또는 sessionUuid) — 세션 → 방 이전 시 변경
+    @Getter
+    @Setter
+    private volatile Object key;
+
+    SseSubscriber(SseEmitter emitter, int capacity, Executor writer, ObjectMapper objectMapper,
+                  BiConsumer<SseSubscriber, String> onClose) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+        this.onClose = onClose;
+    }
+
+    /**
+     * 프레임 적재 (논블로킹)
+     * - false: 이미 닫혔거나 이번 적재로 연결이 종료됨
+     */
+    boolean offer(SseFrame frame) {
+        if (closed.get()) return false;
+
+        if (replaying) {
+            synchronized (replayLock) {
+                if (replaying) {
+                    held.add(frame);
+                    return true;
+                }
+            }
+        }
+        return enqueueOrMerge(frame);
+    }
+
+    /**
+     * 재전송 시작: 이후 도착하는 실시간 프레임은 completeReplay 까지 보류
+     */
+    void beginReplay() {
+        synchronized (replayLock) {
+            replaying = true;
+        }
+    }
+
+    /**
+     * 재전송분 적재 후 보류했던 실시간 프레임 중 재전송분 이후 id (또는 id 없는 프레임)만 이어서 적재
+     */
+    void completeReplay(List<SseFrame> replayed) {
+        synchronized (replayLock) {
+            long lastReplayedId = 0L;
+            for (SseFrame frame : replayed) {
+                enqueueOrMerge(frame);
+                lastReplayedId = Math.max(lastReplayedId, frame.id());
+            }
+            for (SseFrame frame : held) {
+                if (frame.id() <= 0 || frame.id() > lastReplayedId) {
+                    enqueueOrMerge(frame);
+                }
+            }
+            held.clear();
+            replaying = false;
+        }
+    }
+
+    private boolean enqueueOrMerge(SseFrame frame) {
+        if (closed.get()) return false;
+
+        ChatStreamDeltaDto delta = frame.streamDelta();
+
+        // 보류 중인 delta 가 있으면 이어지는 delta 는 그쪽에 합침 (순서 유지)
+        if (delta != null && mergeIntoOverflow(delta, frame.id())) {
+            scheduleDrain();
+            return true;
+        }
+
+        // 합칠 수 없는 프레임 앞에는 보류 중인 delta 를 먼저 적재
+        PendingDelta pending = overflowDelta.getAndSet(null);
+        if (pending != null && !enqueue(deltaFrame(pending))) {
+            close("slow consumer");
+            return false;
+        }
+
+        if (enqueue(frame)) {
+            scheduleDrain();
+            return true;
+        }
+
+        // 큐 초과
+        if (HEARTBEAT_EVENT.equals(frame.name())) {
+            return true;
+        }
+        if (delta != null && overflowDelta.compareAndSet(null, new PendingDelta(delta, frame.id()))) {
+            scheduleDrain();
+            return true;
+        }
+
+        close("slow consumer");
+        return false;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * 현재 전송이 timeoutNanos 이상 끝나지 않고 있는지
+     */
+    boolean isWriteStalled(long now, long timeoutNanos) {
+        long startedAt = sendStartedAt;
+        return startedAt != 0 && now - startedAt > timeoutNanos;
+    }
+
+    /**
+     * 전송이 멈춘 연결 종료
+     * - 전송 중인 writer 스레드를 interrupt 해 블로킹 쓰기를 끊음 (스레드가 풀로 돌아오도록)
+     * - emitter 는 전송 중인 writer 가 잡고 있으므로 여기서 기다리지 않고, writer 가 돌아오면 종료
+     * - 방에서는 즉시 제거 (이후 프레임 적재 X)
+     */
+    void abort(String reason) {
+        if (!markClosed()) return;
+
+        aborted = true;
+        synchronized (sendLock) {
+            if (sendingThread != null) {
+                sendingThread.interrupt();
+            }
+        }
+        onClose.accept(this, reason);
+    }
+
+    /**
+     * 연결 종료 (중복 호출 안전)
+     */
+    void close(String reason) {
+        if (!markClosed()) return;
+
+        completeEmitter();
+        onClose.accept(this, reason);
+    }
+
+    private boolean markClosed() {
+        if (!closed.compareAndSet(false, true)) return false;
+
+        queue.clear();
+        size.set(0);
+        overflowDelta.set(null);
+        synchronized (replayLock) {
+            held.clear();
+            replaying = false;
+        }
+        return true;
+    }
+
+    private void completeEmitter() {
+        try {
+            emitter.complete();
+        } catch (Exception ignored) {
+        }
+    }
+
+    private boolean enqueue(SseFrame frame) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        queue.offer(frame);
+        return true;
+    }
+
+    private boolean mergeIntoOverflow(ChatStreamDeltaDto delta, long id) {
+        PendingDelta merged = overflowDelta.updateAndGet(current ->
+                current != null && current.delta().chatId().equals(delta.chatId())
+                        ? new PendingDelta(new ChatStreamDeltaDto(delta.chatId(), current.delta().delta() + delta.delta(), delta.seq()),
+                        Math.max(current.id(), id))
+                        : current);
+        return merged != null && merged.delta().seq() == delta.seq() && merged.delta().chatId().equals(delta.chatId());
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) return;
+
+        submitDrain();
+    }
+
+    /**
+     * draining = true 인 상태로 호출, 거절되면 draining 을 유지한 채 재요청 (그 사이 적재분은 재요청된 drain 이 처리)
+     */
+    private void submitDrain() {
+        if (closed.get()) {
+            draining.set(false);
+            return;
+        }
+        try {
+            writer.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            if (writer instanceof ExecutorService executorService && executorService.isShutdown()) {
+                draining.set(false);
+                close("writer shutdown");
+                return;
+            }
+            DRAIN_RETRY.execute(this::submitDrain);
+        }
+    }
+
+    private void drain() {
+        try {
+            int sent = 0;
+            while (!closed.get() && sent < DRAIN_BATCH) {
+                SseFrame frame = queue.poll();
+                if (frame != null) {
+                    size.decrementAndGet();
+                } else {
+                    PendingDelta pending = overflowDelta.getAndSet(null);
+                    if (pending == null) break;
+                    frame = deltaFrame(pending);
+                }
+
+                synchronized (sendLock) {
+                    sendingThread = Thread.currentThread();
+                }
+                sendStartedAt = System.nanoTime();
+                try {
+                    emitter.send(frame.toEvent());
+                } finally {
+                    sendStartedAt = 0;
+                    synchronized (sendLock) {
+                        sendingThread = null;
+                        Thread.interrupted();   // abort 의 interrupt 가 다른 구독자 전송에 남지 않도록
+                    }
+                }
+                sent++;
+            }
+        } catch (Exception e) {
+            log.debug("[SSE] Write failed: {}", e.getMessage());
+            close("send failed");
+        } finally {
+            if (aborted) {
+                completeEmitter();
+            }
+            draining.set(false);
+            if (!closed.get() && (!queue.isEmpty() || overflowDelta.get() != null)) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private SseFrame deltaFrame(PendingDelta pending) {
+        try {
+            return SseFrame.ofDelta(pending.delta(), pending.id(), objectMapper);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("delta 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 병합되어 보류 중인 delta + 포함된 마지막 이벤트 id
+     */
+    private record PendingDelta(ChatStreamDeltaDto delta, long id) {
+    }
+}
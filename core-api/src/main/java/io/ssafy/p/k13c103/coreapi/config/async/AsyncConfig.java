@@ -3,27 +3,21 @@ package io.ssafy.p.k13c103.coreapi.config.async;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-
-import java.util.concurrent.Executor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
     /**
-     * AI 비동기 작업용 스레드풀
-     * - ChatServiceImpl 등에서 @Async("aiTaskExecutor")로 사용
-     * - 예: FastAPI 요청, 요약/키워드 분석 등
+     * 채팅 생성 파이프라인의 블로킹 JPA 쓰기 전용 스케줄러
+     * - 스트리밍/요약 호출은 Reactor Netty 이벤트 루프에서 처리하고
+     *   각 단계 마지막의 DB 저장만 이 스케줄러로 넘김
+     * - 스레드 수를 작게 고정해 DB 커넥션 풀을 넘지 않도록 함
      */
-    @Bean(name = "aiTaskExecutor")
-    public Executor aiTaskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);    // 최소 스레드 수
-        executor.setMaxPoolSize(20);    // 최대 스레드 수
-        executor.setQueueCapacity(100); // 대기 큐 용량
-        executor.setThreadNamePrefix("AI-Async-");
-        executor.initialize();
-        return executor;
+    @Bean(name = "dbScheduler", destroyMethod = "dispose")
+    public Scheduler dbScheduler() {
+        return Schedulers.newBoundedElastic(8, 1000, "DB-Write");
     }
 }
@@ -1,7 +1,6 @@
 package io.ssafy.p.k13c103.coreapi.config.client;
 
 import io.netty.channel.ChannelOption;
-import io.ssafy.p.k13c103.coreapi.config.properties.LiteLlmProperties;
 import io.ssafy.p.k13c103.coreapi.config.properties.SummaryApiProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -11,6 +10,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
@@ -18,24 +18,8 @@ import java.time.Duration;
 @RequiredArgsConstructor
 public class WebClientConfig {
 
-    private final LiteLlmProperties liteLlmProperties;
-
     private final SummaryApiProperties summaryApiProperties;
 
-    @Bean(name = "liteLlmClient")
-    public WebClient liteLlmWebClient(WebClient.Builder builder) {
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 3000)
-                .responseTimeout(Duration.ofSeconds(20));
-
-        return builder
-                .baseUrl(liteLlmProperties.getBaseUrl())
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .codecs(c -> c.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
-                .build();
-    }
-
     /**
      * WebClient를 전역 Bean으로 등록
      * - 비동기 HTTP 요청용
@@ -43,9 +27,30 @@ public class WebClientConfig {
      */
     @Bean(name = "aiWebClient")
     public WebClient aiWebClient(WebClient.Builder builder) {
+        HttpClient httpClient = HttpClient.create(summaryApiConnectionProvider())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 3000)
+                .responseTimeout(Duration.ofMillis(summaryApiProperties.getTimeoutMs()));
+
         return builder
                 .baseUrl(summaryApiProperties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
+
+    /**
+     * summary-api 전용 커넥션 풀
+     * - LLM 호출 풀과 분리, 응답이 멈춘 요약 호출이 소켓을 무한정 잡지 않도록 유휴/수명 제한
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider summaryApiConnectionProvider() {
+        return ConnectionProvider.builder("summary-api")
+                .maxConnections(50)
+                .pendingAcquireTimeout(Duration.ofSeconds(5))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .maxLifeTime(Duration.ofMinutes(5))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
 }
\ No newline at end of file
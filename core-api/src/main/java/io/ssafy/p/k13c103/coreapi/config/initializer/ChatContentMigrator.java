@@ -0,0 +1,81 @@
+package io.ssafy.p.k13c103.coreapi.config.initializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 기존 chat.question / answer / summary TEXT 컬럼 → chat_content 이전
+ * - ddl-auto update 환경에서 예전 컬럼이 남아 있는 경우만 실행 (새로 만든 스키마는 건너뜀)
+ * - 해시는 ChatContentStore.hashOf 와 같은 값 (sha256(UTF-8) hex)
+ * - 이전한 행은 예전 컬럼을 비워서 다시 실행해도 중복 집계되지 않음
+ * - 스키마 생성(ddl-auto) 직후, 웹 서버가 요청을 받기 전에 실행 (이전 중에 본문이 빈 채팅이 조회되지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class ChatContentMigrator implements InitializingBean {
+
+    private static final String[] COLUMNS = {"question", "answer", "summary"};
+
+    private final DataSource dataSource;
+
+    @Value("${app.content-migrator.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (!enabled) {
+            log.info("[ChatContentMigrator] Content migrator is disabled...SKIP");
+            return;
+        }
+
+        try (Connection connection = dataSource.getConnection(); Statement st = connection.createStatement()) {
+            if (!hasLegacyColumns(st)) {
+                log.info("[ChatContentMigrator] No legacy text columns...SKIP");
+                return;
+            }
+
+            connection.setAutoCommit(false);
+            try {
+                for (String column : COLUMNS) {
+                    int contents = st.executeUpdate(
+                            "INSERT INTO chat_content (content_hash, body, ref_count, created_at) " +
+                            "SELECT encode(sha256(convert_to(" + column + ", 'UTF8')), 'hex'), " + column + ", COUNT(*), now() " +
+                            "FROM chat WHERE " + column + " IS NOT NULL AND " + column + "_hash IS NULL " +
+                            "GROUP BY " + column + " " +
+                            "ON CONFLICT (content_hash) DO UPDATE SET ref_count = chat_content.ref_count + EXCLUDED.ref_count");
+                    int chats = st.executeUpdate(
+                            "UPDATE chat SET " + column + "_hash = encode(sha256(convert_to(" + column + ", 'UTF8')), 'hex'), " +
+                            column + " = NULL " +
+                            "WHERE " + column + " IS NOT NULL AND " + column + "_hash IS NULL");
+                    log.info("[ChatContentMigrator] {} → contents={}, chats={}", column, contents, chats);
+                }
+                connection.commit();
+                log.info("[ChatContentMigrator] Completed");
+            } catch (Exception e) {
+                connection.rollback();
+                log.error("[ChatContentMigrator] Migration failed, rolled back", e);
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private boolean hasLegacyColumns(Statement st) throws Exception {
+        try (ResultSet rs = st.executeQuery(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_name = 'chat' AND column_name IN ('question', 'answer', 'summary')")) {
+            return rs.next() && rs.getInt(1) == COLUMNS.length;
+        }
+    }
+}
@@ -50,6 +50,11 @@ public class IndexInitializer implements ApplicationRunner {
             exec(st, "CREATE INDEX IF NOT EXISTS idx_room_owner " +
                     "ON room (owner_id)");
 
+            // 본문 검색 인덱스 (질문 / 답변 본문 ILIKE, 컬럼별로 조회)
+            exec(st, "CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            exec(st, "CREATE INDEX IF NOT EXISTS idx_chat_content_body_trgm " +
+                    "ON chat_content USING gin (body gin_trgm_ops)");
+
             log.info("[IndexInitializer] Completed");
         }
     }
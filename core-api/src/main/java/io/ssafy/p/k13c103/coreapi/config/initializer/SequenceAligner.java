@@ -0,0 +1,52 @@
+package io.ssafy.p.k13c103.coreapi.config.initializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * IDENTITY → pooled 시퀀스 전환 시 시퀀스를 기존 최대 id 뒤로 맞춤
+ * - 시퀀스 increment = allocationSize(50), nextval 이 v 면 Hibernate 는 v-49 ~ v 를 사용
+ *   → last_value 를 max(id) 로 두면 다음 블록이 max(id)+1 부터 시작
+ * - 스키마 생성(ddl-auto) 직후, 웹 서버가 요청을 받기 전에 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class SequenceAligner implements InitializingBean {
+
+    private static final String[][] SEQUENCES = {
+            {"chat_seq", "chat", "chat_uid"},
+            {"room_seq", "room", "room_uid"},
+            {"groups_seq", "groups", "group_uid"},
+            {"chat_edge_seq", "chat_edge", "chat_edge_uid"},
+    };
+
+    private final DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() {
+        try (Connection connection = dataSource.getConnection(); Statement st = connection.createStatement()) {
+            for (String[] s : SEQUENCES) {
+                String sql = "SELECT setval('" + s[0] + "', GREATEST(" +
+                        "(SELECT COALESCE(MAX(" + s[2] + "), 0) FROM " + s[1] + "), " +
+                        "(SELECT last_value FROM " + s[0] + ")))";
+                try {
+                    st.execute(sql);
+                    log.info("[SequenceAligner] SQL EXECUTE...OK : {} ", s[0]);
+                } catch (Exception e) {
+                    log.error("[SequenceAligner] SQL EXECUTE...ERROR : {} ", sql, e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("[SequenceAligner] Failed to align sequences", e);
+        }
+    }
+}
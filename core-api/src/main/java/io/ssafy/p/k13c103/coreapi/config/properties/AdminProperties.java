@@ -0,0 +1,23 @@
+package io.ssafy.p.k13c103.coreapi.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.admin")
+public class AdminProperties {
+
+    // 관리자 권한(ROLE_ADMIN)을 가지는 회원 이메일 → /actuator/** 접근 (차단기 초기화 등)
+    private List<String> emails = new ArrayList<>();
+
+    public boolean isAdmin(String email) {
+        return email != null && emails.stream().anyMatch(email::equalsIgnoreCase);
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Locale;
+
 @Getter
 @Setter
 @Configuration
@@ -22,4 +24,21 @@ public class AiProcessingProperties {
     private int longSummaryMaxLength = 150;
 
     private int longSummaryMinLength = 30;
+
+    /**
+     * 모델에 실제로 보내는 temperature (요청 본문 / 응답 캐시 키 공용)
+     */
+    public double temperatureFor(String model) {
+        if (model == null) return temperature;
+
+        String m = model.toLowerCase(Locale.ROOT);
+
+        // gpt-5, gpt-5-mini, gpt-5-nano 모두 포함
+        if (m.startsWith("gpt-5")) {
+            return 1.0;
+        }
+
+        // 나머지는 기존 설정값 그대로
+        return temperature;
+    }
 }
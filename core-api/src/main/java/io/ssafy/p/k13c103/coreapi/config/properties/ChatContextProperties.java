@@ -0,0 +1,45 @@
+package io.ssafy.p.k13c103.coreapi.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.context")
+public class ChatContextProperties {
+
+    // 모델별 설정이 없을 때의 컨텍스트 토큰 예산 (질문 포함)
+    private int defaultBudgetTokens = 3000;
+
+    /**
+     * 모델 코드 prefix → 컨텍스트 토큰 예산 (가장 긴 prefix 우선)
+     * - 컨텍스트 창 전체가 아니라 첫 토큰 지연을 감안한 사용량
+     */
+    private Map<String, Integer> budgets = new LinkedHashMap<>();
+
+    // 최근 노드 몇 개까지 전체 답변 우선 (그보다 오래된 노드는 요약 우선)
+    private int recentFullNodes = 3;
+
+    // 채팅별 토큰 수 메모 최대 개수
+    private int memoMaxEntries = 10_000;
+
+    // 같은 부모 집합(경로 digest)별로 구성한 컨텍스트 재사용 최대 개수
+    private int packedCacheMaxEntries = 2_000;
+
+    public int budgetOf(String model) {
+        if (model == null) return defaultBudgetTokens;
+        String best = null;
+        for (String prefix : budgets.keySet()) {
+            if (model.startsWith(prefix) && (best == null || prefix.length() > best.length())) {
+                best = prefix;
+            }
+        }
+        return best == null ? defaultBudgetTokens : budgets.get(best);
+    }
+}
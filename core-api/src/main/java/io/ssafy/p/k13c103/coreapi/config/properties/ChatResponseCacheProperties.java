@@ -0,0 +1,37 @@
+package io.ssafy.p.k13c103.coreapi.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.response-cache")
+public class ChatResponseCacheProperties {
+
+    // 전체 스위치 (켜져 있어도 요청에서 useCache 를 켠 경우만 사용)
+    private boolean enabled = false;
+
+    // Redis 보관 기간
+    private Duration ttl = Duration.ofHours(6);
+
+    // 노드 로컬 LRU (Redis 왕복 없이 바로 응답)
+    private int localMaxEntries = 500;
+
+    private Duration localTtl = Duration.ofMinutes(10);
+
+    // 이보다 긴 답변은 저장하지 않음
+    private int maxAnswerChars = 32_768;
+
+    /**
+     * 캐시 적중 시 답변 재생 속도
+     * - replayChunkChars 글자씩 replayInterval 간격으로 CHAT_STREAM 전송 (0 이면 한 번에)
+     */
+    private int replayChunkChars = 24;
+
+    private Duration replayInterval = Duration.ofMillis(15);
+}
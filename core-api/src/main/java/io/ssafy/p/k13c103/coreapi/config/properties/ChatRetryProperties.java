@@ -0,0 +1,35 @@
+package io.ssafy.p.k13c103.coreapi.config.properties;
+
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatStage;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.retry")
+public class ChatRetryProperties {
+
+    // 단계 설정이 없을 때 사용
+    private RetryPolicy defaults = new RetryPolicy(3, Duration.ofSeconds(1), 2.0, Duration.ofSeconds(10));
+
+    /**
+     * 단계별 in-process 재시도 정책
+     * - ANSWER 는 첫 청크 수신 전 실패만 재시도 (이미 전송한 delta 를 다시 보내지 않음)
+     * - 재시도를 모두 소진하면 작업 큐 재시도로 넘어감 (완료된 단계는 건너뜀)
+     */
+    private Map<ChatStage, RetryPolicy> stages = new EnumMap<>(ChatStage.class);
+
+    // 장애 시 전환할 다른 모델 최대 개수 (요청에서 failover 를 켠 경우만)
+    private int maxFailovers = 2;
+
+    public RetryPolicy policyOf(ChatStage stage) {
+        return stages.getOrDefault(stage, defaults);
+    }
+}
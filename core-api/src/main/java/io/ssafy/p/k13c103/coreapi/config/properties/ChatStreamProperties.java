@@ -0,0 +1,38 @@
+package io.ssafy.p.k13c103.coreapi.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "chat.stream")
+public class ChatStreamProperties {
+
+    private Checkpoint checkpoint = new Checkpoint();
+
+    // 방의 마지막 SSE 구독자가 (모든 노드에서) 종료되면 방의 답변 생성도 중단
+    private boolean cancelOnDisconnect = false;
+
+    /**
+     * 생성 중인 답변 체크포인트 (Redis)
+     * - interval / maxChars 중 먼저 도달하는 쪽에서 기록
+     * - staleAfter 동안 기록이 없으면 노드 장애로 보고 부분 답변을 복구
+     */
+    @Getter
+    @Setter
+    public static class Checkpoint {
+
+        private Duration interval = Duration.ofMillis(500);
+
+        private int maxChars = 2048;
+
+        private Duration ttl = Duration.ofMinutes(10);
+
+        private Duration staleAfter = Duration.ofMinutes(2);
+    }
+}
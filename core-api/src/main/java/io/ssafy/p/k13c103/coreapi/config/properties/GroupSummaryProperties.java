@@ -0,0 +1,21 @@
+package io.ssafy.p.k13c103.coreapi.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "group.summary")
+public class GroupSummaryProperties {
+
+    // 그룹 붙이기 요청이 요약 완료 알림을 기다리는 최대 시간 (초과 시 202 로 응답, 스냅샷은 알림 시 채움)
+    private Duration attachWait = Duration.ofSeconds(10);
+
+    // 요약 완료를 기다리는 스냅샷 목록 보관 시간 (요약이 끝내 생성되지 않은 그룹 정리용)
+    private Duration waiterTtl = Duration.ofHours(24);
+}
@@ -0,0 +1,56 @@
+package io.ssafy.p.k13c103.coreapi.config.properties;
+
+import io.ssafy.p.k13c103.coreapi.common.job.JobType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "jobs")
+public class JobQueueProperties {
+
+    // Redis Stream 컨슈머 그룹 이름 (모든 노드가 같은 그룹으로 분산 처리)
+    private String group = "core-api";
+
+    // 노드당 동시에 처리하는 작업 수
+    private int concurrency = 32;
+
+    // XREADGROUP 블로킹 대기 시간
+    private Duration readBlock = Duration.ofSeconds(2);
+
+    // 이 시간 동안 ACK 도, 갱신도 없는 작업은 다른 노드가 가져감 (노드 장애 간주)
+    // chat.stream.checkpoint.stale-after 보다 길게 (회수된 답변 작업이 체크포인트 복구보다 먼저 재전달되지 않도록)
+    private Duration visibilityTimeout = Duration.ofMinutes(3);
+
+    // 처리 중인 작업이 없고 이 시간 동안 읽기도 없는 컨슈머는 삭제 (재시작 / 종료된 노드)
+    private Duration consumerIdleTimeout = Duration.ofHours(1);
+
+    // 처리 중인 작업의 visibility 갱신 / 만료 작업 회수 / 큐 메트릭 갱신 주기
+    private Duration maintenanceInterval = Duration.ofSeconds(15);
+
+    // 실행 시각이 된 재시도 작업을 큐로 옮기는 주기
+    private Duration promoteInterval = Duration.ofMillis(500);
+
+    // 작업 1건 최대 처리 시간 (초과 시 실패로 보고 재시도)
+    // 답변 작업의 최악 경로보다 길게: 모델 수(1 + max-failovers) × (호출 한도 대기 + 첫 청크 재시도) + 전체 스트림 타임아웃
+    private Duration jobTimeout = Duration.ofMinutes(25);
+
+    // 실패 작업 보관 개수 (jobs:dead)
+    private int deadLetterCapacity = 1000;
+
+    private RetryPolicy retry = new RetryPolicy();
+
+    // 작업 종류별 재시도 정책 (없으면 retry 기본값), maxAttempts 를 넘기면 jobs:dead 로 이동
+    private Map<JobType, RetryPolicy> retries = new EnumMap<>(JobType.class);
+
+    public RetryPolicy retryOf(JobType type) {
+        return retries.getOrDefault(type, retry);
+    }
+}
@@ -0,0 +1,61 @@
+package io.ssafy.p.k13c103.coreapi.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * LLM 스트림 차단기 + 동시 요청 한도 (provider + model 단위, 노드별)
+ * - 지연 시간은 첫 청크까지의 시간 기준 (답변 길이에 따라 달라지는 전체 시간 X)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "llm.circuit")
+public class LlmCircuitProperties {
+
+    private boolean enabled = true;
+
+    // 최근 N 건 기준으로 실패율 / 느린 호출 비율 계산
+    private int windowSize = 50;
+
+    // 최근 호출이 이보다 적으면 차단하지 않음
+    private int minimumCalls = 10;
+
+    private double failureRateThreshold = 0.5;
+
+    // 첫 청크까지 이보다 오래 걸리면 느린 호출
+    private Duration slowCallDuration = Duration.ofSeconds(10);
+
+    private double slowCallRateThreshold = 0.8;
+
+    // 차단 유지 시간, 이후 halfOpenCalls 건만 시험 호출
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    private int halfOpenCalls = 3;
+
+    private Concurrency concurrency = new Concurrency();
+
+    /**
+     * AIMD 동시 요청 한도
+     * - 첫 청크 지연이 latencyThreshold 이하로 성공하면 한도 +1/limit (호출 한 바퀴에 약 +1)
+     * - 실패하거나 latencyThreshold 를 넘으면 한도 × backoffRatio
+     */
+    @Getter
+    @Setter
+    public static class Concurrency {
+
+        private int initialLimit = 50;
+
+        private int minLimit = 5;
+
+        private int maxLimit = 200;
+
+        private Duration latencyThreshold = Duration.ofSeconds(5);
+
+        private double backoffRatio = 0.9;
+    }
+}
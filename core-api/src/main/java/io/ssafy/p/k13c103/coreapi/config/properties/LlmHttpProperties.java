@@ -0,0 +1,121 @@
+package io.ssafy.p.k13c103.coreapi.config.properties;
+
+import io.ssafy.p.k13c103.coreapi.domain.llm.LlmProvider;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LLM 호출용 HTTP 커넥션 풀 설정 (provider 별 분리)
+ * - llm.http.providers.{litellm|openai|gemini|anthropic}.*
+ * - provider 설정은 지정한 항목만 llm.http.defaults 위에 덮어씀 (나머지는 defaults 값)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "llm.http")
+public class LlmHttpProperties {
+
+    private Pool defaults = new Pool();
+
+    private Map<String, PoolOverride> providers = new HashMap<>();
+
+    // provider → defaults 에 덮어쓴 결과 (바인딩 이후 처음 조회할 때 계산)
+    @Getter(AccessLevel.NONE)
+    private final Map<LlmProvider, Pool> resolved = new ConcurrentHashMap<>();
+
+    public Pool resolve(LlmProvider provider) {
+        return resolved.computeIfAbsent(provider, p -> {
+            PoolOverride override = providers.get(p.name().toLowerCase(Locale.ROOT));
+            return override == null ? defaults : override.applyTo(defaults);
+        });
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private int maxConnections = 50;
+
+        private int pendingAcquireMaxCount = 200;
+
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+        private Duration connectTimeout = Duration.ofSeconds(3);
+
+        // 유휴 커넥션 정리 기준
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        private Duration evictInBackground = Duration.ofSeconds(30);
+
+        private boolean keepAlive = true;
+
+        private boolean http2 = false;
+
+        // 스트리밍 타임아웃: 첫 청크까지 / 청크 사이 유휴 / 전체 소요
+        private Duration firstByteTimeout = Duration.ofSeconds(60);
+
+        private Duration idleTimeout = Duration.ofSeconds(30);
+
+        private Duration totalTimeout = Duration.ofMinutes(5);
+    }
+
+    /**
+     * provider 별 설정 (null = defaults 값 사용)
+     */
+    @Getter
+    @Setter
+    public static class PoolOverride {
+
+        private Integer maxConnections;
+
+        private Integer pendingAcquireMaxCount;
+
+        private Duration pendingAcquireTimeout;
+
+        private Duration connectTimeout;
+
+        private Duration maxIdleTime;
+
+        private Duration maxLifeTime;
+
+        private Duration evictInBackground;
+
+        private Boolean keepAlive;
+
+        private Boolean http2;
+
+        private Duration firstByteTimeout;
+
+        private Duration idleTimeout;
+
+        private Duration totalTimeout;
+
+        Pool applyTo(Pool base) {
+            Pool pool = new Pool();
+            pool.setMaxConnections(maxConnections != null ? maxConnections : base.getMaxConnections());
+            pool.setPendingAcquireMaxCount(pendingAcquireMaxCount != null ? pendingAcquireMaxCount : base.getPendingAcquireMaxCount());
+            pool.setPendingAcquireTimeout(pendingAcquireTimeout != null ? pendingAcquireTimeout : base.getPendingAcquireTimeout());
+            pool.setConnectTimeout(connectTimeout != null ? connectTimeout : base.getConnectTimeout());
+            pool.setMaxIdleTime(maxIdleTime != null ? maxIdleTime : base.getMaxIdleTime());
+            pool.setMaxLifeTime(maxLifeTime != null ? maxLifeTime : base.getMaxLifeTime());
+            pool.setEvictInBackground(evictInBackground != null ? evictInBackground : base.getEvictInBackground());
+            pool.setKeepAlive(keepAlive != null ? keepAlive : base.isKeepAlive());
+            pool.setHttp2(http2 != null ? http2 : base.isHttp2());
+            pool.setFirstByteTimeout(firstByteTimeout != null ? firstByteTimeout : base.getFirstByteTimeout());
+            pool.setIdleTimeout(idleTimeout != null ? idleTimeout : base.getIdleTimeout());
+            pool.setTotalTimeout(totalTimeout != null ? totalTimeout : base.getTotalTimeout());
+            return pool;
+        }
+    }
+}
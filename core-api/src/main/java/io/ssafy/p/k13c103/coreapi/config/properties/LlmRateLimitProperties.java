@@ -0,0 +1,54 @@
+package io.ssafy.p.k13c103.coreapi.config.properties;
+
+import io.ssafy.p.k13c103.coreapi.domain.llm.LlmProvider;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * LLM 호출 한도 (API 키 + provider 단위 토큰 버킷)
+ * - llm.rate-limit.providers.{openai|gemini|anthropic}.*
+ * - 지정하지 않은 provider 는 llm.rate-limit.defaults 사용
+ * - rpm / tpm 이 0 이하면 해당 한도는 검사하지 않음
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "llm.rate-limit")
+public class LlmRateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 이보다 오래 기다려야 하면 대기하지 않고 RATE_LIMITED
+    private Duration maxWait = Duration.ofMinutes(2);
+
+    // 요청 전 토큰 추정: 입력 글자 수 / charsPerToken + 예상 출력 토큰 (응답 후 실제 사용량으로 정산)
+    private int charsPerToken = 4;
+
+    private int expectedCompletionTokens = 512;
+
+    private Limit defaults = new Limit();
+
+    private Map<String, Limit> providers = new HashMap<>();
+
+    public Limit resolve(LlmProvider provider) {
+        return providers.getOrDefault(provider.name().toLowerCase(Locale.ROOT), defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        // 분당 요청 수
+        private int rpm = 60;
+
+        // 분당 토큰 수
+        private int tpm = 100_000;
+    }
+}
@@ -0,0 +1,56 @@
+package io.ssafy.p.k13c103.coreapi.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재시도 정책 (작업 큐 / 채팅 단계 공용)
+ * - n 번째 재시도 대기 = min(initialBackoff × multiplier^(n-1), maxBackoff) 에 ±jitter 비율만큼 흔들기
+ * - 서버가 Retry-After 를 준 경우 그보다 먼저 재시도하지 않음 (단, maxBackoff 를 넘기지 않음)
+ * - maxAttempts 는 첫 시도를 포함한 총 시도 횟수
+ */
+@Getter
+@Setter
+public class RetryPolicy {
+
+    private int maxAttempts = 3;
+
+    private Duration initialBackoff = Duration.ofSeconds(2);
+
+    private double multiplier = 2.0;
+
+    private Duration maxBackoff = Duration.ofMinutes(1);
+
+    // 0 ~ 1, 동시에 실패한 요청들이 같은 시각에 몰리지 않도록 대기 시간을 분산
+    private double jitter = 0.2;
+
+    public RetryPolicy() {
+    }
+
+    public RetryPolicy(int maxAttempts, Duration initialBackoff, double multiplier, Duration maxBackoff) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.multiplier = multiplier;
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Duration backoff(int attempt) {
+        double millis = initialBackoff.toMillis() * Math.pow(multiplier, Math.max(0, attempt - 1));
+        millis = Math.min(millis, maxBackoff.toMillis());
+        if (jitter > 0) {
+            millis *= 1 + jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+        }
+        return Duration.ofMillis((long) Math.min(Math.max(0, millis), maxBackoff.toMillis()));
+    }
+
+    public Duration backoff(int attempt, Duration retryAfter) {
+        Duration delay = backoff(attempt);
+        if (retryAfter == null || retryAfter.compareTo(delay) <= 0) {
+            return delay;
+        }
+        return retryAfter.compareTo(maxBackoff) > 0 ? maxBackoff : retryAfter;
+    }
+}
@@ -0,0 +1,60 @@
+package io.ssafy.p.k13c103.coreapi.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "sse")
+public class SseProperties {
+
+    private Coalesce coalesce = new Coalesce();
+
+    private Replay replay = new Replay();
+
+    // 구독자별 전송 큐 크기 (초과 시 delta 병합 / 연결 종료)
+    private int queueCapacity = 256;
+
+    // 전송 전용 writer 스레드 수 (기본 유지 수 ~ 최대 수, 느린 연결에 묶여도 다른 구독자 전송이 밀리지 않도록 늘어남)
+    private int writerThreads = 8;
+
+    private int writerMaxThreads = 64;
+
+    // 프레임 1개 전송이 이 시간을 넘기면 연결 종료 (느린 클라이언트)
+    private Duration writeTimeout = Duration.ofSeconds(10);
+
+    // 방 이벤트 발행 (Redis) 전용 스레드 수, 방마다 한 번에 한 스레드만 사용
+    private int publisherThreads = 4;
+
+    /**
+     * CHAT_STREAM delta 묶음 전송 기준 (둘 중 먼저 도달하는 쪽에서 flush)
+     * - window 가 0 이면 묶지 않고 delta 마다 전송
+     */
+    @Getter
+    @Setter
+    public static class Coalesce {
+
+        private Duration window = Duration.ofMillis(25);
+
+        private int maxBytes = 1024;
+    }
+
+    /**
+     * Last-Event-ID 재전송 버퍼 (방 단위)
+     * - capacity: 방마다 보관하는 최근 이벤트 수
+     * - ttl: 마지막 이벤트 이후 버퍼 유지 시간
+     */
+    @Getter
+    @Setter
+    public static class Replay {
+
+        private int capacity = 512;
+
+        private Duration ttl = Duration.ofMinutes(30);
+    }
+}
@@ -3,6 +3,7 @@ package io.ssafy.p.k13c103.coreapi.config.security;
 import io.ssafy.p.k13c103.coreapi.domain.member.entity.Member;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
@@ -14,17 +15,23 @@ public class CustomMemberDetails implements UserDetails {
     private final String email;
     private final String password;
     private final String name;
+    private final boolean admin;
 
     public CustomMemberDetails(Member member) {
+        this(member, false);
+    }
+
+    public CustomMemberDetails(Member member, boolean admin) {
         this.memberUid = member.getMemberUid();
         this.email = member.getEmail();
         this.password = member.getPassword();
         this.name = member.getName();
+        this.admin = admin;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of();
+        return admin ? List.of(new SimpleGrantedAuthority("ROLE_ADMIN")) : List.of();
     }
 
     @Override
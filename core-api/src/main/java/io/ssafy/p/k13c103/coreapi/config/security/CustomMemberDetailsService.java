@@ -2,6 +2,7 @@ package io.ssafy.p.k13c103.coreapi.config.security;
 
 import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
 import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
+import io.ssafy.p.k13c103.coreapi.config.properties.AdminProperties;
 import io.ssafy.p.k13c103.coreapi.domain.member.entity.Member;
 import io.ssafy.p.k13c103.coreapi.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,12 +15,13 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CustomMemberDetailsService implements UserDetailsService {
     private final MemberRepository memberRepository;
+    private final AdminProperties adminProperties;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
 
-        return new CustomMemberDetails(member);
+        return new CustomMemberDetails(member, adminProperties.isAdmin(member.getEmail()));
     }
 }
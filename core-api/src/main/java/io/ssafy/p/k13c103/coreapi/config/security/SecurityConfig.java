@@ -65,6 +65,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/v1/members/logout").permitAll()
                         // CORS 프리플라이트
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // 헬스 체크는 로그인 회원, 그 외 관리 endpoint (metrics, 차단기 조회 / 초기화) 는 관리자만
+                        .requestMatchers("/actuator/health/**").authenticated()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 그 외 모두 인증 필요
                         .anyRequest().authenticated()
                 )
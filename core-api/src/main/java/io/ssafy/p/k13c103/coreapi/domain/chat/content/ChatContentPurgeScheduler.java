@@ -0,0 +1,33 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.content;
+
+import io.ssafy.p.k13c103.coreapi.domain.chat.repository.ChatContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 참조가 0 이 된 본문 정리
+ * - 삭제 경로마다 바로 지우지 않고 모아서 정리 (같은 본문이 곧 다시 등록되는 경우가 많음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatContentPurgeScheduler {
+
+    private final ChatContentRepository chatContentRepository;
+    private final TransactionTemplate txTemplate;
+
+    @Scheduled(fixedDelayString = "${chat.content.purge-ms:600000}")
+    public void purge() {
+        try {
+            Integer purged = txTemplate.execute(status -> chatContentRepository.purgeUnreferenced());
+            if (purged != null && purged > 0) {
+                log.info("[CONTENT] 참조 없는 본문 {}건 정리", purged);
+            }
+        } catch (Exception e) {
+            log.warn("[CONTENT] 본문 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.content;
+
+import io.ssafy.p.k13c103.coreapi.domain.chat.entity.Chat;
+import io.ssafy.p.k13c103.coreapi.domain.chat.entity.ChatContent;
+import io.ssafy.p.k13c103.coreapi.domain.chat.repository.ChatContentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Chat 본문 저장소 (내용 해시 + 참조 카운트)
+ * - 모든 메서드는 호출 측 트랜잭션 안에서 실행 (Chat 변경과 ref 증감이 함께 커밋 / 롤백)
+ * - 복제는 본문을 다시 쓰지 않고 해시 참조만 복사한 뒤 retain
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatContentStore {
+
+    private final ChatContentRepository chatContentRepository;
+
+    /**
+     * 본문 등록 (ref + 1), null 이면 null
+     */
+    public ChatContent intern(String body) {
+        if (body == null) return null;
+        String hash = hashOf(body);
+        chatContentRepository.upsert(hash, body);
+        return chatContentRepository.getReferenceById(hash);
+    }
+
+    /**
+     * 기존 참조를 새 본문으로 교체 (새 본문 ref + 1, 이전 본문 ref - 1)
+     */
+    public ChatContent swap(ChatContent previous, String body) {
+        ChatContent next = intern(body);
+        if (previous != null) {
+            chatContentRepository.adjust(new String[]{previous.getContentHash()}, -1);
+        }
+        return next;
+    }
+
+    /**
+     * 복제본이 원본과 같은 본문을 가리키게 될 때 호출 (질문 / 답변 / 요약 각각 ref + 1)
+     */
+    public void retain(List<Chat> copies) {
+        String[] hashes = hashesOf(copies);
+        if (hashes.length > 0) chatContentRepository.adjust(hashes, 1);
+    }
+
+    /**
+     * id 로만 다루는 채팅들의 본문 ref 증감 (엔티티를 읽지 않는 일괄 복사 / 삭제용)
+     * - retainChats: 복사 원본 id 기준 (복제본이 같은 해시를 가리킴)
+     * - releaseChats: 삭제 직전 호출
+     */
+    public void retainChats(Collection<Long> chatIds) {
+        if (!chatIds.isEmpty()) chatContentRepository.adjustByChats(chatIds.toArray(Long[]::new), 1);
+    }
+
+    public void releaseChats(Collection<Long> chatIds) {
+        if (!chatIds.isEmpty()) chatContentRepository.adjustByChats(chatIds.toArray(Long[]::new), -1);
+    }
+
+    public void releaseRoom(Long roomUid) {
+        chatContentRepository.releaseByRoom(roomUid);
+    }
+
+    public void releaseGroupCopies(Long groupId) {
+        chatContentRepository.releaseByGroupCopies(groupId);
+    }
+
+    public static String hashOf(String body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String[] hashesOf(List<Chat> chats) {
+        List<String> hashes = new ArrayList<>(chats.size() * 3);
+        for (Chat chat : chats) {
+            addHash(hashes, chat.getQuestionContent());
+            addHash(hashes, chat.getAnswerContent());
+            addHash(hashes, chat.getSummaryContent());
+        }
+        return hashes.toArray(String[]::new);
+    }
+
+    private static void addHash(List<String> hashes, ChatContent content) {
+        if (content != null) hashes.add(content.getContentHash());
+    }
+}
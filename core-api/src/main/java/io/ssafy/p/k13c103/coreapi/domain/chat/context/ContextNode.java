@@ -0,0 +1,13 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.context;
+
+/**
+ * 컨텍스트 후보 노드 (오래된 순으로 전달)
+ * - chatId 가 있으면 토큰 수를 메모 (그룹 요약처럼 채팅이 아닌 노드는 null)
+ */
+public record ContextNode(
+        Long chatId,
+        String question,
+        String answer,
+        String summary
+) {
+}
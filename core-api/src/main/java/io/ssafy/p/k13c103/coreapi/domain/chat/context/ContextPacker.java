@@ -0,0 +1,148 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.context;
+
+import io.ssafy.p.k13c103.coreapi.config.properties.ChatContextProperties;
+import io.ssafy.p.k13c103.coreapi.domain.llm.TokenFamily;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모델별 토큰 예산 안에서 이전 대화 컨텍스트 구성
+ * - 예산 = 모델별 설정값 - 새 질문 토큰
+ * - 최근 노드부터 채움: 최근 recentFullNodes 개는 전체 답변 → 안 들어가면 요약,
+ *   그보다 오래된 노드는 요약 → 요약이 없으면 전체 답변
+ * - 둘 다 안 들어가는 노드는 건너뜀, 가장 최근 노드만은 잘라서라도 포함
+ * - 노드별 토큰 수는 (chatId, 형태, 모델 계열) 단위로 메모
+ */
+@Slf4j
+@Component
+public class ContextPacker {
+
+    private static final String SEPARATOR = "\n\n";
+
+    private final ChatContextProperties properties;
+    private final Map<MemoKey, Integer> memo;
+
+    public ContextPacker(ChatContextProperties properties) {
+        this.properties = properties;
+        this.memo = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MemoKey, Integer> eldest) {
+                return size() > properties.getMemoMaxEntries();
+            }
+        };
+    }
+
+    public String pack(String model, List<ContextNode> nodes, String question) {
+        if (nodes == null || nodes.isEmpty()) return "";
+
+        TokenFamily family = TokenFamily.of(model);
+        int budget = properties.budgetOf(model) - family.estimate(question);
+        int separatorTokens = family.estimate(SEPARATOR);
+        if (budget <= 0) return "";
+
+        List<String> picked = new ArrayList<>();
+        int used = 0;
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            ContextNode node = nodes.get(i);
+            boolean recent = nodes.size() - 1 - i < properties.getRecentFullNodes();
+
+            String full = format(node.question(), node.answer());
+            String brief = format(node.question(), node.summary());
+            String first = recent ? full : brief;
+            String second = recent ? brief : full;
+            Form firstForm = recent ? Form.FULL : Form.BRIEF;
+            Form secondForm = recent ? Form.BRIEF : Form.FULL;
+
+            String chosen = null;
+            int tokens = 0;
+            if (first != null) {
+                tokens = tokensOf(node.chatId(), firstForm, family, first) + separatorTokens;
+                if (used + tokens <= budget) chosen = first;
+            }
+            if (chosen == null && second != null) {
+                tokens = tokensOf(node.chatId(), secondForm, family, second) + separatorTokens;
+                if (used + tokens <= budget) chosen = second;
+            }
+            if (chosen == null && picked.isEmpty() && (first != null || second != null)) {
+                String shortest = first == null ? second : (second == null ? first : (first.length() <= second.length() ? first : second));
+                chosen = clipTail(family, shortest, budget - separatorTokens);
+                tokens = budget;
+            }
+            if (chosen != null && !chosen.isEmpty()) {
+                picked.add(chosen);
+                used += tokens;
+            }
+        }
+
+        Collections.reverse(picked);
+        log.debug("[CONTEXT] model={}, family={}, nodes={}, picked={}, tokens={}/{}",
+                model, family, nodes.size(), picked.size(), used, budget);
+        return String.join(SEPARATOR, picked);
+    }
+
+    /**
+     * 구성된 컨텍스트 + 질문이 모델 예산 안에 들어가는지 (다른 질문으로 재사용 가능 여부)
+     */
+    public boolean fits(String model, String context, String question) {
+        TokenFamily family = TokenFamily.of(model);
+        return family.estimate(context) + family.estimate(question) <= properties.budgetOf(model);
+    }
+
+    /**
+     * 이미 구성된 컨텍스트가 모델 예산을 넘으면 뒤(최근)쪽만 남김
+     */
+    public String clip(String model, String context) {
+        if (context == null || context.isBlank()) return context;
+        return clipTail(TokenFamily.of(model), context, properties.budgetOf(model));
+    }
+
+    private String clipTail(TokenFamily family, String text, int maxTokens) {
+        if (maxTokens <= 0) return "";
+        int tokens = family.estimate(text);
+        if (tokens <= maxTokens) return text;
+
+        int keep = (int) ((long) text.length() * maxTokens / tokens);
+        while (keep > 0) {
+            int start = text.length() - keep;
+            if (Character.isLowSurrogate(text.charAt(start))) start++;
+            String tail = "..." + text.substring(start);
+            if (family.estimate(tail) <= maxTokens) return tail;
+            keep = keep * 9 / 10;
+        }
+        return "";
+    }
+
+    private int tokensOf(Long chatId, Form form, TokenFamily family, String text) {
+        if (chatId == null) return family.estimate(text);
+        MemoKey key = new MemoKey(chatId, form, family, text.length());
+        synchronized (memo) {
+            Integer cached = memo.get(key);
+            if (cached != null) return cached;
+        }
+        int tokens = family.estimate(text);
+        synchronized (memo) {
+            memo.put(key, tokens);
+        }
+        return tokens;
+    }
+
+    private static String format(String question, String body) {
+        if (body == null || body.isBlank()) return null;
+        if (question == null || question.isBlank()) return body.trim();
+        return "Q: " + question.trim() + "\nA: " + body.trim();
+    }
+
+    private enum Form {
+        FULL, BRIEF
+    }
+
+    // 답변 / 요약이 바뀌면 길이도 대부분 바뀌므로 길이까지 키에 포함
+    private record MemoKey(Long chatId, Form form, TokenFamily family, int length) {
+    }
+}
@@ -34,21 +34,26 @@ public class ChatSseController {
             summary = "SSE 스트림 연결 (Room 구독)",
             description = """
                     지정한 `roomId`의 실시간 이벤트 스트림(SSE)에 연결합니다.  
-                    이 엔드포인트는 브라우저나 프론트엔드의 EventSource 객체로 구독해야 합니다.
+                    이 엔드포인트는 브라우저나 프론트엔드의 EventSource 객체로 구독해야 합니다.  
+                    방 이벤트에는 `id` 가 붙으며, 재연결 시 `Last-Event-ID` 헤더(또는 `lastEventId` 파라미터)를 보내면 놓친 이벤트만 이어서 전송합니다.  
+                    보관 기간이 지나 이어서 보낼 수 없으면 `RESYNC` 이벤트를 먼저 보내므로, 이때만 전체를 다시 조회하면 됩니다.
                     """,
             responses = {
                     @ApiResponse(responseCode = "200", description = "SSE 연결 성공",
                             content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
                                     examples = @ExampleObject(value = """
                                             event: INIT
-                                            data: Connected to room 3
+                                            data: { "message": "Connected to room 3", "subscriberId": "0b6f3c1e-8d7a-4f7e-9a51-2f0c1e4d9b27" }
                                             
+                                            id: 41
                                             event: CHAT_CREATED
                                             data: { "chatUid": 12, "question": "AI 답변 속도는?" }
                                             
+                                            id: 42
                                             event: CHAT_ANSWERED
                                             data: { "answer": "답변이 완료되었습니다." }
                                             
+                                            id: 43
                                             event: CHAT_SUMMARIZED
                                             data: { "summary": "AI 처리 완료", "keywords": ["AI", "요약"] }
                                             """))),
@@ -60,6 +65,10 @@ public class ChatSseController {
     @GetMapping(value = "/{roomId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter connect(
             @Parameter(description = "구독할 Room의 고유 ID", example = "3") @PathVariable Long roomId,
+            @Parameter(description = "마지막으로 받은 이벤트 ID (EventSource 재연결 시 자동 전송)")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+            @Parameter(description = "마지막으로 받은 이벤트 ID (헤더를 보낼 수 없는 경우)", example = "42")
+            @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam,
             @Parameter(hidden = true) @AuthenticationPrincipal CustomMemberDetails member) {
         if (member == null) {
             log.warn("[SSE] Unauthorized connection attempt to room {}", roomId);
@@ -79,26 +88,17 @@ public class ChatSseController {
 
         log.info("[SSE] Member {} connected to room {}", member.getUsername(), roomId);
 
-        SseEmitter emitter = sseEmitterManager.createEmitterByRoom(roomId);
-
-        try {
-            // 연결 직후 FE가 정상적으로 구독되었음을 알리기 위한 초기 메시지
-            emitter.send(SseEmitter.event()
-                    .name("INIT")
-                    .data("Connected to room " + roomId)
-            );
-        } catch (Exception e) {
-            log.warn("[SSE] Failed to send INIT event for room {}: {}", roomId, e.getMessage());
-        }
-
-        return emitter;
+        // INIT 이벤트 + 놓친 이벤트 재전송은 구독자 큐를 통해 전송
+        Long lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        return sseEmitterManager.createEmitterByRoom(roomId, lastEventId);
     }
 
     @Operation(
             summary = "SSE 연결 종료",
             description = """
-                    특정 Room의 SSE 연결을 강제로 종료합니다.  
-                    클라이언트가 수동으로 스트림을 닫거나, 세션 만료 시 호출합니다.
+                    INIT 이벤트로 받은 `subscriberId` 의 SSE 연결 하나만 종료합니다. (같은 방의 다른 탭/기기 연결은 유지)  
+                    클라이언트가 수동으로 스트림을 닫거나, 세션 만료 시 호출합니다.  
+                    `chat.stream.cancel-on-disconnect` 가 켜져 있고 이 연결이 방의 마지막 구독자였다면 (모든 서버 기준) 생성 중인 답변도 중단됩니다.
                     """,
             responses = {
                     @ApiResponse(responseCode = "200", description = "SSE 연결 종료 완료",
@@ -115,6 +115,8 @@ public class ChatSseController {
     @DeleteMapping("/{roomId}")
     public void disconnect(
             @Parameter(description = "연결 종료할 Room의 고유 ID", example = "3") @PathVariable Long roomId,
+            @Parameter(description = "INIT 이벤트로 받은 구독자 ID", example = "0b6f3c1e-8d7a-4f7e-9a51-2f0c1e4d9b27")
+            @RequestParam String subscriberId,
             @Parameter(hidden = true) @AuthenticationPrincipal CustomMemberDetails member) {
         if (member == null) {
             throw new ApiException(ErrorCode.SSE_UNAUTHORIZED);
@@ -123,8 +125,8 @@ public class ChatSseController {
         // 해당 채팅방의 소유자인지 검증
         roomService.isOwner(member.getMemberUid(), roomId);
 
-        sseEmitterManager.removeRoomEmitter(roomId, "completed");
-        log.info("[SSE] Member {} disconnected from room {}", member.getUsername(), roomId);
+        sseEmitterManager.removeRoomSubscriber(roomId, subscriberId, "completed");
+        log.info("[SSE] Member {} disconnected subscriber {} from room {}", member.getUsername(), subscriberId, roomId);
     }
 
     @GetMapping(value = "/session/{sessionUuid}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
@@ -132,18 +134,7 @@ public class ChatSseController {
             @Parameter(description = "SSE 연결용 세션 UUID", example = "550e8400-e29b-41d4-a716-446655440000")
             @PathVariable String sessionUuid) {
 
-        SseEmitter emitter = sseEmitterManager.createEmitterBySession(sessionUuid);
-        log.info("[SSE] Session {} connected (pre-room)", sessionUuid);
-
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("INIT")
-                    .data("Connected to session " + sessionUuid));
-        } catch (Exception e) {
-            log.warn("[SSE] INIT send failed for session {}: {}", sessionUuid, e.getMessage());
-        }
-
-        return emitter;
+        return sseEmitterManager.createEmitterBySession(sessionUuid);
     }
 
     @DeleteMapping("/session/{sessionUuid}")
@@ -0,0 +1,17 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * CHAT_STREAM 이벤트 payload
+ * - delta: 직전 프레임 이후 누적된 텍스트 (여러 토큰이 합쳐질 수 있음)
+ * - seq: 스트림 내 프레임 순번 (1부터 증가)
+ */
+@Schema(description = "답변 스트리밍 delta 프레임")
+public record ChatStreamDeltaDto(
+        @JsonProperty("chat_id") Long chatId,
+        String delta,
+        long seq
+) {
+}
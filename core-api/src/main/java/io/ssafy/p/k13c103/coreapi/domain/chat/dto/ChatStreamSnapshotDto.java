@@ -0,0 +1,17 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * CHAT_STREAM_SNAPSHOT 이벤트 payload
+ * - 생성 중인 답변에 중간 합류한 구독자에게 지금까지의 답변을 한 번에 전달
+ * - seq: text 에 포함된 마지막 CHAT_STREAM seq (이후 delta 는 seq 가 더 큰 것만 이어 붙이면 됨)
+ */
+@Schema(description = "생성 중인 답변 스냅샷")
+public record ChatStreamSnapshotDto(
+        @JsonProperty("chat_id") Long chatId,
+        String text,
+        long seq
+) {
+}
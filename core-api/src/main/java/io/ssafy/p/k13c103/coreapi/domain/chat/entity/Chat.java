@@ -2,6 +2,7 @@ package io.ssafy.p.k13c103.coreapi.domain.chat.entity;
 
 import io.ssafy.p.k13c103.coreapi.common.entity.BaseTimeEntity;
 import io.ssafy.p.k13c103.coreapi.domain.catalog.entity.ModelCatalog;
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatStage;
 import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatStatus;
 import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatType;
 import io.ssafy.p.k13c103.coreapi.domain.group.entity.Group;
@@ -12,15 +13,24 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat")
+@Table(
+        name = "chat",
+        indexes = {
+                @Index(name = "idx_chat_question_hash", columnList = "question_hash"),
+                @Index(name = "idx_chat_answer_hash", columnList = "answer_hash"),
+                @Index(name = "idx_chat_summary_hash", columnList = "summary_hash")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class Chat extends BaseTimeEntity {
 
+    // pooled 시퀀스 (INSERT 전에 id 를 정할 수 있어야 JDBC 배치 가능, SequenceAligner 가 기존 id 뒤로 맞춤)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_seq_generator")
+    @SequenceGenerator(name = "chat_seq_generator", sequenceName = "chat_seq", allocationSize = 50)
     @Column(name = "chat_uid")
     private Long chatUid;
 
@@ -37,22 +47,26 @@ public class Chat extends BaseTimeEntity {
     @JoinColumn(name = "model_catalog_uid")
     private ModelCatalog modelCatalog;
 
-    @Column(columnDefinition = "TEXT")
-    private String question;
+    /**
+     * 질문 / 답변 / 요약 본문은 chat_content 에 한 번만 저장하고 해시로 참조
+     * - 복제 시 해시만 복사 (ChatContentStore.retain 으로 ref 증가)
+     * - 변경 시 ChatContentStore.intern / swap 으로 만든 참조를 넘김
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "question_hash")
+    private ChatContent questionContent;
 
-    @Column(columnDefinition = "TEXT")
-    private String answer;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "answer_hash")
+    private ChatContent answerContent;
 
-    @Column(columnDefinition = "TEXT")
-    private String summary;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "summary_hash")
+    private ChatContent summaryContent;
 
     @Column(columnDefinition = "TEXT")
     private String keywords;
 
-    // 검색 인덱스(GIN) 적용
-    @Column(name = "search_content", columnDefinition = "TEXT")
-    private String searchContent;
-
     // N+1 방지용
     @Column(name = "model_catalog_uid", insertable = false, updatable = false)
     private Long modelCatalogUid;
@@ -60,6 +74,19 @@ public class Chat extends BaseTimeEntity {
     @Column(name = "origin_id")
     private Long originId;
 
+    // 루트부터 이 노드까지의 경로 식별값 (부모들의 digest + 자기 id 의 해시, 같은 부모 집합이면 컨텍스트 재사용)
+    @Column(name = "path_digest", length = 64)
+    private String pathDigest;
+
+    // 실제로 답변한 모델 (장애로 다른 모델로 전환된 경우 modelCatalogUid 와 다름)
+    @Column(name = "answered_model_catalog_uid")
+    private Long answeredModelCatalogUid;
+
+    // 동일 프롬프트 답변 캐시에서 재생한 답변
+    @Builder.Default
+    @Column(name = "response_cached", nullable = false, columnDefinition = "boolean default false")
+    private boolean responseCached = false;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ChatStatus status;
@@ -71,16 +98,21 @@ public class Chat extends BaseTimeEntity {
     @Column(name = "answered_at")
     private LocalDateTime answeredAt;
 
+    // 완료된 후처리 단계 (ChatStage 비트 합)
+    @Builder.Default
+    @Column(name = "completed_stages", nullable = false, columnDefinition = "integer default 0")
+    private int completedStages = 0;
+
     /**
      * 새 질문 생성
      * - Room에 소속된 Chat을 생성
      * - 상태: Question
      */
-    public static Chat create(Room room, String question, ModelCatalog modelCatalog) {
+    public static Chat create(Room room, ChatContent question, ModelCatalog modelCatalog) {
         return Chat.builder()
                 .room(room)
                 .modelCatalog(modelCatalog)
-                .question(question)
+                .questionContent(question)
                 .status(ChatStatus.QUESTION)
                 .chatType(ChatType.CHAT)
                 .modelCatalogUid(modelCatalog.getModelUid())
@@ -90,17 +122,17 @@ public class Chat extends BaseTimeEntity {
     /**
      * 기존 Chat을 복사해서 Room에 연결
      * - 채팅/그룹 기반 복제 시 사용
+     * - 본문은 해시 참조만 복사 (호출 측에서 ChatContentStore.retain)
      */
     public static Chat cloneFrom(Chat origin, Room newRoom) {
         Chat chat = Chat.builder()
                 .room(newRoom)
                 .group(origin.getGroup())
                 .modelCatalog(origin.getModelCatalog())
-                .question(origin.getQuestion())
-                .answer(origin.getAnswer())
-                .summary(origin.getSummary())
+                .questionContent(origin.getQuestionContent())
+                .answerContent(origin.getAnswerContent())
+                .summaryContent(origin.getSummaryContent())
                 .keywords(origin.getKeywords())
-                .searchContent(origin.getSearchContent())
                 .originId(origin.getChatUid())
                 .status(origin.getStatus())
                 .chatType(ChatType.CHAT)
@@ -108,24 +140,26 @@ public class Chat extends BaseTimeEntity {
                 .build();
         chat.createdAt = origin.createdAt;
         chat.answeredAt = origin.getAnsweredAt();
+        chat.completedStages = origin.getCompletedStages();
+        chat.answeredModelCatalogUid = origin.getAnsweredModelCatalogUid();
+        chat.responseCached = origin.isResponseCached();
         chat.updatedAt = LocalDateTime.now();
         return chat;
     }
 
-    public static Chat createGroupSnapshot(Room room, Group group) {
+    /**
+     * 그룹 요약 스냅샷 (질문 / 답변 없음)
+     * - summary: 그룹 요약이 있으면 ChatContentStore.intern 한 참조, 없으면 null
+     */
+    public static Chat createGroupSnapshot(Room room, Group group, ChatContent summary) {
         Chat c = Chat.builder()
                 .room(room)
                 .group(group)
-                .question("")
-                .answer("")
+                .summaryContent(summary)
                 .chatType(ChatType.CHAT)
                 .status(ChatStatus.PENDING)
                 .build();
 
-        if (group.getSummary() != null && !group.getSummary().isBlank()) {
-            c.summary = group.getSummary();
-        }
-
         if (group.getKeywords() != null && !group.getKeywords().isBlank()) {
             c.keywords = group.getKeywords();
             c.status = ChatStatus.SUMMARY_KEYWORDS;
@@ -140,11 +174,52 @@ public class Chat extends BaseTimeEntity {
      * - 상태: ANSWER
      * - answeredAt 기록
      */
-    public void updateAnswer(String answer) {
-        this.answer = answer;
+    public void updateAnswer(ChatContent answer) {
+        this.answerContent = answer;
         this.status = ChatStatus.ANSWER;
         this.answeredAt = LocalDateTime.now();
-        updateSearchContent();
+        completeStage(ChatStage.ANSWER);
+    }
+
+    /**
+     * 답변한 모델 기록 (답변 저장과 같은 트랜잭션에서 호출)
+     */
+    public void recordAnsweredModel(Long modelCatalogUid) {
+        this.answeredModelCatalogUid = modelCatalogUid;
+    }
+
+    public void assignPathDigest(String pathDigest) {
+        this.pathDigest = pathDigest;
+    }
+
+    /**
+     * 캐시 재생 여부 기록 (답변 저장과 같은 트랜잭션에서 호출)
+     */
+    public void recordResponseCached(boolean cached) {
+        this.responseCached = cached;
+    }
+
+    /**
+     * 중단된 답변 복구
+     * - 답변 생성 중 노드가 종료되어 체크포인트에 남은 부분 답변만 저장
+     * - 상태: INTERRUPTED
+     */
+    public void markInterrupted(ChatContent partialAnswer) {
+        this.answerContent = partialAnswer;
+        this.status = ChatStatus.INTERRUPTED;
+        this.answeredAt = LocalDateTime.now();
+    }
+
+    /**
+     * 사용자 요청으로 중단된 답변 저장
+     * - 중단 시점까지 생성된 부분 답변만 저장
+     * - 상태: CANCELLED
+     */
+    public void markCancelled(ChatContent partialAnswer) {
+        this.answerContent = partialAnswer;
+        this.status = ChatStatus.CANCELLED;
+        this.answeredAt = LocalDateTime.now();
+        completeStage(ChatStage.ANSWER);
     }
 
     /**
@@ -153,16 +228,35 @@ public class Chat extends BaseTimeEntity {
      * - 상태: SUMMARY_KEYWORDS
      * - updatedAt 기록
      */
-    public void updateSummaryAndKeywords(String summary, String keywords) {
-        this.summary = summary;
+    public void updateSummaryAndKeywords(ChatContent summary, String keywords) {
+        this.summaryContent = summary;
         this.keywords = keywords;
         this.status = ChatStatus.SUMMARY_KEYWORDS;
         this.updatedAt = LocalDateTime.now();
+        completeStage(ChatStage.SUMMARY);
+    }
+
+    /**
+     * 후처리 단계 완료 기록
+     * - 단계 결과 저장과 같은 트랜잭션에서 호출 (결과와 완료 표시가 함께 커밋)
+     */
+    public void completeStage(ChatStage stage) {
+        this.completedStages |= stage.getBit();
+    }
+
+    public boolean isStageCompleted(ChatStage stage) {
+        return (this.completedStages & stage.getBit()) != 0;
+    }
+
+    public String getQuestion() {
+        return questionContent == null ? null : questionContent.getBody();
+    }
+
+    public String getAnswer() {
+        return answerContent == null ? null : answerContent.getBody();
     }
 
-    public void updateSearchContent() {
-        String q = (this.question == null) ? "" : this.question;
-        String a = (this.answer == null) ? "" : this.answer;
-        this.searchContent = (q + " " + a).trim();
+    public String getSummary() {
+        return summaryContent == null ? null : summaryContent.getBody();
     }
 }
@@ -0,0 +1,50 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 대화 그래프 closure table (조상 → 자손, 모든 경로)
+ * - depth: 가장 가까운 경로의 간선 수 (부모 = 1)
+ * - 노드 생성 시 부모들의 조상 행을 복사해서 채움 (ChatAncestorRepository.insertClosure)
+ * - (descendant_id, depth) 인덱스로 임의 노드의 조상 전체를 한 번에 조회
+ */
+@Entity
+@Table(
+        name = "chat_ancestor",
+        indexes = {
+                @Index(name = "idx_chat_ancestor_descendant", columnList = "descendant_id, depth"),
+                @Index(name = "idx_chat_ancestor_room", columnList = "room_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatAncestor {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "ancestor_id")
+        private Long ancestorId;
+
+        @Column(name = "descendant_id")
+        private Long descendantId;
+    }
+}
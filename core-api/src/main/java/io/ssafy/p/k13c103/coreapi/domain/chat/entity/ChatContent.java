@@ -0,0 +1,38 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 질문 / 답변 / 요약 본문 (내용 해시 기준 중복 제거)
+ * - content_hash = sha256(UTF-8 본문) hex, 같은 본문은 한 행만 저장
+ * - ref_count: 이 본문을 가리키는 Chat 컬럼 수 (0 이하가 되면 ChatContentPurgeScheduler 가 정리)
+ * - 본문은 바뀌지 않으므로 엔티티는 읽기 전용, 쓰기는 ChatContentRepository 네이티브 쿼리로만
+ */
+@Entity
+@Immutable
+@BatchSize(size = 100)
+@Table(name = "chat_content")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatContent {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
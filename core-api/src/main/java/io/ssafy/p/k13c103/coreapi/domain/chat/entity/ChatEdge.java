@@ -0,0 +1,48 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.entity;
+
+import io.ssafy.p.k13c103.coreapi.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 대화 그래프의 부모 → 자식 간선 (한 노드가 여러 부모를 가질 수 있음)
+ * - 조회 / 정리는 id 기준 네이티브 쿼리로만 하므로 연관관계 대신 id 컬럼으로 보관
+ */
+@Entity
+@Table(
+        name = "chat_edge",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"parent_id", "child_id"}),
+        indexes = {
+                @Index(name = "idx_chat_edge_child", columnList = "child_id"),
+                @Index(name = "idx_chat_edge_room", columnList = "room_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ChatEdge extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_edge_seq_generator")
+    @SequenceGenerator(name = "chat_edge_seq_generator", sequenceName = "chat_edge_seq", allocationSize = 50)
+    @Column(name = "chat_edge_uid")
+    private Long chatEdgeUid;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "parent_id", nullable = false)
+    private Long parentId;
+
+    @Column(name = "child_id", nullable = false)
+    private Long childId;
+
+    public static ChatEdge of(Long roomId, Long parentId, Long childId) {
+        return ChatEdge.builder()
+                .roomId(roomId)
+                .parentId(parentId)
+                .childId(childId)
+                .build();
+    }
+}
@@ -4,7 +4,10 @@ public enum ChatSseEventType {
 
     ROOM_CREATED,
     QUESTION_CREATED,
+    CHAT_QUEUED,
     CHAT_STREAM,
+    CHAT_STREAM_SNAPSHOT,
+    CHAT_MODEL_SWITCHED,
     CHAT_DONE,
     CHAT_ERROR,
     ROOM_SHORT_SUMMARY,
@@ -0,0 +1,20 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 답변 후처리 단계 (Chat.completedStages 비트)
+ * - 완료된 단계는 작업이 재전달되어도 다시 실행하지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ChatStage {
+
+    ANSWER(1),
+    TITLE(1 << 1),
+    SUMMARY(1 << 2),
+    USAGE(1 << 3);
+
+    private final int bit;
+}
@@ -5,6 +5,8 @@ public enum ChatStatus {
     QUESTION,
     ANSWER,
     PENDING,
-    SUMMARY_KEYWORDS
+    SUMMARY_KEYWORDS,
+    INTERRUPTED,
+    CANCELLED
 
 }
@@ -0,0 +1,160 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.graph;
+
+import io.ssafy.p.k13c103.coreapi.config.properties.ChatContextProperties;
+import io.ssafy.p.k13c103.coreapi.domain.chat.context.ContextNode;
+import io.ssafy.p.k13c103.coreapi.domain.chat.context.ContextPacker;
+import io.ssafy.p.k13c103.coreapi.domain.chat.entity.Chat;
+import io.ssafy.p.k13c103.coreapi.domain.chat.entity.ChatEdge;
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatStatus;
+import io.ssafy.p.k13c103.coreapi.domain.chat.repository.ChatAncestorRepository;
+import io.ssafy.p.k13c103.coreapi.domain.chat.repository.ChatEdgeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버 측 대화 그래프 (DAG)
+ * - 노드 생성 시 부모 간선(chat_edge) + 조상 closure(chat_ancestor) + 경로 digest 기록 (호출 측 트랜잭션 안에서)
+ * - 컨텍스트는 조상 closure 한 번 조회 → ContextPacker 로 토큰 예산 안에서 구성
+ * - 같은 부모 집합에서 갈라지는 형제 노드는 경로 digest 가 같으므로 구성된 컨텍스트를 재사용
+ *   (조상이 모두 요약까지 끝난 경우만 보관, 생성 중인 조상이 있으면 내용이 바뀌므로 매번 구성)
+ */
+@Slf4j
+@Component
+public class ChatBranchGraph {
+
+    private final ChatEdgeRepository chatEdgeRepository;
+    private final ChatAncestorRepository chatAncestorRepository;
+    private final ContextPacker contextPacker;
+    private final Map<String, String> packed;
+
+    public ChatBranchGraph(ChatEdgeRepository chatEdgeRepository,
+                           ChatAncestorRepository chatAncestorRepository,
+                           ContextPacker contextPacker,
+                           ChatContextProperties properties) {
+        this.chatEdgeRepository = chatEdgeRepository;
+        this.chatAncestorRepository = chatAncestorRepository;
+        this.contextPacker = contextPacker;
+        this.packed = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > properties.getPackedCacheMaxEntries();
+            }
+        };
+    }
+
+    /**
+     * 새 노드를 부모들에 연결 (부모는 같은 방의 저장된 채팅, 없으면 루트)
+     */
+    public void link(Chat child, List<Chat> parents) {
+        Long roomId = child.getRoom().getRoomUid();
+        if (!parents.isEmpty()) {
+            List<Long> parentIds = parents.stream().map(Chat::getChatUid).toList();
+            chatEdgeRepository.saveAll(parentIds.stream()
+                    .map(parentId -> ChatEdge.of(roomId, parentId, child.getChatUid()))
+                    .toList());
+            chatAncestorRepository.insertClosure(roomId, child.getChatUid(), parentIds);
+        }
+        child.assignPathDigest(sha256(parentsDigest(parents) + "/" + child.getChatUid()));
+    }
+
+    /**
+     * 저장된 노드들을 순서대로 한 줄로 연결 (첫 노드가 루트)
+     * - 간선은 saveAll 한 번, closure 는 n(n-1)/2 행을 INSERT 한 번으로 기록
+     */
+    public void linkChain(List<Chat> chain) {
+        if (chain.isEmpty()) return;
+        Long roomId = chain.get(0).getRoom().getRoomUid();
+
+        List<ChatEdge> edges = new ArrayList<>(chain.size());
+        List<Long> ancestorIds = new ArrayList<>();
+        List<Long> descendantIds = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        String parentsDigest = parentsDigest(List.of());
+        for (int i = 0; i < chain.size(); i++) {
+            Chat chat = chain.get(i);
+            if (i > 0) {
+                edges.add(ChatEdge.of(roomId, chain.get(i - 1).getChatUid(), chat.getChatUid()));
+                for (int j = 0; j < i; j++) {
+                    ancestorIds.add(chain.get(j).getChatUid());
+                    descendantIds.add(chat.getChatUid());
+                    depths.add(i - j);
+                }
+            }
+            chat.assignPathDigest(sha256(parentsDigest + "/" + chat.getChatUid()));
+            parentsDigest = parentsDigest(List.of(chat));
+        }
+
+        if (!edges.isEmpty()) {
+            chatEdgeRepository.saveAll(edges);
+            chatAncestorRepository.insertRows(roomId,
+                    ancestorIds.toArray(Long[]::new), descendantIds.toArray(Long[]::new), depths.toArray(Integer[]::new));
+        }
+    }
+
+    /**
+     * 노드의 조상으로 컨텍스트 구성 (link 이후 호출)
+     */
+    public String assembleContext(String model, Chat child, List<Chat> parents, String question) {
+        if (parents.isEmpty()) return "";
+
+        String cacheKey = parentsDigest(parents) + "|" + model;
+        String cached;
+        synchronized (packed) {
+            cached = packed.get(cacheKey);
+        }
+        if (cached != null && contextPacker.fits(model, cached, question)) {
+            log.debug("[CONTEXT] 공유 경로 컨텍스트 재사용 → chatId={}, model={}", child.getChatUid(), model);
+            return cached;
+        }
+
+        List<ChatAncestorRepository.AncestorRow> ancestors = chatAncestorRepository.findAncestors(child.getChatUid());
+        String context = contextPacker.pack(model,
+                ancestors.stream()
+                        .map(row -> new ContextNode(row.getChatId(), row.getQuestion(), row.getAnswer(), row.getSummary()))
+                        .toList(),
+                question);
+
+        boolean settled = ancestors.stream()
+                .allMatch(row -> ChatStatus.SUMMARY_KEYWORDS.name().equals(row.getStatus()));
+        if (settled) {
+            synchronized (packed) {
+                packed.put(cacheKey, context);
+            }
+        }
+        return context;
+    }
+
+    /**
+     * 방 삭제 시 간선 / closure 정리
+     */
+    public void removeRoom(Long roomUid) {
+        chatEdgeRepository.deleteByRoom(roomUid);
+        chatAncestorRepository.deleteByRoom(roomUid);
+    }
+
+    // 부모 순서와 무관하게 같은 부모 집합이면 같은 값 (digest 가 없는 이전 노드는 id 로 대체)
+    private String parentsDigest(List<Chat> parents) {
+        return sha256(String.join(",", parents.stream()
+                .map(parent -> parent.getPathDigest() != null ? parent.getPathDigest() : "id:" + parent.getChatUid())
+                .sorted()
+                .toList()));
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
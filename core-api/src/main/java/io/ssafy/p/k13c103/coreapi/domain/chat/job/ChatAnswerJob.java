@@ -0,0 +1,18 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.job;
+
+/**
+ * CHAT_ANSWER 작업 입력값
+ * - API 키는 Redis 에 남기지 않도록 memberId + provider 만 담고 실행 시점에 복호화
+ */
+public record ChatAnswerJob(
+        Long chatId,
+        Long memberId,
+        Long branchId,
+        String model,
+        String provider,
+        boolean useLlm,
+        boolean failover,
+        boolean useCache,
+        String contextPrompt
+) {
+}
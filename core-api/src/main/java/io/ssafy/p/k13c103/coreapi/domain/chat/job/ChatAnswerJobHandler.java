@@ -0,0 +1,69 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.job;
+
+import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
+import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
+import io.ssafy.p.k13c103.coreapi.common.job.Job;
+import io.ssafy.p.k13c103.coreapi.common.job.JobHandler;
+import io.ssafy.p.k13c103.coreapi.common.job.JobType;
+import io.ssafy.p.k13c103.coreapi.common.job.RedisJobQueue;
+import io.ssafy.p.k13c103.coreapi.domain.chat.service.ChatService;
+import io.ssafy.p.k13c103.coreapi.domain.chat.stream.AnswerRouteResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * CHAT_ANSWER: 답변 생성 → 성공 시 CHAT_SUMMARY 등록
+ * - LLM 오류는 이미 CHAT_ERROR 로 알린 상태이므로 재시도하지 않고 종료
+ * - 그 외 (DB / Redis 오류, 노드 종료 등) 는 큐의 재시도 정책을 따름
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatAnswerJobHandler implements JobHandler<ChatAnswerJob> {
+
+    private final ChatService chatService;
+    private final AnswerRouteResolver answerRouteResolver;
+    private final RedisJobQueue jobQueue;
+    private final Scheduler dbScheduler;
+
+    @Override
+    public JobType type() {
+        return JobType.CHAT_ANSWER;
+    }
+
+    @Override
+    public Class<ChatAnswerJob> payloadType() {
+        return ChatAnswerJob.class;
+    }
+
+    @Override
+    public Mono<Void> handle(ChatAnswerJob payload, Job job) {
+        // API 키는 실행 시점에 복호화 (failover 요청 시 전환 후보 모델의 키까지)
+        return Mono.fromCallable(() -> answerRouteResolver.resolve(
+                        payload.memberId(), payload.model(), payload.provider(), payload.useLlm(), payload.failover()))
+                .subscribeOn(dbScheduler)
+                .flatMap(routes -> chatService.generateAnswer(
+                        payload.chatId(),
+                        payload.branchId(),
+                        routes,
+                        payload.useLlm(),
+                        payload.useCache(),
+                        payload.contextPrompt()))
+                .onErrorResume(ApiException.class, e -> e.getErrorCode() == ErrorCode.LLM_PROCESS_ERROR
+                        ? Mono.just(false)
+                        : Mono.error(e))
+                .flatMap(answered -> {
+                    if (!answered) {
+                        return Mono.empty();
+                    }
+                    return Mono.fromRunnable(() -> jobQueue.enqueue(JobType.CHAT_SUMMARY,
+                                    new ChatSummaryJob(payload.chatId(), payload.branchId())))
+                            .subscribeOn(Schedulers.boundedElastic());
+                })
+                .then();
+    }
+}
@@ -0,0 +1,7 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.job;
+
+/**
+ * CHAT_SUMMARY 작업 입력값 (답변은 실행 시점에 DB 에서 조회)
+ */
+public record ChatSummaryJob(Long chatId, Long branchId) {
+}
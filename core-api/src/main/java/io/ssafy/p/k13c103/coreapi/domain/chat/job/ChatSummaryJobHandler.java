@@ -0,0 +1,35 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.job;
+
+import io.ssafy.p.k13c103.coreapi.common.job.Job;
+import io.ssafy.p.k13c103.coreapi.common.job.JobHandler;
+import io.ssafy.p.k13c103.coreapi.common.job.JobType;
+import io.ssafy.p.k13c103.coreapi.domain.chat.service.ChatService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * CHAT_SUMMARY: 짧은 요약(방 이름) + 긴 요약/키워드
+ * - 답변 생성과 분리된 단계라 요약 실패 시 답변은 다시 생성하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSummaryJobHandler implements JobHandler<ChatSummaryJob> {
+
+    private final ChatService chatService;
+
+    @Override
+    public JobType type() {
+        return JobType.CHAT_SUMMARY;
+    }
+
+    @Override
+    public Class<ChatSummaryJob> payloadType() {
+        return ChatSummaryJob.class;
+    }
+
+    @Override
+    public Mono<Void> handle(ChatSummaryJob payload, Job job) {
+        return chatService.summarizeAnswer(payload.chatId(), payload.branchId());
+    }
+}
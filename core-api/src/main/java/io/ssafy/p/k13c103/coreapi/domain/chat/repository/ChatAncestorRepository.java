@@ -0,0 +1,86 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.repository;
+
+import io.ssafy.p.k13c103.coreapi.domain.chat.entity.ChatAncestor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ChatAncestorRepository extends JpaRepository<ChatAncestor, ChatAncestor.Key> {
+
+    /**
+     * 새 노드의 조상 행 추가: 부모 자신(depth 1) + 부모들의 조상(depth + 1)
+     * - 여러 부모가 같은 조상을 공유하면 가장 가까운 depth 만 남김
+     * - 새 노드는 아직 자손이 없으므로 자손 쪽 전파는 필요 없음
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO chat_ancestor (ancestor_id, descendant_id, room_id, depth)
+            SELECT x.ancestor_id, :childId, :roomId, MIN(x.depth)
+            FROM (
+                SELECT a.ancestor_id, a.depth + 1 AS depth
+                FROM chat_ancestor a
+                WHERE a.descendant_id IN (:parentIds)
+                UNION ALL
+                SELECT c.chat_uid, 1
+                FROM chat c
+                WHERE c.chat_uid IN (:parentIds)
+            ) x
+            GROUP BY x.ancestor_id
+            ON CONFLICT (ancestor_id, descendant_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertClosure(Long roomId, Long childId, Collection<Long> parentIds);
+
+    /**
+     * 미리 계산한 조상 행을 한 번에 추가 (복제 노드 체인 등)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO chat_ancestor (ancestor_id, descendant_id, room_id, depth)
+            SELECT t.ancestor_id, t.descendant_id, :roomId, t.depth
+            FROM unnest(CAST(:ancestorIds AS bigint[]), CAST(:descendantIds AS bigint[]), CAST(:depths AS int[]))
+                 AS t(ancestor_id, descendant_id, depth)
+            ON CONFLICT (ancestor_id, descendant_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertRows(Long roomId, Long[] ancestorIds, Long[] descendantIds, Integer[] depths);
+
+    /**
+     * 노드의 조상 전체 (오래된 순: 먼 조상 → 부모)
+     */
+    @Query(value = """
+            SELECT c.chat_uid AS chatId,
+                   q.body     AS question,
+                   an.body    AS answer,
+                   s.body     AS summary,
+                   c.status   AS status,
+                   a.depth    AS depth
+            FROM chat_ancestor a
+            JOIN chat c ON c.chat_uid = a.ancestor_id
+            LEFT JOIN chat_content q  ON q.content_hash  = c.question_hash
+            LEFT JOIN chat_content an ON an.content_hash = c.answer_hash
+            LEFT JOIN chat_content s  ON s.content_hash  = c.summary_hash
+            WHERE a.descendant_id = :chatId
+            ORDER BY a.depth DESC, c.created_at ASC
+            """, nativeQuery = true)
+    List<AncestorRow> findAncestors(Long chatId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "DELETE FROM chat_ancestor WHERE room_id = :roomUid", nativeQuery = true)
+    int deleteByRoom(Long roomUid);
+
+    interface AncestorRow {
+        Long getChatId();
+
+        String getQuestion();
+
+        String getAnswer();
+
+        String getSummary();
+
+        String getStatus();
+
+        Integer getDepth();
+    }
+}
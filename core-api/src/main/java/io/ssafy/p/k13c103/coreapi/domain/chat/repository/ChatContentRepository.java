@@ -0,0 +1,92 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.repository;
+
+import io.ssafy.p.k13c103.coreapi.domain.chat.entity.ChatContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ChatContentRepository extends JpaRepository<ChatContent, String> {
+
+    // 없으면 생성(ref 1), 있으면 ref + 1
+    @Modifying
+    @Query(value = """
+            INSERT INTO chat_content (content_hash, body, ref_count, created_at)
+            VALUES (:hash, :body, 1, now())
+            ON CONFLICT (content_hash) DO UPDATE SET ref_count = chat_content.ref_count + 1
+            """, nativeQuery = true)
+    int upsert(String hash, String body);
+
+    /**
+     * 해시 목록만큼 ref 증감 (같은 해시가 여러 번 있으면 그 횟수만큼)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE chat_content cc
+               SET ref_count = cc.ref_count + :delta * x.n
+              FROM (SELECT h, COUNT(*) AS n FROM unnest(CAST(:hashes AS text[])) AS h GROUP BY h) x
+             WHERE cc.content_hash = x.h
+            """, nativeQuery = true)
+    int adjust(String[] hashes, int delta);
+
+    /**
+     * 방의 채팅이 가리키는 본문 ref 반환 (deleteChatsByRoom 직전에 호출)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE chat_content cc
+               SET ref_count = cc.ref_count - x.n
+              FROM (SELECT h, COUNT(*) AS n
+                      FROM (SELECT question_hash AS h FROM chat WHERE room_id = :roomUid
+                            UNION ALL SELECT answer_hash FROM chat WHERE room_id = :roomUid
+                            UNION ALL SELECT summary_hash FROM chat WHERE room_id = :roomUid) r
+                     WHERE h IS NOT NULL
+                     GROUP BY h) x
+             WHERE cc.content_hash = x.h
+            """, nativeQuery = true)
+    int releaseByRoom(Long roomUid);
+
+    /**
+     * 그룹 복제본이 가리키는 본문 ref 반환 (deleteAllGroupCopies 직전에 호출)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE chat_content cc
+               SET ref_count = cc.ref_count - x.n
+              FROM (SELECT h, COUNT(*) AS n
+                      FROM (SELECT question_hash AS h FROM chat WHERE group_id = :groupId AND is_chat = 'GROUP'
+                            UNION ALL SELECT answer_hash FROM chat WHERE group_id = :groupId AND is_chat = 'GROUP'
+                            UNION ALL SELECT summary_hash FROM chat WHERE group_id = :groupId AND is_chat = 'GROUP') g
+                     WHERE h IS NOT NULL
+                     GROUP BY h) x
+             WHERE cc.content_hash = x.h
+            """, nativeQuery = true)
+    int releaseByGroupCopies(Long groupId);
+
+    /**
+     * 채팅 id 목록이 가리키는 본문 ref 증감 (그룹 복제본 INSERT ... SELECT / 일부 삭제 시)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE chat_content cc
+               SET ref_count = cc.ref_count + :delta * x.n
+              FROM (SELECT h, COUNT(*) AS n
+                      FROM (SELECT question_hash AS h FROM chat WHERE chat_uid = ANY (CAST(:chatIds AS bigint[]))
+                            UNION ALL SELECT answer_hash FROM chat WHERE chat_uid = ANY (CAST(:chatIds AS bigint[]))
+                            UNION ALL SELECT summary_hash FROM chat WHERE chat_uid = ANY (CAST(:chatIds AS bigint[]))) c
+                     WHERE h IS NOT NULL
+                     GROUP BY h) x
+             WHERE cc.content_hash = x.h
+            """, nativeQuery = true)
+    int adjustByChats(Long[] chatIds, int delta);
+
+    // 참조가 남아 있지 않은 본문 정리 (ref 가 어긋났더라도 실제 참조가 있으면 남김)
+    @Modifying
+    @Query(value = """
+            DELETE FROM chat_content cc
+             WHERE cc.ref_count <= 0
+               AND NOT EXISTS (SELECT 1 FROM chat c WHERE c.question_hash = cc.content_hash)
+               AND NOT EXISTS (SELECT 1 FROM chat c WHERE c.answer_hash = cc.content_hash)
+               AND NOT EXISTS (SELECT 1 FROM chat c WHERE c.summary_hash = cc.content_hash)
+            """, nativeQuery = true)
+    int purgeUnreferenced();
+}
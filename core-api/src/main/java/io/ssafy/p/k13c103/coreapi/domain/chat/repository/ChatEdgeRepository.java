@@ -0,0 +1,18 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.repository;
+
+import io.ssafy.p.k13c103.coreapi.domain.chat.entity.ChatEdge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ChatEdgeRepository extends JpaRepository<ChatEdge, Long> {
+
+    @Query(value = "SELECT e.parent_id FROM chat_edge e WHERE e.child_id = :childId", nativeQuery = true)
+    List<Long> findParentIds(Long childId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "DELETE FROM chat_edge WHERE room_id = :roomUid", nativeQuery = true)
+    int deleteByRoom(Long roomUid);
+}
@@ -9,12 +9,65 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ChatRepository extends JpaRepository<Chat, Long> {
 
     List<Chat> findAllByGroup_GroupUidAndChatType(Long groupUid, ChatType chatType);
 
+    List<Chat> findAllByGroup_GroupUidInAndChatType(Collection<Long> groupUids, ChatType chatType);
+
+    /**
+     * 원본 채팅들을 그룹 복제본으로 한 번에 복사 (INSERT ... SELECT)
+     * - 본문은 해시 참조만 복사 (호출 측에서 ChatContentStore.retainChats)
+     * - id 는 Hibernate pooled 방식과 같이 배정: 50행마다 chat_seq nextval 1번 → 값 v 의 블록 v-49 ~ v 를 순서대로 사용
+     *   (increment = Chat 의 allocationSize 50, 행마다 nextval 하면 행당 블록 하나씩 소모)
+     * - 존재하지 않는 원본 id 는 건너뜀
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            WITH src AS (
+                SELECT c.*, row_number() OVER (ORDER BY c.chat_uid) - 1 AS rn
+                FROM chat c
+                WHERE c.chat_uid = ANY (CAST(:originIds AS bigint[]))
+            ), blocks AS (
+                SELECT b, nextval('chat_seq') AS hi
+                FROM generate_series(0, ((SELECT count(*) FROM src) + 49) / 50 - 1) AS b
+            )
+            INSERT INTO chat (chat_uid, group_id, model_catalog_uid, question_hash, answer_hash, summary_hash,
+                              keywords, origin_id, answered_model_catalog_uid, response_cached, status, is_chat,
+                              answered_at, completed_stages, created_at, updated_at)
+            SELECT blocks.hi - 49 + src.rn % 50, :groupId, src.model_catalog_uid, src.question_hash, src.answer_hash,
+                   src.summary_hash, src.keywords, src.chat_uid, src.answered_model_catalog_uid, src.response_cached,
+                   src.status, 'GROUP', src.answered_at, src.completed_stages, src.created_at, src.updated_at
+            FROM src
+            JOIN blocks ON blocks.b = src.rn / 50
+            ORDER BY src.rn
+            """, nativeQuery = true)
+    int insertGroupCopies(Long groupId, Long[] originIds);
+
+    /**
+     * 그룹 스냅샷에 요약 / 키워드가 채워졌는지 (영속성 컨텍스트를 거치지 않는 스칼라 조회)
+     */
+    @Query("""
+            select case when count(c) > 0 then true else false end
+            from Chat c
+            where c.chatUid = :chatId
+              and c.summaryContent is not null
+              and c.keywords is not null
+            """)
+    boolean isSnapshotFilled(@Param("chatId") Long chatId);
+
+    @Query("""
+            select c.chatUid as chatUid, c.originId as originId
+            from Chat c
+            where c.group.groupUid = :groupId
+              and c.chatType = io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatType.GROUP
+            order by c.chatUid
+            """)
+    List<GroupCopyRow> findGroupCopies(Long groupId);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
             delete from Chat c
@@ -23,27 +76,50 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
             """)
     int deleteAllGroupCopies(@Param("groupId") Long groupId);
 
+    /**
+     * 키워드 전체를 질문 또는 답변 본문에 포함하는 채팅 검색
+     * - 본문 컬럼별로 ILIKE (이어 붙인 문자열은 인덱스 사용 불가) → chat_content.body trigram 인덱스로 후보 해시를 먼저 좁힘
+     * - 키워드마다 질문 / 답변 중 하나에는 있어야 함
+     */
     @Query(
             value = """
                     SELECT c.*
                     FROM chat c
                     JOIN room r ON r.room_uid = c.room_id
+                    LEFT JOIN chat_content q ON q.content_hash = c.question_hash
+                    LEFT JOIN chat_content a ON a.content_hash = c.answer_hash
                     WHERE r.owner_id = :memberId
                       AND c.group_id IS NULL
                       AND c.status   = 'SUMMARY_KEYWORDS'
                       AND c.is_chat  = 'CHAT'
-                      AND c.search_content ILIKE ALL (CAST(:keywords AS text[]))
+                      AND (c.question_hash IN (SELECT m.content_hash FROM chat_content m WHERE m.body ILIKE ANY (CAST(:keywords AS text[])))
+                           OR c.answer_hash IN (SELECT m.content_hash FROM chat_content m WHERE m.body ILIKE ANY (CAST(:keywords AS text[]))))
+                      AND NOT EXISTS (
+                          SELECT 1
+                          FROM unnest(CAST(:keywords AS text[])) AS k(pattern)
+                          WHERE COALESCE(q.body, '') NOT ILIKE k.pattern
+                            AND COALESCE(a.body, '') NOT ILIKE k.pattern
+                      )
                     ORDER BY c.created_at DESC
                     """,
             countQuery = """
                     SELECT COUNT(*)
                     FROM chat c
                     JOIN room r ON r.room_uid = c.room_id
+                    LEFT JOIN chat_content q ON q.content_hash = c.question_hash
+                    LEFT JOIN chat_content a ON a.content_hash = c.answer_hash
                     WHERE r.owner_id = :memberId
                       AND c.group_id IS NULL
                       AND c.status   = 'SUMMARY_KEYWORDS'
                       AND c.is_chat  = 'CHAT'
-                      AND c.search_content ILIKE ALL (CAST(:keywords AS text[]))
+                      AND (c.question_hash IN (SELECT m.content_hash FROM chat_content m WHERE m.body ILIKE ANY (CAST(:keywords AS text[])))
+                           OR c.answer_hash IN (SELECT m.content_hash FROM chat_content m WHERE m.body ILIKE ANY (CAST(:keywords AS text[]))))
+                      AND NOT EXISTS (
+                          SELECT 1
+                          FROM unnest(CAST(:keywords AS text[])) AS k(pattern)
+                          WHERE COALESCE(q.body, '') NOT ILIKE k.pattern
+                            AND COALESCE(a.body, '') NOT ILIKE k.pattern
+                      )
                     """,
             nativeQuery = true
     )
@@ -97,4 +173,10 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
             nativeQuery = true
     )
     Page<Chat> findAllChats(Long memberId, Pageable pageable);
-}
\ No newline at end of file
+
+    interface GroupCopyRow {
+        Long getChatUid();
+
+        Long getOriginId();
+    }
+}
@@ -2,8 +2,10 @@ package io.ssafy.p.k13c103.coreapi.domain.chat.service;
 
 import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatRequestDto;
 import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatResponseDto;
+import io.ssafy.p.k13c103.coreapi.domain.chat.stream.AnswerRoute;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -13,5 +15,7 @@ public interface ChatService {
 
     ChatResponseDto.CopiedChatInfo copyChat(ChatRequestDto.CopyChat request, Long memberUid);
 
-    void processChatAsync(Long chatId, Long branchId, String apiKey, String model, String provider, boolean useLlm, String contextPrompt);
+    Mono<Boolean> generateAnswer(Long chatId, Long branchId, List<AnswerRoute> routes, boolean useLlm, boolean useCache, String contextPrompt);
+
+    Mono<Void> summarizeAnswer(Long chatId, Long branchId);
 }
@@ -1,26 +1,41 @@
 package io.ssafy.p.k13c103.coreapi.domain.chat.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
 import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
+import io.ssafy.p.k13c103.coreapi.common.error.Retries;
+import io.ssafy.p.k13c103.coreapi.common.error.RateLimitedException;
+import io.ssafy.p.k13c103.coreapi.common.sse.SseDeltaCoalescer;
 import io.ssafy.p.k13c103.coreapi.common.sse.SseEmitterManager;
 import io.ssafy.p.k13c103.coreapi.config.properties.AiProcessingProperties;
+import io.ssafy.p.k13c103.coreapi.config.properties.ChatRetryProperties;
 import io.ssafy.p.k13c103.coreapi.domain.catalog.entity.ProviderCatalog;
 import io.ssafy.p.k13c103.coreapi.domain.catalog.repository.ProviderCatalogRepository;
+import io.ssafy.p.k13c103.coreapi.domain.chat.content.ChatContentStore;
+import io.ssafy.p.k13c103.coreapi.domain.chat.context.ContextPacker;
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.AiShortSummaryResponseDto;
 import io.ssafy.p.k13c103.coreapi.domain.chat.dto.CachedPageDto;
 import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatRequestDto;
 import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatResponseDto;
 import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatSseEvent;
 import io.ssafy.p.k13c103.coreapi.domain.chat.entity.Chat;
 import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatSseEventType;
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatStage;
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatStatus;
 import io.ssafy.p.k13c103.coreapi.domain.chat.repository.ChatRepository;
+import io.ssafy.p.k13c103.coreapi.domain.chat.stream.AnswerRoute;
+import io.ssafy.p.k13c103.coreapi.domain.chat.stream.ChatGenerationRegistry;
+import io.ssafy.p.k13c103.coreapi.domain.chat.stream.ChatResponseCache;
+import io.ssafy.p.k13c103.coreapi.domain.chat.stream.ChatStreamCheckpointStore;
 import io.ssafy.p.k13c103.coreapi.domain.key.entity.Key;
 import io.ssafy.p.k13c103.coreapi.domain.key.repository.KeyRepository;
 import io.ssafy.p.k13c103.coreapi.domain.llm.AiAsyncClient;
+import io.ssafy.p.k13c103.coreapi.domain.llm.DecodedChunk;
 import io.ssafy.p.k13c103.coreapi.domain.llm.LiteLlmWebClient;
-import io.ssafy.p.k13c103.coreapi.domain.llm.LlmStreamParser;
+import io.ssafy.p.k13c103.coreapi.domain.llm.LlmChunkDecoder;
+import io.ssafy.p.k13c103.coreapi.domain.llm.LlmProvider;
+import io.ssafy.p.k13c103.coreapi.domain.llm.LlmRateLimiter;
 import io.ssafy.p.k13c103.coreapi.domain.member.repository.MemberRepository;
 import io.ssafy.p.k13c103.coreapi.domain.room.entity.Room;
 import io.ssafy.p.k13c103.coreapi.domain.room.repository.RoomRepository;
@@ -30,16 +45,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
@@ -48,18 +65,27 @@ import java.util.concurrent.atomic.AtomicReference;
 public class ChatServiceImpl implements ChatService {
 
     private final ChatRepository chatRepository;
+    private final ChatContentStore chatContentStore;
     private final RoomRepository roomRepository;
     private final MemberRepository memberRepository;
     private final KeyRepository keyRepository;
     private final ProviderCatalogRepository providerCatalogRepository;
     private final SseEmitterManager sseEmitterManager;
+    private final SseDeltaCoalescer sseDeltaCoalescer;
+    private final ChatStreamCheckpointStore chatStreamCheckpointStore;
+    private final ChatGenerationRegistry chatGenerationRegistry;
     private final LiteLlmWebClient liteLlmWebClient;
-    private final LlmStreamParser llmStreamParser;
+    private final LlmRateLimiter llmRateLimiter;
+    private final ChatResponseCache chatResponseCache;
+    private final ContextPacker contextPacker;
+    private final LlmChunkDecoder llmChunkDecoder;
     private final AiAsyncClient aiAsyncClient;
     private final ObjectMapper objectMapper;
-    private final Executor aiTaskExecutor;  // 동일 스레드풀 명시적으로 주입
+    private final Scheduler dbScheduler;    // 블로킹 JPA 쓰기 전용
+    private final TransactionTemplate txTemplate;
     private final AiProcessingProperties aiProcessingProperties;
     private final RedisTemplate<String, String> redisTemplate;
+    private final ChatRetryProperties chatRetryProperties;
 
     @Override
     @Transactional(readOnly = true)
@@ -116,6 +142,7 @@ public class ChatServiceImpl implements ChatService {
 
         Chat newChat = Chat.cloneFrom(origin, room);
         chatRepository.save(newChat);
+        chatContentStore.retain(List.of(newChat));
 
         return ChatResponseDto.CopiedChatInfo.builder()
                 .copyId(newChat.getChatUid())
@@ -124,247 +151,377 @@ public class ChatServiceImpl implements ChatService {
     }
 
     /**
-     * 채팅 처리 비동기 실행
-     * 1. 답변 생성
-     * 2. 짧은 요약 생성
-     * 3. 긴 요약 + 키워드 생성
+     * STEP 1. 답변 생성 (작업 큐의 CHAT_ANSWER 단계)
+     * - 스트림 수신은 Reactor Netty 이벤트 루프에서 처리 (스레드 점유 X)
+     * - DB 접근은 짧은 트랜잭션으로 분리: 조회 → (커넥션 없이 스트리밍) → 답변 저장
+     * - 답변 스트리밍 동안 ChatGenerationRegistry 에 등록 (중단 요청 시 부분 답변 저장 후 종료)
+     * - 답변 단계가 이미 끝난 채팅(재전달된 작업 등)은 다시 스트리밍하지 않음
+     * - 이전 전달에서 스트리밍이 시작된 채팅(체크포인트 있음: 작업 시간 초과 / 노드 장애 후 재전달)도 다시 생성하지 않음
+     *   → 다른 노드에서 아직 생성 중이면 그대로 두고, 멈췄으면 ChatStreamRecoveryScheduler 가 부분 답변을 INTERRUPTED 로 저장
+     * - useCache: 같은 회원 + 같은 키 / 모델 + 같은 프롬프트의 답변이 캐시에 있으면 LLM 대신 캐시 답변을 재생
+     * - 결과: 요약 단계를 진행해야 하면 true (중단/건너뜀은 false, 요약이 남은 재전달은 true)
      */
-    @Async("aiTaskExecutor")
-    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
     @Override
-    public void processChatAsync(Long chatId, Long branchId, String apiKey, String model, String provider, boolean useLlm, String contextPrompt) {
-        Chat chat = chatRepository.findById(chatId)
-                .orElseThrow(() -> new ApiException(ErrorCode.CHAT_NOT_FOUND));
-        Long roomId = chat.getRoom().getRoomUid();
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new ApiException(ErrorCode.ROOM_NOT_FOUND));
+    public Mono<Boolean> generateAnswer(Long chatId, Long branchId, List<AnswerRoute> routes, boolean useLlm, boolean useCache, String contextPrompt) {
+        // 조회 트랜잭션: 스트리밍 전에 필요한 값만 꺼내고 즉시 커넥션 반환
+        return Mono.fromCallable(() -> txTemplate.execute(status -> {
+                    Chat chat = chatRepository.findById(chatId)
+                            .orElseThrow(() -> new ApiException(ErrorCode.CHAT_NOT_FOUND));
+                    if (chat.isStageCompleted(ChatStage.ANSWER) || chat.getStatus() != ChatStatus.QUESTION) {
+                        boolean summaryPending = isSummaryPending(chat);
+                        log.info("[ASYNC] Chat {} 이미 처리됨 (status={}) → 답변 생성 건너뜀{}",
+                                chatId, chat.getStatus(), summaryPending ? ", 요약 단계만 진행" : "");
+                        return new AnswerLookup(null, summaryPending);
+                    }
+                    Room room = chat.getRoom();
+                    if (room == null) {
+                        throw new ApiException(ErrorCode.ROOM_NOT_FOUND);
+                    }
+                    return new AnswerLookup(
+                            new GenerationTarget(chat.getChatUid(), room.getRoomUid(), room.getOwner().getMemberUid(), chat.getQuestion()),
+                            false);
+                }))
+                .subscribeOn(dbScheduler)
+                .flatMap(lookup -> {
+                    if (lookup.target() == null) {
+                        return Mono.just(lookup.summaryPending());
+                    }
+                    GenerationTarget target = lookup.target();
+                    if (chatStreamCheckpointStore.hasCheckpoint(target.chatId())) {
+                        log.warn("[ASYNC] Chat {} 이전 전달에서 스트리밍 시작됨 → 재생성하지 않고 복구 스케줄러에 맡김", chatId);
+                        return Mono.just(false);
+                    }
+                    AnswerRoute primary = routes.get(0);
+                    // 컨텍스트는 등록 시 토큰 예산 안으로 구성됨, 예산을 넘는 경우만 최근 쪽을 남김
+                    String safeContext = contextPacker.clip(primary.model(), contextPrompt);
+                    if (safeContext != null && contextPrompt.length() != safeContext.length()) {
+                        log.debug("[ASYNC] contextPrompt 토큰 예산 초과 → 뒤에서 {}자만 사용", safeContext.length());
+                    }
+
+                    log.info("[ASYNC] Chat {} -> AI 답변 생성 시작 (model={}, provider={}, useLlm={}, useCache={}, fallbacks={}, ctxLen={})",
+                            chatId, primary.model(), primary.provider(), useLlm, useCache, routes.size() - 1,
+                            safeContext == null ? 0 : safeContext.length());
+
+                    // message 구성: LLM API 규격에 맞춰 user 질문으로 변환
+                    List<Map<String, String>> messages = new ArrayList<>();
+                    if (safeContext != null && !safeContext.isBlank()) {
+                        messages.add(Map.of(
+                                "role", "system",
+                                "content",
+                                """
+                                        당신은 사용자의 대화 히스토리를 이해하고 일관성 있는 응답을 생성하는 AI 어시스턴트입니다.
+                                        아래의 대화 내용을 참고해 맥락을 유지한 자연스러운 답변을 생성하세요.
+                                        
+                                        [이전 대화 요약 또는 내용]
+                                        """ + safeContext
+                        ));
+                    }
+                    messages.add(Map.of("role", "user", "content", target.question()));
+
+                    ChatGenerationRegistry.Generation generation = chatGenerationRegistry.register(target.chatId(), target.roomId());
+                    return streamAnswer(target, routes, useLlm, useCache, messages, generation)
+                            .doOnSubscribe(subscription -> generation.attach(subscription::cancel))
+                            .doFinally(signal -> chatGenerationRegistry.unregister(generation))
+                            .map(answer -> true);
+                })
+                .defaultIfEmpty(false);
+    }
 
-        String safeContext = contextPrompt;
-        if (safeContext != null && safeContext.length() > 2000) {
-            safeContext = safeContext.substring(safeContext.length() - 2000);
-            log.debug("[ASYNC] contextPrompt 길이 초과 → 뒤에서 2000자만 사용");
-        }
+    /**
+     * STEP 2, 3. 저장된 답변 요약 (작업 큐의 CHAT_SUMMARY 단계)
+     * - 짧은 요약(방 이름)과 긴 요약 + 키워드를 병렬 진행, 단계마다 일시적 오류는 자체 재시도
+     * - 한쪽이 실패해도 다른 쪽은 끝까지 진행한 뒤 에러 전파 → 작업 재전달 시 완료된 단계는 건너뜀
+     */
+    @Override
+    public Mono<Void> summarizeAnswer(Long chatId, Long branchId) {
+        return Mono.fromCallable(() -> txTemplate.execute(status -> {
+                    Chat chat = chatRepository.findById(chatId)
+                            .orElseThrow(() -> new ApiException(ErrorCode.CHAT_NOT_FOUND));
+                    Room room = chat.getRoom();
+                    if (room == null) {
+                        throw new ApiException(ErrorCode.ROOM_NOT_FOUND);
+                    }
+                    if (chat.getAnswer() == null || chat.getAnswer().isBlank()) {
+                        log.warn("[ASYNC] Chat {} 저장된 답변 없음 → 요약 건너뜀", chatId);
+                        return null;
+                    }
+                    return new SummaryTarget(
+                            new GenerationTarget(chat.getChatUid(), room.getRoomUid(), room.getOwner().getMemberUid(), chat.getQuestion()),
+                            chat.getAnswer(),
+                            chat.isStageCompleted(ChatStage.TITLE),
+                            chat.isStageCompleted(ChatStage.SUMMARY));
+                }))
+                .subscribeOn(dbScheduler)
+                .flatMap(summaryTarget -> Mono.whenDelayError(
+                        summaryTarget.titleDone()
+                                ? Mono.empty()
+                                : updateRoomTitle(summaryTarget.target(), branchId, summaryTarget.answer()),
+                        summaryTarget.summaryDone()
+                                ? Mono.empty()
+                                : updateSummaryAndKeywords(summaryTarget.target(), branchId, summaryTarget.answer())
+                ))
+                .doOnSuccess(unused -> log.info("[ASYNC] Chat {} 요약 처리 완료", chatId));
+    }
 
-        log.info("[ASYNC] Chat {} -> 비동기 AI 처리 시작 (model={}, provider={}, useLlm={}, ctxLen={})",
-                chatId, model, provider, useLlm, safeContext == null ? 0 : safeContext.length());
-
-        // 1. 답변 생성
-        // message 구성: LLM API 규격에 맞춰 user 질문으로 변환
-        List<Map<String, String>> messages = new ArrayList<>();
-        if (safeContext != null && !safeContext.isBlank()) {
-            messages.add(Map.of(
-                    "role", "system",
-                    "content",
-                    """
-                            당신은 사용자의 대화 히스토리를 이해하고 일관성 있는 응답을 생성하는 AI 어시스턴트입니다.
-                            아래의 대화 내용을 참고해 맥락을 유지한 자연스러운 답변을 생성하세요.
-                            
-                            [이전 대화 요약 또는 내용]
-                            """ + safeContext
-            ));
+    /**
+     * STEP 1. 답변 스트리밍
+     * - 청크마다 delta 를 SSE 로 전달 (이 구간에서는 DB 커넥션을 잡지 않음)
+     * - 전송한 delta 는 Redis 체크포인트에도 묶어서 기록 (중간 합류 스냅샷 / 노드 장애 복구용)
+     * - 연결 전에 API 키 + provider 단위 호출 한도 확인, 초과 시 CHAT_QUEUED (예상 대기 시간) 전송 후 대기
+     * - 첫 청크 수신 전 일시적 오류(429 / 5xx / 타임아웃)만 재시도 → 이미 전송한 delta 를 다시 보내지 않음
+     * - 재시도로도 실패하면(또는 차단기가 열려 있으면) 다음 후보 모델로 전환 후 CHAT_MODEL_SWITCHED 전송 (첫 청크 수신 전까지만)
+     * - 스트림 종료 시 답변을 짧은 트랜잭션으로 저장 (ANSWER 완료 표시 + 답변한 모델 포함), 토큰 사용량은 별도 단계로 누적
+     * - 저장 완료 후 CHAT_DONE 전송, 최종 답변을 다음 단계로 전달
+     * - 캐시 적중 시 한도 확인 / LLM 호출 없이 캐시 답변을 설정된 속도로 나눠 같은 경로(CHAT_STREAM)로 전송, CHAT_DONE.cached = true
+     * - 캐시를 요청한 경우 첫 모델이 끝까지 답변한 결과만 캐시에 저장
+     * - 중단 요청 시 업스트림을 끊고 부분 답변을 CANCELLED 로 저장 (다음 단계로는 전달 X)
+     * - LLM / 스트림 오류만 CHAT_ERROR + LLM_PROCESS_ERROR 로 변환, 스트림 종료 후 저장 / Redis 오류는 그대로 전파
+     *   (체크포인트는 전체 답변을 가진 채 남음 → 재전달 시 재생성하지 않고 복구 스케줄러가 저장)
+     */
+    private Mono<String> streamAnswer(GenerationTarget target, List<AnswerRoute> routes, boolean useLlm, boolean useCache,
+                                      List<Map<String, String>> messages,
+                                      ChatGenerationRegistry.Generation generation) {
+        // 스트림 활성화 여부 설정값 반영
+        if (!aiProcessingProperties.isStreamEnabled()) {
+            log.warn("[STEP 1] Stream 비활성화됨 → 동기 모드로 처리 예정");
         }
-        messages.add(Map.of("role", "user", "content", chat.getQuestion()));
-
-        StringBuilder accumulatedAnswer = new StringBuilder();
 
-        CompletableFuture<String> answerFuture = CompletableFuture.supplyAsync(() -> {
-            log.info("[STEP 1] Chat {} → 답변 생성 시작", chat.getChatUid());
+        // 디코딩 결과 객체는 스트림 내에서 재사용
+        final DecodedChunk decoded = new DecodedChunk();
+        final StringBuilder accumulatedAnswer = new StringBuilder();
+        // CHAT_STREAM 은 시간 창 / 바이트 기준으로 묶어서 전송, 전송분은 체크포인트에 누적
+        final ChatStreamCheckpointStore.Checkpoint checkpoint = chatStreamCheckpointStore.open(target.roomId(), target.chatId());
+        final SseDeltaCoalescer.DeltaBuffer deltaBuffer =
+                sseDeltaCoalescer.open(target.roomId(), target.chatId(), checkpoint::append);
+        final AtomicBoolean received = new AtomicBoolean();
+        final AtomicReference<AnswerRoute> activeRoute = new AtomicReference<>(routes.get(0));
+        final int estimatedTokens = llmRateLimiter.estimateTokens(messages);
+        final String cacheKey = chatResponseCache.isEnabled(useCache) ? chatResponseCache.keyOf(target.ownerId(), routes.get(0), messages) : null;
+        final AtomicBoolean cacheHit = new AtomicBoolean();
+        // 스트림이 끝난 뒤의 오류(저장 / Redis)는 LLM 오류가 아님 → 체크포인트 유지 후 큐 재시도에 맡김
+        final AtomicBoolean streamed = new AtomicBoolean();
+
+        Flux<String> chunks = openStream(target, routes.get(0), useLlm, messages, estimatedTokens, received, generation);
+        for (AnswerRoute next : routes.subList(1, routes.size())) {
+            chunks = chunks.onErrorResume(
+                    error -> !received.get() && !generation.isCancelled() && isFailoverable(error),
+                    error -> {
+                        AnswerRoute failed = activeRoute.getAndSet(next);
+                        sendModelSwitched(target, failed, next, error);
+                        return openStream(target, next, useLlm, messages, estimatedTokens, received, generation);
+                    });
+        }
 
+        Flux<String> deltas = chunks.handle((chunk, sink) -> {
             try {
-                // 스트림 활성화 여부 설정값 반영
-                if (!aiProcessingProperties.isStreamEnabled()) {
-                    log.warn("[STEP 1] Stream 비활성화됨 → 동기 모드로 처리 예정");
-                }
-
-                AtomicReference<JsonNode> usageRef = new AtomicReference<>();
-                final boolean[] doneEmitted = {false};
-
-                // Flux<String> 스트림 수신
-                Flux<String> stream = liteLlmWebClient.createChatStream(apiKey, model, provider, messages, useLlm);
-
-                // 스트림 구독: 청크 단위로 처리
-                stream
-                        .doOnNext(chunk -> {
-                            try {
-                                JsonNode usageNode = llmStreamParser.extractUsage(provider, chunk);
-                                if (usageNode != null) {
-                                    usageRef.set(usageNode);
-                                }
-
-                                String delta = llmStreamParser.extractDeltaContent(provider, chunk);
-                                if (delta != null && !delta.isBlank()) {
-                                    accumulatedAnswer.append(delta);
-
-                                    Map<String, Object> payload = new LinkedHashMap<>();
-                                    payload.put("chat_id", chat.getChatUid());
-                                    payload.put("delta", delta);
-
-                                    sseEmitterManager.sendEvent(
-                                            room.getRoomUid(),
-                                            new ChatSseEvent<>(ChatSseEventType.CHAT_STREAM, payload)
-                                    );
-                                }
+                // 청크 포맷 기준 provider (LiteLLM 경유 시 OpenAI 포맷)
+                llmChunkDecoder.decode(LlmProvider.wireFormat(activeRoute.get().provider(), useLlm), chunk, decoded);
 
-                                // [DONE] 감지 시 DB 업데이트 + SSE 완료 이벤트 전송
-                                if (!doneEmitted[0] && llmStreamParser.isDoneChunk(provider, chunk)) {
-                                    doneEmitted[0] = true;
-
-                                    chat.updateAnswer(accumulatedAnswer.toString());
-
-                                    applyTokenUsageIfPresent(room, provider, usageRef.get());
-
-                                    chatRepository.save(chat);
-
-                                    Map<String, Object> payload = new LinkedHashMap<>();
-                                    payload.put("chat_id", chat.getChatUid());
-                                    payload.put("answer", accumulatedAnswer.toString());
-                                    payload.put("answered_at", chat.getAnsweredAt());
-
-                                    sseEmitterManager.sendEvent(
-                                            room.getRoomUid(),
-                                            new ChatSseEvent<>(ChatSseEventType.CHAT_DONE, payload)
-                                    );
+                if (decoded.hasDelta()) {
+                    sink.next(decoded.getDelta());
+                }
+            } catch (Exception e) {
+                log.error("[STREAM] 청크 파싱 에러: {}", e.getMessage());
+            }
+        });
+        if (cacheKey != null) {
+            // 미적중이면 그때 LLM 스트림 구독 (한도 확인 포함)
+            Flux<String> live = deltas;
+            deltas = chatResponseCache.get(cacheKey)
+                    .flatMapMany(cached -> {
+                        cacheHit.set(true);
+                        log.info("[STREAM] Chat {} 답변 캐시 적중 → 캐시 답변 재생 (len={})", target.chatId(), cached.length());
+                        return chatResponseCache.replay(cached);
+                    })
+                    .switchIfEmpty(live);
+        }
 
-                                    log.info("[STREAM] Chat {} 스트리밍 종료 (provider={}, model={})",
-                                            chat.getChatUid(), provider, model);
+        return deltas
+                // 중단 신호 → 업스트림 구독 취소 (HTTP 요청 종료) 후 정상 완료로 처리
+                .takeUntilOther(generation.stopSignal())
+                .doOnNext(delta -> {
+                    accumulatedAnswer.append(delta);
+                    deltaBuffer.append(delta);
+                })
+                .doOnComplete(() -> {
+                    deltaBuffer.flush();
+                    checkpoint.flush();
+                    streamed.set(true);
+                    log.info("[STREAM] Chat {} {} ({}{})", target.chatId(),
+                            generation.isCancelled() ? "사용자 요청으로 중단" : "모든 청크 처리 완료", activeRoute.get(),
+                            cacheHit.get() ? ", cached" : "");
+                })
+                // 스트림 종료 → 답변 저장 트랜잭션 (블로킹 구간만 dbScheduler)
+                .then(Mono.defer(() -> {
+                    String answer = accumulatedAnswer.toString();
+                    boolean cancelled = generation.isCancelled();
+                    boolean cached = cacheHit.get();
+                    AnswerRoute answeredBy = activeRoute.get();
+                    if (decoded.isUsagePresent()) {
+                        llmRateLimiter.settle(answeredBy.keyUid(), answeredBy.provider(), estimatedTokens, decoded.getTotalTokens());
+                    }
+
+                    return Mono.fromCallable(() -> txTemplate.execute(status -> {
+                                Chat chat = chatRepository.findById(target.chatId())
+                                        .orElseThrow(() -> new ApiException(ErrorCode.CHAT_NOT_FOUND));
+                                if (cancelled) {
+                                    chat.markCancelled(chatContentStore.swap(chat.getAnswerContent(), answer));
+                                } else {
+                                    chat.updateAnswer(chatContentStore.swap(chat.getAnswerContent(), answer));
                                 }
-                            } catch (Exception e) {
-                                log.error("[STREAM] 청크 파싱 에러: {}", e.getMessage());
-                            }
-                        })
-                        .doOnError(error -> {
-                            log.error("[STREAM] Chat {} 오류 발생: {}", chat.getChatUid(), error.getMessage());
-
-                            try {
-                                applyTokenUsageIfPresent(room, provider, usageRef.get());
-                            } catch (Exception ex) {
-                                log.warn("[STREAM] 오류 중 tokenUsage 반영 실패: {}", ex.getMessage());
-                            }
-
-                            Map<String, Object> payload = new LinkedHashMap<>();
-                            payload.put("chat_id", chat.getChatUid());
-                            payload.put("error", error.getMessage());
-
-                            sseEmitterManager.sendEvent(
-                                    room.getRoomUid(),
-                                    new ChatSseEvent<>(ChatSseEventType.CHAT_ERROR, payload)
-                            );
-                        })
-                        .doOnComplete(() ->
-                                log.info("[STREAM] Chat {} 모든 청크 처리 완료", chat.getChatUid())
-                        )
-                        .blockLast();
-
-                // 최종 답변 반환
-                return accumulatedAnswer.toString();
-            } catch (Exception e) {
-                log.error("[STEP 1] LLM 스트리밍 실패: {}", e.getMessage());
+                                chat.recordAnsweredModel(answeredBy.modelCatalogUid());
+                                chat.recordResponseCached(cached);
+                                chatRepository.save(chat);
+                                return chat.getAnsweredAt();
+                            }))
+                            .subscribeOn(dbScheduler)
+                            // 저장은 덮어쓰기라 재시도해도 무해 (LLM 은 다시 호출하지 않음)
+                            .retryWhen(stageRetry(ChatStage.ANSWER, target.chatId()))
+                            .flatMap(answeredAt -> {
+                                // DB 에 답변이 저장된 뒤에는 체크포인트 불필요
+                                checkpoint.clear();
+
+                                Map<String, Object> payload = new LinkedHashMap<>();
+                                payload.put("chat_id", target.chatId());
+                                payload.put("answer", answer);
+                                payload.put("answered_at", answeredAt);
+                                payload.put("cancelled", cancelled);
+                                payload.put("model", answeredBy.model());
+                                payload.put("cached", cached);
+
+                                sseEmitterManager.sendEvent(
+                                        target.roomId(),
+                                        new ChatSseEvent<>(ChatSseEventType.CHAT_DONE, payload)
+                                );
+                                // 전환된 모델의 답변은 첫 모델 키로 저장하지 않음
+                                boolean cacheable = cacheKey != null && !cancelled && !cached && answeredBy == routes.get(0);
+                                return recordTokenUsage(target, answeredBy.provider(), decoded)
+                                        .then(cacheable ? chatResponseCache.put(cacheKey, answer) : Mono.empty())
+                                        .then(cancelled ? Mono.<String>empty() : Mono.just(answer));
+                            });
+                }))
+                .onErrorResume(error -> {
+                    if (streamed.get()) {
+                        log.error("[STREAM] Chat {} 답변 저장 / 후속 처리 실패 → 작업 재시도: {}", target.chatId(), error.getMessage());
+                        return Mono.error(error);
+                    }
+                    log.error("[STREAM] Chat {} 오류 발생: {}", target.chatId(), error.getMessage());
+                    deltaBuffer.flush();
+                    checkpoint.clear();
+
+                    Map<String, Object> payload = new LinkedHashMap<>();
+                    payload.put("chat_id", target.chatId());
+                    payload.put("error", error.getMessage());
+                    // 클라이언트 분기용 (CIRCUIT_OPEN, LLM_OVERLOADED, RATE_LIMITED, UPSTREAM_TIMEOUT ...)
+                    payload.put("reason", error instanceof ApiException apiException
+                            ? apiException.getErrorCode().name()
+                            : ErrorCode.LLM_PROCESS_ERROR.name());
+
+                    sseEmitterManager.sendEvent(
+                            target.roomId(),
+                            new ChatSseEvent<>(ChatSseEventType.CHAT_ERROR, payload)
+                    );
+
+                    // 오류 시점까지 수신된 usage 는 반영
+                    return recordTokenUsage(target, activeRoute.get().provider(), decoded)
+                            .then(Mono.<String>error(new ApiException(ErrorCode.LLM_PROCESS_ERROR, error.getMessage())));
+                });
+    }
 
-                Map<String, Object> payload = new LinkedHashMap<>();
-                payload.put("chat_id", chat.getChatUid());
-                payload.put("error", e.getMessage());
+    /**
+     * STEP 2. 짧은 요약 → 방 이름 업데이트
+     * - FastAPI 호출과 저장을 따로 재시도 (저장 실패로 요약을 다시 요청하지 않음)
+     * - FastAPI 재시도를 모두 소진하면 방 이름은 그대로 두고 TITLE 단계만 완료 처리 (요약 작업이 끝없이 재시도되지 않도록)
+     */
+    private Mono<Void> updateRoomTitle(GenerationTarget target, Long branchId, String aiAnswer) {
+        return aiAsyncClient.shortSummary(aiAnswer)
+                .retryWhen(stageRetry(ChatStage.TITLE, target.chatId()))
+                .onErrorResume(e -> Mono.just(aiAsyncClient.fallbackShortResponse(e)))
+                .switchIfEmpty(Mono.fromSupplier(() -> aiAsyncClient.fallbackShortResponse(null)))
+                .flatMap(result -> Mono.fromCallable(() -> txTemplate.execute(status -> {
+                    Room freshRoom = roomRepository.findById(target.roomId())
+                            .orElseThrow(() -> new ApiException(ErrorCode.ROOM_NOT_FOUND));
+                    if (hasTitle(result)) {
+                        log.info("[STEP 2] 짧은 요약 생성 완료: {}", result.getTitle());
+
+                        // 방 이름 업데이트
+                        freshRoom.updateName(result.getTitle());
+                        roomRepository.saveAndFlush(freshRoom);
+                    } else {
+                        log.warn("[STEP 2] 짧은 요약 없음 → 방 이름 유지. roomId={}, chatId={}", target.roomId(), target.chatId());
+                    }
+
+                    Chat chat = chatRepository.findById(target.chatId())
+                            .orElseThrow(() -> new ApiException(ErrorCode.CHAT_NOT_FOUND));
+                    chat.completeStage(ChatStage.TITLE);
+                    chatRepository.save(chat);
+
+                    return freshRoom.getUpdatedAt();
+                })).subscribeOn(dbScheduler).retryWhen(stageRetry(ChatStage.TITLE, target.chatId())).filter(updatedAt -> hasTitle(result)).doOnNext(updatedAt -> {
+                    Map<String, Object> payload = new LinkedHashMap<>();
+                    payload.put("room_id", target.roomId());
+                    payload.put("branch_id", branchId);
+                    payload.put("updated_at", updatedAt);
+                    payload.put("short_summary", result.getTitle());
+
+                    sseEmitterManager.sendEvent(
+                            target.roomId(),
+                            new ChatSseEvent<>(ChatSseEventType.ROOM_SHORT_SUMMARY, payload)
+                    );
+                }))
+                .doOnError(e -> log.error("[STEP 2] 짧은 요약 처리 실패: {}", e.getMessage()))
+                .then();
+    }
 
-                sseEmitterManager.sendEvent(
-                        room.getRoomUid(),
-                        new ChatSseEvent<>(ChatSseEventType.CHAT_ERROR, payload)
-                );
+    private boolean hasTitle(AiShortSummaryResponseDto result) {
+        return result.getTitle() != null && !result.getTitle().isBlank();
+    }
 
-                throw new ApiException(ErrorCode.LLM_PROCESS_ERROR, e.getMessage());
-            }
-        }, aiTaskExecutor);
-
-        // 2. 짧은 요약
-        CompletableFuture<Void> shortSummaryFuture = answerFuture.thenComposeAsync(aiAnswer ->
-                        aiAsyncClient.shortSummaryAsync(aiAnswer)
-                                .thenAccept(result -> {
-                                    try {
-                                        if (result == null) {
-                                            log.warn("[STEP 2] 짧은 요약 결과가 null 입니다. roomId={}, chatId={}",
-                                                    roomId, chat.getChatUid());
-                                            return;
-                                        }
-
-                                        log.info("[STEP 2] 짧은 요약 생성 완료: {}", result.getTitle());
-
-                                        // 방 이름 업데이트
-                                        Room freshRoom = roomRepository.findById(roomId)
-                                                .orElseThrow(() -> new ApiException(ErrorCode.ROOM_NOT_FOUND));
-                                        freshRoom.updateName(result.getTitle());
-                                        roomRepository.saveAndFlush(freshRoom);
-
-                                        Map<String, Object> payload = new LinkedHashMap<>();
-                                        payload.put("room_id", roomId);
-                                        payload.put("branch_id", branchId);
-                                        payload.put("updated_at", freshRoom.getUpdatedAt());
-                                        payload.put("short_summary", result.getTitle());
-
-                                        sseEmitterManager.sendEvent(
-                                                roomId,
-                                                new ChatSseEvent<>(ChatSseEventType.ROOM_SHORT_SUMMARY, payload)
-                                        );
-                                    } catch (Exception e) {
-                                        log.error("[STEP 2] 짧은 요약 처리 실패: {}", e.getMessage());
-                                    }
-                                })
-                                .exceptionally(e -> {
-                                    log.error("[STEP 2] FastAPI 짧은 요약 호출 실패: {}", e.getMessage());
-                                    return null;
-                                })
-                , aiTaskExecutor);
-
-        // 3. 긴 요약 + 키워드
-        CompletableFuture<Void> longSummaryFuture = answerFuture.thenComposeAsync(aiAnswer ->
-                        aiAsyncClient.summarizeAsync(aiAnswer)
-                                .thenAccept(aiResult -> {
-                                    try {
-                                        if (aiResult == null) {
-                                            log.warn("[STEP 3] 긴 요약 결과가 null 입니다. roomId={}, chatId={}",
-                                                    roomId, chat.getChatUid());
-                                            return;
-                                        }
-
-                                        log.info("[STEP 3] 긴 요약 + 키워드 처리 시작");
-                                        String summary = aiResult.getSummary();
-                                        List<String> keywords = aiResult.getKeywords();
-
-                                        if (summary == null || summary.isBlank()) {
-                                            summary = buildFallbackSummary(keywords, aiAnswer);
-                                        }
-
-                                        chat.updateSummaryAndKeywords(summary, convertToJson(keywords));
-                                        chatRepository.save(chat);
-
-                                        Map<String, Object> payload = new LinkedHashMap<>();
-                                        payload.put("room_id", roomId);
-                                        payload.put("branch_id", branchId);
-                                        payload.put("updated_at", chat.getUpdatedAt());
-                                        payload.put("chat_id", chat.getChatUid());
-                                        payload.put("summary", summary);
-                                        payload.put("keywords", keywords);
-
-                                        sseEmitterManager.sendEvent(
-                                                roomId,
-                                                new ChatSseEvent<>(ChatSseEventType.CHAT_SUMMARY_KEYWORDS, payload)
-                                        );
-
-                                        log.info("[STEP 3] 긴 요약 + 키워드 처리 완료");
-                                    } catch (Exception e) {
-                                        log.error("[STEP 3] 긴 요약 처리 실패: {}", e.getMessage());
-                                    }
-                                })
-                                .exceptionally(e -> {
-                                    log.error("[STEP 3] FastAPI 호출 중 오류: {}", e.getMessage());
-                                    return null;
-                                })
-                , aiTaskExecutor);
-
-        // 4. 2, 3번 작업이 모두 끝나면 완료 로그
-        CompletableFuture.allOf(shortSummaryFuture, longSummaryFuture)
-                .thenRun(() -> log.info("[ASYNC] Chat {} 전체 처리 완료", chatId))
-                .exceptionally(e -> {
-                    log.error("[ASYNC] Chat {} 처리 중 오류: {}", chatId, e.getMessage());
-                    return null;
-                });
+    /**
+     * STEP 3. 긴 요약 + 키워드 → Chat 업데이트 (SUMMARY 완료 표시 포함)
+     * - FastAPI 재시도를 모두 소진하면 대체 요약(답변 앞부분) + 빈 키워드로 저장 (목록 / 검색에서 빠지지 않도록)
+     */
+    private Mono<Void> updateSummaryAndKeywords(GenerationTarget target, Long branchId, String aiAnswer) {
+        return aiAsyncClient.summarize(aiAnswer)
+                .retryWhen(stageRetry(ChatStage.SUMMARY, target.chatId()))
+                .onErrorResume(e -> Mono.just(aiAsyncClient.fallbackResponse(e)))
+                .switchIfEmpty(Mono.fromSupplier(() -> aiAsyncClient.fallbackResponse(null)))
+                .flatMap(aiResult -> {
+                    log.info("[STEP 3] 긴 요약 + 키워드 처리 시작");
+                    List<String> keywords = aiResult.getKeywords();
+                    String summary = aiResult.getSummary();
+
+                    if (summary == null || summary.isBlank()) {
+                        summary = buildFallbackSummary(keywords, aiAnswer);
+                    }
+                    final String resolvedSummary = summary;
+
+                    // 요약 저장 트랜잭션
+                    return Mono.fromCallable(() -> txTemplate.execute(status -> {
+                        Chat chat = chatRepository.findById(target.chatId())
+                                .orElseThrow(() -> new ApiException(ErrorCode.CHAT_NOT_FOUND));
+                        chat.updateSummaryAndKeywords(chatContentStore.swap(chat.getSummaryContent(), resolvedSummary), convertToJson(keywords));
+                        chatRepository.save(chat);
+                        return chat.getUpdatedAt();
+                    })).subscribeOn(dbScheduler).retryWhen(stageRetry(ChatStage.SUMMARY, target.chatId())).doOnNext(updatedAt -> {
+                        Map<String, Object> payload = new LinkedHashMap<>();
+                        payload.put("room_id", target.roomId());
+                        payload.put("branch_id", branchId);
+                        payload.put("updated_at", updatedAt);
+                        payload.put("chat_id", target.chatId());
+                        payload.put("summary", resolvedSummary);
+                        payload.put("keywords", keywords);
+
+                        sseEmitterManager.sendEvent(
+                                target.roomId(),
+                                new ChatSseEvent<>(ChatSseEventType.CHAT_SUMMARY_KEYWORDS, payload)
+                        );
+
+                        log.info("[STEP 3] 긴 요약 + 키워드 처리 완료");
+                    });
+                })
+                .doOnError(e -> log.error("[STEP 3] 긴 요약 처리 실패: {}", e.getMessage()))
+                .then();
     }
 
     /**
@@ -398,37 +555,110 @@ public class ChatServiceImpl implements ChatService {
         return arr;
     }
 
-    private void applyTokenUsageIfPresent(Room room, String provider, JsonNode usageNode) {
-        if (usageNode == null) return;
+    /**
+     * 모델 1개에 대한 스트림 (호출 한도 대기 → 연결 → 첫 청크 전 일시적 오류 재시도)
+     */
+    private Flux<String> openStream(GenerationTarget target, AnswerRoute route, boolean useLlm,
+                                    List<Map<String, String>> messages, int estimatedTokens,
+                                    AtomicBoolean received, ChatGenerationRegistry.Generation generation) {
+        return llmRateLimiter.acquire(route.keyUid(), route.provider(), estimatedTokens, wait -> sendQueued(target, wait))
+                .thenMany(Flux.defer(() -> {
+                    log.info("[STEP 1] Chat {} → 답변 생성 시작 ({})", target.chatId(), route);
+                    return liteLlmWebClient.createChatStream(route.apiKey(), route.model(), route.provider(), messages, useLlm);
+                }))
+                .doOnNext(chunk -> received.set(true))
+                // 청크를 하나라도 받은 뒤의 실패는 재시도하지 않음 (부분 답변 + CHAT_ERROR)
+                // 자체 호출 한도 거절은 이미 최대 대기 시간만큼 기다린 결과라 재시도하지 않음
+                .retryWhen(Retries.of(chatRetryProperties.policyOf(ChatStage.ANSWER),
+                        error -> !received.get() && !generation.isCancelled() && !isLocalRateLimit(error)
+                                && Retries.isTransient(error),
+                        ChatStage.ANSWER + " chat=" + target.chatId()));
+    }
 
-        // OpenAI / LiteLLM 스타일 (usage.prompt_tokens / completion_tokens)
-        int prompt = 0;
-        int completion = 0;
-        int total = 0;
+    private boolean isLocalRateLimit(Throwable error) {
+        return error instanceof RateLimitedException rateLimited && rateLimited.isLocal();
+    }
 
-        // OpenAI 스타일
-        if (usageNode.has("prompt_tokens") || usageNode.has("completion_tokens")) {
-            prompt = usageNode.path("prompt_tokens").asInt(0);
-            completion = usageNode.path("completion_tokens").asInt(0);
-            total = prompt + completion;
+    /**
+     * 다른 모델로 전환할 오류: 모델 서버 장애 (5xx / 타임아웃 / 차단 / 동시 요청 한도)
+     * - 키 오류, 키별 호출 한도 초과는 모델을 바꿔도 같은 사용자 문제라 전환하지 않음
+     */
+    private boolean isFailoverable(Throwable error) {
+        if (error instanceof ApiException apiException) {
+            return switch (apiException.getErrorCode()) {
+                case UPSTREAM_ERROR, UPSTREAM_TIMEOUT, CIRCUIT_OPEN, LLM_OVERLOADED -> true;
+                default -> false;
+            };
         }
+        return Retries.isTransient(error);
+    }
 
-        // Gemini 스타일 (usageMetadata.*TokenCount)
-        if (usageNode.has("promptTokenCount") || usageNode.has("candidatesTokenCount")) {
-            int gPrompt = usageNode.path("promptTokenCount").asInt(0);
-            int gCompletion = usageNode.path("candidatesTokenCount").asInt(0);
-            int gTotal = usageNode.path("totalTokenCount").asInt(gPrompt + gCompletion);
-
-            // 둘 중 더 신뢰 가는 값으로 덮어쓰기 (OpenAI가 아닌 경우 대부분 여기로 들어옴)
-            if (gTotal > 0) {
-                prompt = gPrompt;
-                completion = gCompletion;
-                total = gTotal;
-            }
-        }
+    private void sendModelSwitched(GenerationTarget target, AnswerRoute from, AnswerRoute to, Throwable error) {
+        log.warn("[FAILOVER] Chat {} {} → {} 전환: {}", target.chatId(), from, to, error.getMessage());
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("chat_id", target.chatId());
+        payload.put("from_model", from.model());
+        payload.put("to_model", to.model());
+        payload.put("to_provider", to.provider());
+        payload.put("reason", error instanceof ApiException apiException
+                ? apiException.getErrorCode().name()
+                : ErrorCode.UPSTREAM_ERROR.name());
+
+        sseEmitterManager.sendEvent(
+                target.roomId(),
+                new ChatSseEvent<>(ChatSseEventType.CHAT_MODEL_SWITCHED, payload)
+        );
+    }
+
+    /**
+     * 호출 한도 대기 안내 (대기가 길어져 다시 대기하면 갱신된 예상 시간으로 재전송)
+     */
+    private void sendQueued(GenerationTarget target, Duration wait) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("chat_id", target.chatId());
+        payload.put("wait_ms", wait.toMillis());
+        payload.put("estimated_start_at", LocalDateTime.now().plus(wait));
+
+        sseEmitterManager.sendEvent(
+                target.roomId(),
+                new ChatSseEvent<>(ChatSseEventType.CHAT_QUEUED, payload)
+        );
+    }
+
+    /**
+     * STEP 1-2. 토큰 사용량 누적 (답변 저장과 분리된 단계)
+     * - USAGE 완료 표시와 같은 트랜잭션에서 누적 → 재시도해도 중복 누적 X
+     * - 재시도를 모두 실패해도 답변 흐름은 막지 않음 (로그만 남김)
+     */
+    private Mono<Void> recordTokenUsage(GenerationTarget target, String provider, DecodedChunk usage) {
+        if (usage == null || !usage.isUsagePresent()) return Mono.empty();
+
+        int prompt = usage.getPromptTokens();
+        int completion = usage.getCompletionTokens();
+        int total = usage.getTotalTokens();
 
         if (total <= 0) {
             log.debug("[USAGE] provider={}, totalTokens=0 → 누적 건너뜀", provider);
+            return Mono.empty();
+        }
+
+        return Mono.fromRunnable(() -> txTemplate.executeWithoutResult(status ->
+                        applyTokenUsage(target, provider, prompt, completion, total)))
+                .subscribeOn(dbScheduler)
+                .retryWhen(stageRetry(ChatStage.USAGE, target.chatId()))
+                .onErrorResume(e -> {
+                    log.error("[USAGE] Chat {} tokenUsage 반영 실패: {}", target.chatId(), e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void applyTokenUsage(GenerationTarget target, String provider, int prompt, int completion, int total) {
+        Chat chat = chatRepository.findById(target.chatId())
+                .orElseThrow(() -> new ApiException(ErrorCode.CHAT_NOT_FOUND));
+        if (chat.isStageCompleted(ChatStage.USAGE)) {
+            log.debug("[USAGE] Chat {} 이미 반영됨 → 건너뜀", target.chatId());
             return;
         }
 
@@ -436,14 +666,32 @@ public class ChatServiceImpl implements ChatService {
                 .findByCode(provider)
                 .orElseThrow(() -> new ApiException(ErrorCode.PROVIDER_NOT_FOUND));
 
-        Key key = keyRepository.findByMemberAndProvider(room.getOwner(), providerCatalog)
+        Key key = keyRepository.findByMember_MemberUidAndProvider(target.ownerId(), providerCatalog)
                 .orElseThrow(() -> new ApiException(ErrorCode.KEY_NOT_FOUND));
 
         key.updateTokenUsage(total);
         keyRepository.save(key);
 
+        chat.completeStage(ChatStage.USAGE);
+        chatRepository.save(chat);
+
         log.info("[USAGE] member={}, provider={}, +{} tokens (prompt={}, completion={})",
-                room.getOwner().getMemberUid(), provider, total, prompt, completion);
+                target.ownerId(), provider, total, prompt, completion);
+    }
+
+    private Retry stageRetry(ChatStage stage, Long chatId) {
+        return Retries.of(chatRetryProperties.policyOf(stage), Retries::isTransient, stage + " chat=" + chatId);
+    }
+
+    /**
+     * 답변은 저장됐지만 요약 단계가 남은 경우 (요약 작업 등록 전에 작업이 재전달된 경우 등)
+     */
+    private boolean isSummaryPending(Chat chat) {
+        if (chat.getStatus() != ChatStatus.ANSWER && chat.getStatus() != ChatStatus.SUMMARY_KEYWORDS) {
+            return false;
+        }
+        return chat.isStageCompleted(ChatStage.ANSWER)
+                && !(chat.isStageCompleted(ChatStage.TITLE) && chat.isStageCompleted(ChatStage.SUMMARY));
     }
 
     private String chatKey(Long memberUid, List<String> keywords, Pageable pageable) {
@@ -478,4 +726,19 @@ public class ChatServiceImpl implements ChatService {
 
         return originalText != null ? originalText : "요약 생성이 어려운 내용입니다.";
     }
+
+    /**
+     * 스트리밍 동안 들고 있을 최소 정보 (엔티티 대신 값만 보관)
+     */
+    private record GenerationTarget(Long chatId, Long roomId, Long ownerId, String question) {
+    }
+
+    private record SummaryTarget(GenerationTarget target, String answer, boolean titleDone, boolean summaryDone) {
+    }
+
+    /**
+     * target 이 null 이면 답변 단계 건너뜀
+     */
+    private record AnswerLookup(GenerationTarget target, boolean summaryPending) {
+    }
 }
@@ -0,0 +1,13 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.stream;
+
+/**
+ * 답변 생성에 사용할 모델 + 키 (첫 번째가 사용자가 고른 모델, 이후는 장애 시 전환 후보)
+ * - 복호화된 키를 담으므로 로그에는 provider / model 만 남김
+ */
+public record AnswerRoute(Long modelCatalogUid, String model, String provider, Long keyUid, String apiKey) {
+
+    @Override
+    public String toString() {
+        return "AnswerRoute[" + provider + "/" + model + "]";
+    }
+}
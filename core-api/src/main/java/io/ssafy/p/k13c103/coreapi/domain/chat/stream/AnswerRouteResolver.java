@@ -0,0 +1,107 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.stream;
+
+import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
+import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
+import io.ssafy.p.k13c103.coreapi.config.properties.ChatRetryProperties;
+import io.ssafy.p.k13c103.coreapi.domain.catalog.entity.ModelCatalog;
+import io.ssafy.p.k13c103.coreapi.domain.catalog.entity.ProviderCatalog;
+import io.ssafy.p.k13c103.coreapi.domain.catalog.repository.ModelCatalogRepository;
+import io.ssafy.p.k13c103.coreapi.domain.catalog.repository.ProviderCatalogRepository;
+import io.ssafy.p.k13c103.coreapi.domain.key.entity.Key;
+import io.ssafy.p.k13c103.coreapi.domain.key.repository.KeyRepository;
+import io.ssafy.p.k13c103.coreapi.domain.key.service.KeyService;
+import io.ssafy.p.k13c103.coreapi.domain.llm.LlmProvider;
+import io.ssafy.p.k13c103.coreapi.domain.llm.circuit.LlmCircuitRegistry;
+import io.ssafy.p.k13c103.coreapi.domain.model.entity.Model;
+import io.ssafy.p.k13c103.coreapi.domain.model.repository.ModelRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 답변 생성 경로 결정 (블로킹, dbScheduler 에서 호출)
+ * - 첫 번째: 요청한 모델 + 해당 provider 키
+ * - failover 요청 시: 회원이 선택한 모델 중 사용 가능한 키(활성, 미만료)가 있는 모델을 최근 첫 청크 지연 순으로 추가
+ * - 차단기가 열린 모델은 후보에서 제외, 지연 기록이 없는 모델은 기록이 있는 모델 뒤에 배치
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnswerRouteResolver {
+
+    private final ModelRepository modelRepository;
+    private final ModelCatalogRepository modelCatalogRepository;
+    private final ProviderCatalogRepository providerCatalogRepository;
+    private final KeyRepository keyRepository;
+    private final KeyService keyService;
+    private final LlmCircuitRegistry circuitRegistry;
+    private final ChatRetryProperties chatRetryProperties;
+    private final TransactionTemplate txTemplate;
+
+    public List<AnswerRoute> resolve(Long memberId, String model, String providerCode, boolean useLlm, boolean failover) {
+        List<Candidate> candidates = txTemplate.execute(status -> {
+            ProviderCatalog provider = providerCatalogRepository.findByCode(providerCode)
+                    .orElseThrow(() -> new ApiException(ErrorCode.PROVIDER_NOT_FOUND));
+            Key key = keyRepository.findByMember_MemberUidAndProvider(memberId, provider)
+                    .orElseThrow(() -> new ApiException(ErrorCode.KEY_NOT_FOUND));
+            Long modelCatalogUid = modelCatalogRepository.findByCode(model)
+                    .map(ModelCatalog::getModelUid)
+                    .orElse(null);
+
+            List<Candidate> out = new ArrayList<>();
+            out.add(new Candidate(modelCatalogUid, model, providerCode, key.getKeyUid(), key.getEncryptedKey(), null));
+            if (failover) {
+                out.addAll(fallbacks(memberId, model, useLlm));
+            }
+            return out;
+        });
+
+        List<AnswerRoute> routes = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            routes.add(new AnswerRoute(candidate.modelCatalogUid(), candidate.model(), candidate.provider(),
+                    candidate.keyUid(), keyService.decrypt(candidate.encryptedKey())));
+        }
+        if (routes.size() > 1) {
+            log.info("[FAILOVER] member={}, primary={}, fallbacks={}", memberId, routes.get(0), routes.subList(1, routes.size()));
+        }
+        return routes;
+    }
+
+    private List<Candidate> fallbacks(Long memberId, String primaryModel, boolean useLlm) {
+        LocalDate today = LocalDate.now();
+        Map<Long, Optional<Key>> keysByProvider = new HashMap<>();
+        List<Candidate> out = new ArrayList<>();
+
+        for (Model selected : modelRepository.findAllByMemberUidWithCatalog(memberId)) {
+            ModelCatalog catalog = selected.getModelCatalog();
+            if (!Boolean.TRUE.equals(catalog.getIsActive()) || catalog.getCode().equals(primaryModel)) continue;
+
+            ProviderCatalog provider = catalog.getProvider();
+            Optional<Key> key = keysByProvider.computeIfAbsent(provider.getProviderUid(), id ->
+                    keyRepository.findByMember_MemberUidAndProvider(memberId, provider)
+                            .filter(k -> Boolean.TRUE.equals(k.getIsActive()))
+                            .filter(k -> k.getExpirationAt() == null || !k.getExpirationAt().isBefore(today)));
+            if (key.isEmpty()) continue;
+
+            LlmProvider route = useLlm ? LlmProvider.LITELLM : LlmProvider.from(provider.getCode());
+            if (circuitRegistry.isOpen(route, catalog.getCode())) continue;
+
+            out.add(new Candidate(catalog.getModelUid(), catalog.getCode(), provider.getCode(),
+                    key.get().getKeyUid(), key.get().getEncryptedKey(),
+                    circuitRegistry.recentLatencyMillis(route, catalog.getCode())));
+        }
+
+        return out.stream()
+                .sorted(Comparator.comparing(Candidate::latencyMillis, Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(chatRetryProperties.getMaxFailovers())
+                .toList();
+    }
+
+    private record Candidate(Long modelCatalogUid, String model, String provider, Long keyUid, String encryptedKey,
+                             Long latencyMillis) {
+    }
+}
@@ -0,0 +1,143 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.stream;
+
+import io.ssafy.p.k13c103.coreapi.common.sse.SseControlMessage;
+import io.ssafy.p.k13c103.coreapi.common.sse.SseEventBus;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 답변 생성 레지스트리 (chatId → Generation)
+ * - 중단 요청 시 stop 신호로 LLM 스트림만 끊고 (업스트림 HTTP 취소) 부분 답변은 정상 경로로 저장
+ * - 생성 중인 노드가 아니면 제어 메시지로 전파해 해당 노드에서 처리
+ * - 노드 종료 시 남은 구독은 dispose (부분 답변은 체크포인트 복구로 처리)
+ */
+@Slf4j
+@Component
+public class ChatGenerationRegistry {
+
+    private final Map<Long, Generation> generations = new ConcurrentHashMap<>();
+    private final SseEventBus eventBus;
+
+    public ChatGenerationRegistry(SseEventBus eventBus) {
+        this.eventBus = eventBus;
+        eventBus.addControlListener(this::onControlMessage);
+    }
+
+    public Generation register(Long chatId, Long roomId) {
+        Generation generation = new Generation(chatId, roomId);
+        Generation previous = generations.put(chatId, generation);
+        if (previous != null) {
+            previous.dispose();
+        }
+        return generation;
+    }
+
+    public void unregister(Generation generation) {
+        generations.remove(generation.getChatId(), generation);
+    }
+
+    /**
+     * 답변 생성 중단 (이 노드에 없으면 전체 노드로 전파)
+     */
+    public void cancel(Long roomId, Long chatId) {
+        if (!cancelLocal(chatId)) {
+            eventBus.publishControl(SseControlMessage.cancelGeneration(eventBus.getNodeId(), roomId, chatId));
+        }
+    }
+
+    /**
+     * 방의 모든 답변 생성 중단 (모든 노드)
+     */
+    public void cancelRoom(Long roomId) {
+        cancelRoomLocal(roomId);
+        eventBus.publishControl(SseControlMessage.cancelRoomGenerations(eventBus.getNodeId(), roomId));
+    }
+
+    public int countActive() {
+        return generations.size();
+    }
+
+    private boolean cancelLocal(Long chatId) {
+        Generation generation = generations.get(chatId);
+        if (generation == null) {
+            return false;
+        }
+        generation.cancel();
+        log.info("[GENERATION] Chat {} 중단 요청", chatId);
+        return true;
+    }
+
+    private void cancelRoomLocal(Long roomId) {
+        generations.values().stream()
+                .filter(generation -> generation.getRoomId().equals(roomId))
+                .forEach(generation -> cancelLocal(generation.getChatId()));
+    }
+
+    private void onControlMessage(SseControlMessage message) {
+        if (eventBus.getNodeId().equals(message.origin())) return;
+
+        switch (message.type()) {
+            case CANCEL_GENERATION -> cancelLocal(message.chatId());
+            case CANCEL_ROOM_GENERATIONS -> cancelRoomLocal(message.roomId());
+            default -> {
+                // SSE 구독 관련 메시지는 SseEmitterManager 에서 처리
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        generations.values().forEach(Generation::dispose);
+        generations.clear();
+    }
+
+    /**
+     * 답변 생성 1건
+     * - stopSignal(): LLM 스트림에 takeUntilOther 로 연결 (값이 나오면 스트림 종료)
+     * - subscription: 전체 처리 체인의 구독 (노드 종료 시 강제 해제용)
+     */
+    public static final class Generation {
+
+        @Getter
+        private final Long chatId;
+        @Getter
+        private final Long roomId;
+        private final Sinks.One<Boolean> stop = Sinks.one();
+        @Getter
+        private volatile boolean cancelled;
+        private volatile Disposable subscription;
+
+        private Generation(Long chatId, Long roomId) {
+            this.chatId = chatId;
+            this.roomId = roomId;
+        }
+
+        public Mono<Boolean> stopSignal() {
+            return stop.asMono();
+        }
+
+        public void attach(Disposable subscription) {
+            this.subscription = subscription;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            stop.tryEmitValue(true);
+        }
+
+        private void dispose() {
+            Disposable current = subscription;
+            if (current != null) {
+                current.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ssafy.p.k13c103.coreapi.config.properties.AiProcessingProperties;
+import io.ssafy.p.k13c103.coreapi.config.properties.ChatResponseCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 동일 프롬프트 답변 캐시 (완전 일치)
+ * - 범위: 회원 + API 키 + provider / model 단위 (다른 회원의 답변이나 프롬프트 존재 여부가 드러나지 않도록 회원 간 공유 X)
+ * - 키: sha256(memberId + keyUid + provider + model + 실제 전송 temperature + 정규화한 messages) → chat:response:{memberId}:{hash}
+ * - 노드 로컬 LRU → Redis(TTL) 순으로 조회, Redis 적중 시 로컬에도 채움
+ * - 정상 완료된 답변만 저장 (중단 / 오류 / 캐시 재생 답변은 저장 X)
+ * - Redis 장애 시에는 캐시 없이 진행 (조회 실패 = 미적중)
+ */
+@Slf4j
+@Component
+public class ChatResponseCache {
+
+    private static final String KEY_PREFIX = "chat:response:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatResponseCacheProperties properties;
+    private final AiProcessingProperties aiProcessingProperties;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final Map<String, LocalEntry> local;
+
+    public ChatResponseCache(RedisTemplate<String, String> redisTemplate,
+                             ChatResponseCacheProperties properties,
+                             AiProcessingProperties aiProcessingProperties,
+                             MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.aiProcessingProperties = aiProcessingProperties;
+        this.hits = meterRegistry.counter("chat.response.cache", "result", "hit");
+        this.misses = meterRegistry.counter("chat.response.cache", "result", "miss");
+        this.local = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > properties.getLocalMaxEntries();
+            }
+        };
+    }
+
+    public boolean isEnabled(boolean requested) {
+        return requested && properties.isEnabled();
+    }
+
+    /**
+     * 캐시 키 (messages 는 role 소문자 + content 앞뒤 공백 제거 / 연속 공백 1칸으로 정규화)
+     * - memberId / route 가 다르면 같은 프롬프트라도 다른 키
+     */
+    public String keyOf(Long memberId, AnswerRoute route, List<Map<String, String>> messages) {
+        StringBuilder canonical = new StringBuilder()
+                .append(memberId).append('\n')
+                .append(route.keyUid()).append('\n')
+                .append(route.provider() == null ? "" : route.provider().toLowerCase(Locale.ROOT)).append('\n')
+                .append(route.model() == null ? "" : route.model().toLowerCase(Locale.ROOT)).append('\n')
+                .append(aiProcessingProperties.temperatureFor(route.model())).append('\n');
+        for (Map<String, String> message : messages) {
+            canonical.append(normalize(message.get("role")).toLowerCase(Locale.ROOT))
+                    .append('\u0000')
+                    .append(normalize(message.get("content")))
+                    .append('\u0001');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return memberId + ":" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 조회 (로컬 → Redis), 미적중이면 empty
+     */
+    public Mono<String> get(String key) {
+        String cached = getLocal(key);
+        if (cached != null) {
+            hits.increment();
+            return Mono.just(cached);
+        }
+        return Mono.fromCallable(() -> redisTemplate.opsForValue().get(KEY_PREFIX + key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(answer -> putLocal(key, answer))
+                .onErrorResume(e -> {
+                    log.warn("[CACHE] 답변 캐시 조회 실패 → 캐시 없이 진행: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .doOnNext(answer -> hits.increment())
+                .switchIfEmpty(Mono.fromRunnable(misses::increment));
+    }
+
+    /**
+     * 저장 (비어 있거나 maxAnswerChars 초과 답변은 무시)
+     */
+    public Mono<Void> put(String key, String answer) {
+        if (answer == null || answer.isBlank() || answer.length() > properties.getMaxAnswerChars()) {
+            return Mono.empty();
+        }
+        putLocal(key, answer);
+        return Mono.fromRunnable(() -> redisTemplate.opsForValue().set(KEY_PREFIX + key, answer, properties.getTtl()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("[CACHE] 답변 캐시 저장 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 캐시된 답변을 스트리밍처럼 나눠서 재생
+     */
+    public Flux<String> replay(String answer) {
+        int size = properties.getReplayChunkChars();
+        Duration interval = properties.getReplayInterval();
+        if (size <= 0 || interval.isZero() || interval.isNegative()) {
+            return Flux.just(answer);
+        }
+
+        List<String> pieces = new ArrayList<>(answer.length() / size + 1);
+        int start = 0;
+        while (start < answer.length()) {
+            int end = Math.min(answer.length(), start + size);
+            // 서로게이트 쌍(이모지 등)이 나뉘지 않도록
+            if (end < answer.length() && Character.isHighSurrogate(answer.charAt(end - 1))) {
+                end++;
+            }
+            pieces.add(answer.substring(start, end));
+            start = end;
+        }
+        return Flux.fromIterable(pieces).delayElements(interval);
+    }
+
+    private synchronized String getLocal(String key) {
+        LocalEntry entry = local.get(key);
+        if (entry == null) return null;
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            local.remove(key);
+            return null;
+        }
+        return entry.answer();
+    }
+
+    private synchronized void putLocal(String key, String answer) {
+        if (properties.getLocalMaxEntries() <= 0) return;
+        local.put(key, new LocalEntry(answer, System.currentTimeMillis() + properties.getLocalTtl().toMillis()));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().replaceAll("\\s+", " ");
+    }
+
+    private record LocalEntry(String answer, long expiresAt) {
+    }
+}
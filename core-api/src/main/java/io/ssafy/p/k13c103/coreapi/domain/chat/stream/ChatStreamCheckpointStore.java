@@ -0,0 +1,285 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.stream;
+
+import io.ssafy.p.k13c103.coreapi.common.sse.SseSnapshot;
+import io.ssafy.p.k13c103.coreapi.common.sse.SseSnapshotProvider;
+import io.ssafy.p.k13c103.coreapi.config.properties.ChatStreamProperties;
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatSseEvent;
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatStreamSnapshotDto;
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatSseEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 생성 중인 답변 체크포인트 (Redis)
+ * - chat:stream:{chatId}:text  → 지금까지의 답변 (APPEND)
+ * - chat:stream:{chatId}:meta  → roomId / 마지막 seq / 마지막 방 이벤트 id
+ * - chat:stream:room:{roomId}  → 방의 생성 중인 chatId 목록 (새 구독자 스냅샷용)
+ * - chat:stream:inflight       → chatId → 마지막 기록 시각 (노드 장애 복구용)
+ * - 기록은 interval / maxChars 기준으로 묶어서 수행, 텍스트와 seq 는 Lua 로 함께 갱신해 항상 일치
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatStreamCheckpointStore implements SseSnapshotProvider {
+
+    private static final String KEY_PREFIX = "chat:stream:";
+    private static final String ROOM_KEY_PREFIX = KEY_PREFIX + "room:";
+    private static final String INFLIGHT_KEY = KEY_PREFIX + "inflight";
+
+    // KEYS: text, meta, room, inflight / ARGV: text, roomId, seq, eventId, ttlSeconds, nowMillis, chatId, reset
+    private static final DefaultRedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[8] == '1' then
+              redis.call('SET', KEYS[1], ARGV[1])
+            else
+              redis.call('APPEND', KEYS[1], ARGV[1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            redis.call('HSET', KEYS[2], 'roomId', ARGV[2], 'seq', ARGV[3], 'eventId', ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[5])
+            redis.call('SADD', KEYS[3], ARGV[7])
+            redis.call('EXPIRE', KEYS[3], ARGV[5])
+            redis.call('ZADD', KEYS[4], ARGV[6], ARGV[7])
+            return 1
+            """, Long.class);
+
+    // KEYS: room / ARGV: keyPrefix → [chatId, text, seq, eventId, ...]
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> READ_ROOM_SCRIPT = new DefaultRedisScript<>("""
+            local out = {}
+            for _, id in ipairs(redis.call('SMEMBERS', KEYS[1])) do
+              local text = redis.call('GET', ARGV[1] .. id .. ':text')
+              if text then
+                local meta = redis.call('HMGET', ARGV[1] .. id .. ':meta', 'seq', 'eventId')
+                table.insert(out, id)
+                table.insert(out, text)
+                table.insert(out, meta[1] or '0')
+                table.insert(out, meta[2] or '0')
+              else
+                redis.call('SREM', KEYS[1], id)
+              end
+            end
+            return out
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatStreamProperties chatStreamProperties;
+
+    /**
+     * 스트림(채팅 1건)마다 체크포인트 1개
+     */
+    public Checkpoint open(Long roomId, Long chatId) {
+        return new Checkpoint(roomId, chatId, chatStreamProperties.getCheckpoint());
+    }
+
+    @Override
+    public List<SseSnapshot> snapshots(Long roomId) {
+        List<?> result = redisTemplate.execute(READ_ROOM_SCRIPT, List.of(roomKey(roomId)), KEY_PREFIX);
+        if (result == null || result.isEmpty()) {
+            return List.of();
+        }
+
+        List<SseSnapshot> snapshots = new ArrayList<>(result.size() / 4);
+        for (int i = 0; i + 3 < result.size(); i += 4) {
+            Long chatId = Long.valueOf(String.valueOf(result.get(i)));
+            String text = String.valueOf(result.get(i + 1));
+            long seq = Long.parseLong(String.valueOf(result.get(i + 2)));
+            long eventId = Long.parseLong(String.valueOf(result.get(i + 3)));
+
+            snapshots.add(new SseSnapshot(chatId, eventId, new ChatSseEvent<>(
+                    ChatSseEventType.CHAT_STREAM_SNAPSHOT, new ChatStreamSnapshotDto(chatId, text, seq))));
+        }
+        return snapshots;
+    }
+
+    /**
+     * staleAfter 동안 기록이 없는 chatId (생성하던 노드가 종료된 것으로 간주)
+     */
+    public Set<String> findStale() {
+        long threshold = System.currentTimeMillis() - chatStreamProperties.getCheckpoint().getStaleAfter().toMillis();
+        Set<String> stale = redisTemplate.opsForZSet().rangeByScore(INFLIGHT_KEY, 0, threshold);
+        return stale == null ? Set.of() : stale;
+    }
+
+    /**
+     * 복구 담당 선점 (여러 노드 중 하나만 true)
+     */
+    public boolean claim(Long chatId) {
+        Long removed = redisTemplate.opsForZSet().remove(INFLIGHT_KEY, String.valueOf(chatId));
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 이 chat 의 답변 스트리밍이 이미 시작됐는지 (첫 묶음 이후 체크포인트가 남아 있음)
+     * - 조회 실패 시 false (체크포인트 없이 새로 생성)
+     */
+    public boolean hasCheckpoint(Long chatId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(metaKey(chatId)));
+        } catch (Exception e) {
+            log.warn("[CHECKPOINT] Chat {} 체크포인트 조회 실패: {}", chatId, e.getMessage());
+            return false;
+        }
+    }
+
+    public String readText(Long chatId) {
+        return redisTemplate.opsForValue().get(textKey(chatId));
+    }
+
+    public Long readRoomId(Long chatId) {
+        Object roomId = redisTemplate.opsForHash().get(metaKey(chatId), "roomId");
+        return roomId == null ? null : Long.valueOf(roomId.toString());
+    }
+
+    /**
+     * 답변 저장(또는 복구) 완료 후 체크포인트 삭제
+     */
+    public void clear(Long roomId, Long chatId) {
+        try {
+            redisTemplate.delete(List.of(textKey(chatId), metaKey(chatId)));
+            redisTemplate.opsForSet().remove(roomKey(roomId), String.valueOf(chatId));
+            redisTemplate.opsForZSet().remove(INFLIGHT_KEY, String.valueOf(chatId));
+        } catch (Exception e) {
+            log.warn("[CHECKPOINT] Chat {} 체크포인트 삭제 실패: {}", chatId, e.getMessage());
+        }
+    }
+
+    private boolean append(Long roomId, Long chatId, String text, long seq, long eventId, boolean reset) {
+        try {
+            redisTemplate.execute(APPEND_SCRIPT,
+                    List.of(textKey(chatId), metaKey(chatId), roomKey(roomId), INFLIGHT_KEY),
+                    text,
+                    String.valueOf(roomId),
+                    String.valueOf(seq),
+                    String.valueOf(eventId),
+                    String.valueOf(chatStreamProperties.getCheckpoint().getTtl().toSeconds()),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(chatId),
+                    reset ? "1" : "0");
+            return true;
+        } catch (Exception e) {
+            // 체크포인트 실패는 스트리밍에 영향 X (다음 기록에 이어서 APPEND)
+            log.warn("[CHECKPOINT] Chat {} 기록 실패: {}", chatId, e.getMessage());
+            return false;
+        }
+    }
+
+    private String textKey(Long chatId) {
+        return KEY_PREFIX + chatId + ":text";
+    }
+
+    private String metaKey(Long chatId) {
+        return KEY_PREFIX + chatId + ":meta";
+    }
+
+    private String roomKey(Long roomId) {
+        return ROOM_KEY_PREFIX + roomId;
+    }
+
+    /**
+     * 스트림 1건의 체크포인트 버퍼
+     * - SseDeltaCoalescer 가 전송한 묶음을 받아 interval / maxChars 마다 한 번씩 Redis 에 APPEND
+     * - 첫 묶음은 즉시 기록 (방의 생성 중 목록에 바로 노출)
+     * - 첫 기록은 APPEND 대신 덮어쓰기 (재전달된 작업이 같은 chatId 로 다시 생성하는 경우 이전 텍스트 제거)
+     * - 기록은 boundedElastic 에서 비동기로, 한 번에 하나만 (진행 중에 쌓인 텍스트는 다음 기록에 합쳐짐)
+     * - clear 는 진행 중인 기록이 끝난 뒤 수행 (삭제 후 기록이 체크포인트를 되살리지 않도록)
+     * - flush 후에는 남은 텍스트를 주기와 무관하게 이어서 기록
+     */
+    public final class Checkpoint {
+
+        private final Long roomId;
+        private final Long chatId;
+        private final long intervalMillis;
+        private final int maxChars;
+
+        private final StringBuilder pending = new StringBuilder();
+        private long seq;
+        private long eventId;
+        private long lastWrittenAt;
+        private boolean written;
+        private boolean writing;
+        private boolean flushing;
+        private boolean closed;
+
+        private Checkpoint(Long roomId, Long chatId, ChatStreamProperties.Checkpoint properties) {
+            this.roomId = roomId;
+            this.chatId = chatId;
+            this.intervalMillis = properties.getInterval().toMillis();
+            this.maxChars = properties.getMaxChars();
+        }
+
+        public synchronized void append(String text, long seq, long eventId) {
+            pending.append(text);
+            this.seq = seq;
+            this.eventId = eventId;
+
+            long now = System.currentTimeMillis();
+            if (closed || writing || (now - lastWrittenAt < intervalMillis && pending.length() < maxChars)) {
+                return;
+            }
+            write(now);
+        }
+
+        /**
+         * 스트림 종료 시 남은 텍스트까지 기록 (답변 저장 전에 체크포인트가 전체 답변을 갖도록)
+         * - 진행 중인 기록이 있으면 끝난 뒤 onWritten 에서 이어서 기록
+         */
+        public synchronized void flush() {
+            flushing = true;
+            if (closed || writing || pending.isEmpty()) {
+                return;
+            }
+            write(System.currentTimeMillis());
+        }
+
+        private void write(long now) {
+            String batch = pending.toString();
+            long writeSeq = this.seq;
+            long writeEventId = this.eventId;
+            boolean reset = !written;
+            pending.setLength(0);
+            writing = true;
+            lastWrittenAt = now;
+
+            Mono.fromCallable(() -> ChatStreamCheckpointStore.this.append(roomId, chatId, batch, writeSeq, writeEventId, reset))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe(ok -> onWritten(batch, ok), e -> onWritten(batch, false));
+        }
+
+        private void onWritten(String text, boolean ok) {
+            boolean clearNow;
+            synchronized (this) {
+                if (ok) {
+                    written = true;
+                } else {
+                    pending.insert(0, text);   // 실패하면 남은 텍스트는 다음 기록에 포함
+                }
+                writing = false;
+                clearNow = closed;
+                if (ok && flushing && !closed && !pending.isEmpty()) {
+                    write(System.currentTimeMillis());
+                }
+            }
+            if (clearNow) {
+                ChatStreamCheckpointStore.this.clear(roomId, chatId);
+            }
+        }
+
+        public void clear() {
+            synchronized (this) {
+                closed = true;
+                pending.setLength(0);
+                if (writing) return;   // 진행 중인 기록이 끝나면 onWritten 에서 삭제
+            }
+            ChatStreamCheckpointStore.this.clear(roomId, chatId);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.stream;
+
+import io.ssafy.p.k13c103.coreapi.common.sse.SseEmitterManager;
+import io.ssafy.p.k13c103.coreapi.domain.chat.content.ChatContentStore;
+import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatSseEvent;
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatSseEventType;
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatStatus;
+import io.ssafy.p.k13c103.coreapi.domain.chat.repository.ChatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 중단된 답변 복구 스케줄러
+ * - 체크포인트 기록이 staleAfter 이상 멈춘 chat = 생성하던 노드가 종료된 것으로 간주
+ * - 여러 노드 중 선점(claim)에 성공한 노드만 부분 답변을 INTERRUPTED 로 저장하고 CHAT_ERROR 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatStreamRecoveryScheduler {
+
+    private final ChatStreamCheckpointStore checkpointStore;
+    private final ChatRepository chatRepository;
+    private final ChatContentStore chatContentStore;
+    private final TransactionTemplate txTemplate;
+    private final SseEmitterManager sseEmitterManager;
+
+    @Scheduled(fixedDelayString = "${chat.stream.checkpoint.recovery-poll-ms:60000}")
+    public void recoverInterrupted() {
+        for (String member : checkpointStore.findStale()) {
+            try {
+                recover(Long.valueOf(member));
+            } catch (Exception e) {
+                log.warn("[RECOVERY] Chat {} 복구 실패: {}", member, e.getMessage());
+            }
+        }
+    }
+
+    private void recover(Long chatId) {
+        if (!checkpointStore.claim(chatId)) return;
+
+        String partial = checkpointStore.readText(chatId);
+        Long roomId = checkpointStore.readRoomId(chatId);
+        if (partial == null || roomId == null) {
+            log.info("[RECOVERY] Chat {} 체크포인트 만료 → 건너뜀", chatId);
+            return;
+        }
+
+        Boolean recovered = txTemplate.execute(status -> chatRepository.findById(chatId)
+                .filter(chat -> chat.getStatus() == ChatStatus.QUESTION)     // 이미 저장된 답변은 건드리지 않음
+                .map(chat -> {
+                    chat.markInterrupted(chatContentStore.swap(chat.getAnswerContent(), partial));
+                    chatRepository.save(chat);
+                    return true;
+                })
+                .orElse(false));
+
+        checkpointStore.clear(roomId, chatId);
+        if (!Boolean.TRUE.equals(recovered)) return;
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("chat_id", chatId);
+        payload.put("error", "답변 생성이 중단되었습니다.");
+        payload.put("interrupted", true);
+        payload.put("answer", partial);
+
+        sseEmitterManager.sendEvent(roomId, new ChatSseEvent<>(ChatSseEventType.CHAT_ERROR, payload));
+        log.info("[RECOVERY] Chat {} 부분 답변 {}자 복구 (room={})", chatId, partial.length(), roomId);
+    }
+}
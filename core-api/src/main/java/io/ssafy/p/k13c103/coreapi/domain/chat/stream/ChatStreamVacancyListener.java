@@ -0,0 +1,28 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.stream;
+
+import io.ssafy.p.k13c103.coreapi.common.sse.SseRoomVacancyListener;
+import io.ssafy.p.k13c103.coreapi.config.properties.ChatStreamProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방을 보는 구독자가 클러스터 전체에서 없어지면 방의 답변 생성 중단 (chat.stream.cancel-on-disconnect)
+ * - 명시적 연결 종료뿐 아니라 탭 닫기 / 네트워크 끊김 / 타임아웃도 포함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatStreamVacancyListener implements SseRoomVacancyListener {
+
+    private final ChatGenerationRegistry chatGenerationRegistry;
+    private final ChatStreamProperties chatStreamProperties;
+
+    @Override
+    public void onRoomVacant(Long roomId) {
+        if (!chatStreamProperties.isCancelOnDisconnect()) return;
+
+        chatGenerationRegistry.cancelRoom(roomId);
+        log.info("[GENERATION] Room {} 구독자 없음 → 생성 중단", roomId);
+    }
+}
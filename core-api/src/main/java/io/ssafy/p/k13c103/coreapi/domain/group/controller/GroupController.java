@@ -1,16 +1,20 @@
 package io.ssafy.p.k13c103.coreapi.domain.group.controller;
 
 import io.ssafy.p.k13c103.coreapi.common.jsend.JSend;
+import io.ssafy.p.k13c103.coreapi.config.properties.GroupSummaryProperties;
 import io.ssafy.p.k13c103.coreapi.config.security.CustomMemberDetails;
 import io.ssafy.p.k13c103.coreapi.domain.group.dto.*;
+import io.ssafy.p.k13c103.coreapi.domain.group.notify.GroupSummaryNotifier;
 import io.ssafy.p.k13c103.coreapi.domain.group.service.GroupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.List;
 import java.util.Map;
@@ -22,6 +26,8 @@ import java.util.Map;
 public class GroupController {
 
     private final GroupService groupService;
+    private final GroupSummaryNotifier groupSummaryNotifier;
+    private final GroupSummaryProperties groupSummaryProperties;
 
     @Operation(summary = "그룹 생성", description = "선택된 채팅 노드들을 기반으로 새 그룹을 생성합니다.")
     @PostMapping
@@ -80,9 +86,10 @@ public class GroupController {
         return ResponseEntity.ok(JSend.success(response));
     }
 
-    @Operation(summary = "기존 그룹 요약/키워드를 현재 방에 스냅샷으로 붙이기")
+    @Operation(summary = "기존 그룹 요약/키워드를 현재 방에 스냅샷으로 붙이기",
+            description = "요약이 아직 없으면 완료 알림을 잠시 기다리고, 그 안에 끝나지 않으면 202 로 응답합니다. 스냅샷은 요약 완료 시 채워지고 SSE 로 알립니다.")
     @PostMapping("/{roomId}/attach-group")
-    public ResponseEntity<JSend> attachGroup(
+    public DeferredResult<ResponseEntity<JSend>> attachGroup(
             @PathVariable Long roomId,
             @Valid @RequestBody GroupAttachRequestDto request,
             @AuthenticationPrincipal CustomMemberDetails member
@@ -90,8 +97,18 @@ public class GroupController {
         GroupAttachResponseDto response =
                 groupService.attachGroup(roomId, member.getMemberUid(), request);
 
-        return ResponseEntity.ok(
-                JSend.success(response)
-        );
+        // 요약 대기는 요청 스레드를 잡지 않음 (스냅샷 채움 알림 콜백 / 타임아웃 시 응답)
+        DeferredResult<ResponseEntity<JSend>> result = new DeferredResult<>(
+                groupSummaryProperties.getAttachWait().toMillis(),
+                ResponseEntity.status(HttpStatus.ACCEPTED).body(JSend.success(response)));
+        if (response.isSummaryReady()) {
+            result.setResult(ResponseEntity.ok(JSend.success(response)));
+            return result;
+        }
+
+        Runnable unregister = groupSummaryNotifier.onSnapshotFilled(response.getNewChatId(),
+                () -> result.setResult(ResponseEntity.ok(JSend.success(response.withSummaryReady()))));
+        result.onCompletion(unregister);
+        return result;
     }
 }
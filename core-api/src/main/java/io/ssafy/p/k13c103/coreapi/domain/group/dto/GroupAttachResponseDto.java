@@ -15,6 +15,18 @@ public class GroupAttachResponseDto {
 
     private Long groupId;
 
+    // false 면 스냅샷은 비어 있고, 그룹 요약 완료 시 채운 뒤 GROUP_SUMMARY_KEYWORDS 로 알림
+    private boolean summaryReady;
+
     private LocalDateTime createdAt;
 
+    public GroupAttachResponseDto withSummaryReady() {
+        return GroupAttachResponseDto.builder()
+                .roomId(roomId)
+                .newChatId(newChatId)
+                .groupId(groupId)
+                .summaryReady(true)
+                .createdAt(createdAt)
+                .build();
+    }
 }
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class Group extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "groups_seq_generator")
+    @SequenceGenerator(name = "groups_seq_generator", sequenceName = "groups_seq", allocationSize = 50)
     @Column(name = "group_uid")
     private Long groupUid;
 
@@ -0,0 +1,7 @@
+package io.ssafy.p.k13c103.coreapi.domain.group.job;
+
+/**
+ * GROUP_SUMMARY 작업 입력값
+ */
+public record GroupSummaryJob(Long groupId) {
+}
@@ -0,0 +1,34 @@
+package io.ssafy.p.k13c103.coreapi.domain.group.job;
+
+import io.ssafy.p.k13c103.coreapi.common.job.Job;
+import io.ssafy.p.k13c103.coreapi.common.job.JobHandler;
+import io.ssafy.p.k13c103.coreapi.common.job.JobType;
+import io.ssafy.p.k13c103.coreapi.domain.group.service.GroupSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * GROUP_SUMMARY: 그룹에 포함된 채팅을 병합해 요약/키워드 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupSummaryJobHandler implements JobHandler<GroupSummaryJob> {
+
+    private final GroupSummaryService groupSummaryService;
+
+    @Override
+    public JobType type() {
+        return JobType.GROUP_SUMMARY;
+    }
+
+    @Override
+    public Class<GroupSummaryJob> payloadType() {
+        return GroupSummaryJob.class;
+    }
+
+    @Override
+    public Mono<Void> handle(GroupSummaryJob payload, Job job) {
+        return groupSummaryService.generateSummary(payload.groupId());
+    }
+}
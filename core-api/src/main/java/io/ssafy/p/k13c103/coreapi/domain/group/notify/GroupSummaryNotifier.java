@@ -0,0 +1,164 @@
+package io.ssafy.p.k13c103.coreapi.domain.group.notify;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.p.k13c103.coreapi.common.job.JobType;
+import io.ssafy.p.k13c103.coreapi.common.job.RedisJobQueue;
+import io.ssafy.p.k13c103.coreapi.config.properties.GroupSummaryProperties;
+import io.ssafy.p.k13c103.coreapi.domain.chat.repository.ChatRepository;
+import io.ssafy.p.k13c103.coreapi.domain.group.repository.GroupRepository;
+import io.ssafy.p.k13c103.coreapi.domain.room.job.GroupSnapshotFillJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 그룹 요약 완료 알림 (폴링 대신 완료 시점에 대기자 처리)
+ * - 스냅샷 채우기: Redis Set group:{groupId}:snapshot-waiters 에 보관 → 요약 완료 시 GROUP_SNAPSHOT_FILL 작업 등록 (노드 재시작과 무관)
+ * - 요청 대기 (그룹 붙이기): 스냅샷이 채워질 때까지 노드 로컬 콜백, 채움 완료 알림은 Pub/Sub group:snapshot-filled 로 모든 노드에 전달
+ * - 등록 직후 준비 여부를 다시 확인 (등록 전에 요약이 끝난 경우), 대기자 제거(SREM)에 성공한 쪽만 작업 등록
+ * - 제거와 작업 등록은 Lua 한 번으로 처리 (둘 사이에 실패해도 대기자가 사라지지 않고 다음 알림에서 다시 처리)
+ */
+@Slf4j
+@Component
+public class GroupSummaryNotifier implements MessageListener {
+
+    private static final ChannelTopic SNAPSHOT_FILLED_TOPIC = new ChannelTopic("group:snapshot-filled");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisJobQueue jobQueue;
+    private final GroupRepository groupRepository;
+    private final ChatRepository chatRepository;
+    private final ObjectMapper objectMapper;
+    private final GroupSummaryProperties properties;
+
+    private final Map<Long, Set<Runnable>> localWaiters = new ConcurrentHashMap<>();
+
+    public GroupSummaryNotifier(RedisTemplate<String, String> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                RedisJobQueue jobQueue,
+                                GroupRepository groupRepository,
+                                ChatRepository chatRepository,
+                                ObjectMapper objectMapper,
+                                GroupSummaryProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.jobQueue = jobQueue;
+        this.groupRepository = groupRepository;
+        this.chatRepository = chatRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        listenerContainer.addMessageListener(this, SNAPSHOT_FILLED_TOPIC);
+    }
+
+    /**
+     * 그룹 요약 / 키워드 저장이 커밋된 뒤 호출
+     */
+    public void publishSummarized(Long groupId) {
+        String key = waitersKey(groupId);
+        Set<String> waiters = redisTemplate.opsForSet().members(key);
+        if (waiters != null) {
+            waiters.forEach(member -> release(key, member));
+        }
+    }
+
+    /**
+     * 스냅샷 채우기(GROUP_SNAPSHOT_FILL)가 커밋된 뒤 호출
+     */
+    public void publishSnapshotFilled(Long snapshotChatId) {
+        try {
+            redisTemplate.convertAndSend(SNAPSHOT_FILLED_TOPIC.getTopic(), String.valueOf(snapshotChatId));
+        } catch (Exception e) {
+            log.warn("[GROUP_NOTIFY] 스냅샷 채움 발행 실패 → snapshotId={}, error={}", snapshotChatId, e.getMessage());
+        }
+    }
+
+    /**
+     * 그룹 요약이 준비되면 스냅샷 채우기 작업 등록 (이미 준비됐으면 즉시)
+     */
+    public void fillSnapshotWhenReady(GroupSnapshotFillJob fill) {
+        String key = waitersKey(fill.groupId());
+        String member = toJson(fill);
+        redisTemplate.opsForSet().add(key, member);
+        redisTemplate.expire(key, properties.getWaiterTtl());
+
+        if (isReady(fill.groupId())) {
+            release(key, member);
+        }
+    }
+
+    /**
+     * 이 노드에서 스냅샷 채움을 기다릴 콜백 등록 (이미 채워졌으면 즉시 실행)
+     * - 요약 완료가 아니라 스냅샷에 요약 / 키워드가 저장된 뒤 실행 (응답 직후 스냅샷 조회 시 빈 값 X)
+     * @return 등록 해제 (대기 종료 시 호출)
+     */
+    public Runnable onSnapshotFilled(Long snapshotChatId, Runnable callback) {
+        localWaiters.computeIfAbsent(snapshotChatId, id -> ConcurrentHashMap.newKeySet()).add(callback);
+        Runnable unregister = () -> localWaiters.computeIfPresent(snapshotChatId, (id, callbacks) -> {
+            callbacks.remove(callback);
+            return callbacks.isEmpty() ? null : callbacks;
+        });
+
+        if (chatRepository.isSnapshotFilled(snapshotChatId)) {
+            unregister.run();
+            callback.run();
+        }
+        return unregister;
+    }
+
+    /**
+     * 요청 스레드의 영속성 컨텍스트(open-in-view)에 요약 전 Group 이 남아 있어도 커밋된 값으로 판단 (스칼라 조회)
+     */
+    public boolean isReady(Long groupId) {
+        return groupRepository.isSummarized(groupId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long snapshotChatId;
+        try {
+            snapshotChatId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            log.warn("[GROUP_NOTIFY] 잘못된 스냅샷 채움 메시지: {}", e.getMessage());
+            return;
+        }
+
+        Set<Runnable> callbacks = localWaiters.remove(snapshotChatId);
+        if (callbacks == null) return;
+        for (Runnable callback : callbacks) {
+            try {
+                callback.run();
+            } catch (Exception e) {
+                log.error("[GROUP_NOTIFY] 대기 콜백 실패 → snapshotId={}, error={}", snapshotChatId, e.getMessage());
+            }
+        }
+    }
+
+    private void release(String key, String member) {
+        try {
+            jobQueue.enqueueRemoved(JobType.GROUP_SNAPSHOT_FILL, key, member);
+        } catch (Exception e) {
+            log.error("[GROUP->SNAPSHOT] 작업 등록 실패 → waiter={}, error={}", member, e.getMessage());
+        }
+    }
+
+    private String toJson(GroupSnapshotFillJob fill) {
+        try {
+            return objectMapper.writeValueAsString(fill);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("스냅샷 대기 정보 직렬화 실패", e);
+        }
+    }
+
+    private String waitersKey(Long groupId) {
+        return "group:" + groupId + ":snapshot-waiters";
+    }
+}
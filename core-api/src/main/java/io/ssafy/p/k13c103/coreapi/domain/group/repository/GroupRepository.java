@@ -3,6 +3,8 @@ package io.ssafy.p.k13c103.coreapi.domain.group.repository;
 import io.ssafy.p.k13c103.coreapi.domain.group.entity.Group;
 import io.ssafy.p.k13c103.coreapi.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -10,4 +12,16 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
 
     List<Group> findAllByOwnerOrderByUpdatedAtDesc(Member owner);
 
+    /**
+     * 요약 + 키워드 저장 여부 (엔티티를 읽지 않고 DB 값으로 판단 → 영속성 컨텍스트에 캐시된 Group 영향 X)
+     */
+    @Query("""
+            select case when count(g) > 0 then true else false end
+              from Group g
+             where g.groupUid = :groupId
+               and g.summary is not null and trim(g.summary) <> ''
+               and g.keywords is not null and trim(g.keywords) <> ''
+            """)
+    boolean isSummarized(@Param("groupId") Long groupId);
+
 }
@@ -4,15 +4,22 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
 import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
+import io.ssafy.p.k13c103.coreapi.common.job.JobType;
+import io.ssafy.p.k13c103.coreapi.common.job.RedisJobQueue;
+import io.ssafy.p.k13c103.coreapi.domain.chat.content.ChatContentStore;
 import io.ssafy.p.k13c103.coreapi.domain.chat.entity.Chat;
 import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatType;
 import io.ssafy.p.k13c103.coreapi.domain.chat.repository.ChatRepository;
+import io.ssafy.p.k13c103.coreapi.domain.chat.repository.ChatRepository.GroupCopyRow;
 import io.ssafy.p.k13c103.coreapi.domain.group.dto.*;
 import io.ssafy.p.k13c103.coreapi.domain.group.entity.Group;
+import io.ssafy.p.k13c103.coreapi.domain.group.job.GroupSummaryJob;
+import io.ssafy.p.k13c103.coreapi.domain.group.notify.GroupSummaryNotifier;
 import io.ssafy.p.k13c103.coreapi.domain.group.repository.GroupRepository;
 import io.ssafy.p.k13c103.coreapi.domain.member.entity.Member;
 import io.ssafy.p.k13c103.coreapi.domain.member.repository.MemberRepository;
 import io.ssafy.p.k13c103.coreapi.domain.room.entity.Room;
+import io.ssafy.p.k13c103.coreapi.domain.room.job.GroupSnapshotFillJob;
 import io.ssafy.p.k13c103.coreapi.domain.room.repository.RoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
+import java.util.*;
 
 @Slf4j
 @Service
@@ -32,7 +39,9 @@ public class GroupServiceImpl implements GroupService {
     private final ChatRepository chatRepository;
     private final GroupRepository groupRepository;
     private final RoomRepository roomRepository;
-    private final GroupSummaryService groupSummaryService;
+    private final RedisJobQueue jobQueue;
+    private final ChatContentStore chatContentStore;
+    private final GroupSummaryNotifier groupSummaryNotifier;
 
     @Override
     @Transactional
@@ -40,49 +49,32 @@ public class GroupServiceImpl implements GroupService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
 
-        List<Chat> originChats = chatRepository.findAllById(request.getNodes());
-        if (originChats.isEmpty()) {
+        if (request.getNodes() == null || request.getNodes().isEmpty()) {
             throw new ApiException(ErrorCode.GROUP_NOT_FOUND);
         }
 
         Group group = Group.create(member, request.getName());
         groupRepository.save(group);
 
-        List<Chat> copiedChats;
-        copiedChats = originChats.stream()
-                .map(origin -> {
-                    Chat copy = Chat.builder()
-                            .modelCatalog(origin.getModelCatalog())
-                            .question(origin.getQuestion())
-                            .answer(origin.getAnswer())
-                            .summary(origin.getSummary())
-                            .keywords(origin.getKeywords())
-                            .originId(origin.getChatUid())
-                            .status(origin.getStatus())
-                            .chatType(ChatType.GROUP)
-                            .group(group)
-                            .answeredAt(origin.getAnsweredAt())
-                            .build();
-
-                    copy.setTimestamps(origin.getCreatedAt(), origin.getUpdatedAt());
-                    return chatRepository.save(copy);
-                })
-                .toList();
+        // 원본 → 복제본 복사는 INSERT ... SELECT 한 번, 본문 ref 도 한 번에 증가
+        List<Long> originIds = request.getNodes().stream().distinct().toList();
+        int copied = chatRepository.insertGroupCopies(group.getGroupUid(), originIds.toArray(Long[]::new));
+        if (copied == 0) {
+            throw new ApiException(ErrorCode.GROUP_NOT_FOUND);
+        }
+        chatContentStore.retainChats(originIds);
 
-        log.info("[GROUP] 그룹 생성 완료 → groupId={}, name={}, chats={}", group.getGroupUid(), group.getName(), copiedChats.size());
+        List<GroupCopyRow> copies = chatRepository.findGroupCopies(group.getGroupUid());
 
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                groupSummaryService.generateSummaryAsync(group.getGroupUid());
-            }
-        });
+        log.info("[GROUP] 그룹 생성 완료 → groupId={}, name={}, chats={}", group.getGroupUid(), group.getName(), copied);
+
+        enqueueSummaryAfterCommit(group.getGroupUid());
 
         return GroupResponseDto.builder()
                 .groupId(group.getGroupUid())
                 .name(group.getName())
-                .originNodes(originChats.stream().map(Chat::getChatUid).toList())
-                .copiedNodes(copiedChats.stream().map(Chat::getChatUid).toList())
+                .originNodes(copies.stream().map(GroupCopyRow::getOriginId).toList())
+                .copiedNodes(copies.stream().map(GroupCopyRow::getChatUid).toList())
                 .createdAt(group.getCreatedAt())
                 .build();
     }
@@ -97,45 +89,48 @@ public class GroupServiceImpl implements GroupService {
             group.updateName(request.getName());
         }
 
+        // 기존 복제본의 originId 와 요청 노드의 차이만 반영 (빠진 원본 복제본 삭제, 새 원본만 복사)
+        boolean membersChanged = false;
         if (request.getNodes() != null && !request.getNodes().isEmpty()) {
-            chatRepository.deleteAllGroupCopies(groupId);
-
-            List<Chat> originChats = chatRepository.findAllById(request.getNodes());
-            List<Chat> copiedChats = originChats.stream()
-                    .map(origin -> {
-                        Chat copy = Chat.builder()
-                                .modelCatalog(origin.getModelCatalog())
-                                .question(origin.getQuestion())
-                                .answer(origin.getAnswer())
-                                .summary(origin.getSummary())
-                                .keywords(origin.getKeywords())
-                                .originId(origin.getChatUid())
-                                .status(origin.getStatus())
-                                .chatType(ChatType.GROUP)
-                                .group(group)
-                                .answeredAt(origin.getAnsweredAt())
-                                .build();
-
-                        copy.setTimestamps(origin.getCreatedAt(), origin.getUpdatedAt());
-                        return chatRepository.save(copy);
-                    })
-                    .toList();
-
-            log.info("[GROUP_UPDATE] 그룹 채팅 복제 완료 → {}개", copiedChats.size());
+            Set<Long> requested = new LinkedHashSet<>(request.getNodes());
+            Set<Long> kept = new HashSet<>();
+            List<Long> removedCopyIds = new ArrayList<>();
+            for (GroupCopyRow copy : chatRepository.findGroupCopies(groupId)) {
+                // 요청에서 빠졌거나 같은 원본의 중복 복제본이면 삭제
+                if (requested.contains(copy.getOriginId()) && kept.add(copy.getOriginId())) continue;
+                removedCopyIds.add(copy.getChatUid());
+            }
+            List<Long> addedOriginIds = requested.stream().filter(id -> !kept.contains(id)).toList();
+
+            if (!removedCopyIds.isEmpty()) {
+                chatContentStore.releaseChats(removedCopyIds);
+                chatRepository.deleteAllByIdInBatch(removedCopyIds);
+            }
+            int inserted = 0;
+            if (!addedOriginIds.isEmpty()) {
+                inserted = chatRepository.insertGroupCopies(groupId, addedOriginIds.toArray(Long[]::new));
+                chatContentStore.retainChats(addedOriginIds);
+            }
+            membersChanged = !removedCopyIds.isEmpty() || inserted > 0;
+
+            log.info("[GROUP_UPDATE] 그룹 구성 반영 → groupId={}, 추가={}개, 삭제={}개", groupId, inserted, removedCopyIds.size());
         }
 
         if (Boolean.TRUE.equals(request.getSummaryRegen())) {
-            log.info("[GROUP_UPDATE] 그룹 요약 재생성 요청 → groupId={}", groupId);
-            groupSummaryService.generateSummaryAsync(groupId);
+            if (membersChanged) {
+                log.info("[GROUP_UPDATE] 그룹 요약 재생성 요청 → groupId={}", groupId);
+                enqueueSummaryAfterCommit(groupId);
+            } else {
+                log.info("[GROUP_UPDATE] 구성 변경 없음 → 요약 재생성 생략, groupId={}", groupId);
+            }
         }
 
         groupRepository.save(group);
 
         List<Long> originIds = request.getNodes() != null ? request.getNodes() : List.of();
-        List<Long> copiedIds = chatRepository
-                .findAllByGroup_GroupUidAndChatType(groupId, ChatType.GROUP)
+        List<Long> copiedIds = chatRepository.findGroupCopies(groupId)
                 .stream()
-                .map(Chat::getChatUid)
+                .map(GroupCopyRow::getChatUid)
                 .toList();
 
         return GroupResponseDto.builder()
@@ -176,6 +171,7 @@ public class GroupServiceImpl implements GroupService {
             throw new ApiException(ErrorCode.GROUP_FORBIDDEN);
         }
 
+        chatContentStore.releaseGroupCopies(groupId);
         int deletedCount = chatRepository.deleteAllGroupCopies(groupId);
         log.info("[GROUP_DELETE] 복제 채팅 {}개 삭제 완료 → groupId={}", deletedCount, groupId);
 
@@ -246,41 +242,57 @@ public class GroupServiceImpl implements GroupService {
         Group group = groupRepository.findById(request.getGroupId())
                 .orElseThrow(() -> new ApiException(ErrorCode.GROUP_NOT_FOUND));
 
-        int maxRetry = 20;
-        int attempt = 0;
+        // 요약이 아직 없으면 빈 스냅샷을 만들고, 커밋 후 요약 완료 대기자로 등록 (완료 알림 시 채움)
+        boolean summaryReady = !isBlank(group.getSummary()) && !isBlank(group.getKeywords());
 
-        while (attempt < maxRetry) {
-            if (group.getSummary() != null && !group.getSummary().isBlank()
-                    && group.getKeywords() != null && !group.getKeywords().isBlank()) {
-                break;
-            }
+        Chat snapshot = Chat.createGroupSnapshot(room, group,
+                isBlank(group.getSummary()) ? null : chatContentStore.intern(group.getSummary()));
 
-            try {
-                Thread.sleep(500); // 0.5초 대기
-            } catch (InterruptedException ignored) {}
-
-            group = groupRepository.findById(request.getGroupId())
-                    .orElseThrow(() -> new ApiException(ErrorCode.GROUP_NOT_FOUND));
-
-            attempt++;
-        }
+        chatRepository.save(snapshot);
 
-        if (group.getSummary() == null || group.getSummary().isBlank() || group.getKeywords() == null || group.getKeywords().isBlank()) {
-            throw new ApiException(ErrorCode.GROUP_SUMMARY_NOT_READY);
+        if (!summaryReady) {
+            GroupSnapshotFillJob fill = new GroupSnapshotFillJob(group.getGroupUid(), snapshot.getChatUid(), room.getRoomUid(), null);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        groupSummaryNotifier.fillSnapshotWhenReady(fill);
+                    } catch (Exception e) {
+                        log.error("[GROUP->SNAPSHOT] 대기 등록 실패 → snapshotId={}, error={}", fill.snapshotChatId(), e.getMessage());
+                    }
+                }
+            });
         }
 
-        Chat snapshot = Chat.createGroupSnapshot(room, group);
-
-        chatRepository.save(snapshot);
-
         return GroupAttachResponseDto.builder()
                 .roomId(room.getRoomUid())
                 .newChatId(snapshot.getChatUid())
                 .groupId(group.getGroupUid())
+                .summaryReady(summaryReady)
                 .createdAt(snapshot.getCreatedAt())
                 .build();
     }
 
+    /**
+     * 커밋 이후 그룹 요약 작업 등록 (롤백되면 등록 X)
+     */
+    private void enqueueSummaryAfterCommit(Long groupId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    jobQueue.enqueue(JobType.GROUP_SUMMARY, new GroupSummaryJob(groupId));
+                } catch (Exception e) {
+                    log.error("[GROUP_SUMMARY] 요약 작업 등록 실패 → groupId={}, error={}", groupId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
     private List<String> parseKeywords(String keywordsJson) {
         if (keywordsJson == null || keywordsJson.isBlank()) return List.of();
         try {
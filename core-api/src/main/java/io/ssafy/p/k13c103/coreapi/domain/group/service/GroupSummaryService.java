@@ -1,7 +1,9 @@
 package io.ssafy.p.k13c103.coreapi.domain.group.service;
 
+import reactor.core.publisher.Mono;
+
 public interface GroupSummaryService {
 
-    void generateSummaryAsync(Long groupId);
+    Mono<Void> generateSummary(Long groupId);
 
 }
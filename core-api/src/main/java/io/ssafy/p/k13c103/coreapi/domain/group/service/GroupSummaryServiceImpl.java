@@ -1,20 +1,24 @@
 package io.ssafy.p.k13c103.coreapi.domain.group.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
 import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
 import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatType;
 import io.ssafy.p.k13c103.coreapi.domain.chat.repository.ChatRepository;
 import io.ssafy.p.k13c103.coreapi.domain.group.entity.Group;
+import io.ssafy.p.k13c103.coreapi.domain.group.notify.GroupSummaryNotifier;
 import io.ssafy.p.k13c103.coreapi.domain.group.repository.GroupRepository;
 import io.ssafy.p.k13c103.coreapi.domain.llm.AiAsyncClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,18 +29,54 @@ public class GroupSummaryServiceImpl implements GroupSummaryService {
     private final GroupRepository groupRepository;
     private final ChatRepository chatRepository;
     private final AiAsyncClient aiAsyncClient;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate txTemplate;
+    private final Scheduler dbScheduler;    // 블로킹 JPA 접근 전용
+    private final GroupSummaryNotifier groupSummaryNotifier;
 
-    @Async("aiTaskExecutor")
+    /**
+     * 그룹 요약/키워드 생성 (작업 큐의 GROUP_SUMMARY 단계)
+     * - 조회 / 저장만 짧은 트랜잭션으로 분리 (FastAPI 호출 동안 커넥션 점유 X)
+     * - 저장 실패는 에러로 전파 → 큐에서 재시도
+     * - 저장 커밋 후 요약 완료 알림 (대기 중인 스냅샷 / 요청 처리)
+     */
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void generateSummaryAsync(Long groupId) {
-        log.info("[GROUP_SUMMARY] 그룹 요약 비동기 처리 시작 -> groupId={}", groupId);
+    public Mono<Void> generateSummary(Long groupId) {
+        log.info("[GROUP_SUMMARY] 그룹 요약 처리 시작 -> groupId={}", groupId);
 
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new ApiException(ErrorCode.GROUP_NOT_FOUND));
+        return Mono.fromCallable(() -> txTemplate.execute(status -> mergeGroupText(groupId)))
+                .subscribeOn(dbScheduler)
+                .flatMap(mergedText -> {
+                    if (mergedText.isBlank()) {
+                        log.warn("[GROUP_SUMMARY] 그룹 내에 요약/답변 데이터가 없습니다 → groupId={}", groupId);
+                        return Mono.empty();
+                    }
+                    return aiAsyncClient.summarize(mergedText);
+                })
+                .flatMap(result -> Mono.fromRunnable(() -> txTemplate.executeWithoutResult(status -> {
+                            Group refreshed = groupRepository.findById(groupId)
+                                    .orElseThrow(() -> new ApiException(ErrorCode.GROUP_NOT_FOUND));
+
+                            refreshed.updateSummaryAndKeywords(result.getSummary(), toJson(result.getKeywords()));
+                            groupRepository.save(refreshed);
+                        }))
+                        .subscribeOn(dbScheduler)
+                        .then(Mono.fromRunnable(() -> groupSummaryNotifier.publishSummarized(groupId))
+                                .subscribeOn(Schedulers.boundedElastic())))
+                .doOnSuccess(unused -> log.info("[GROUP_SUMMARY] 요약/키워드 생성 완료 → groupId={}", groupId))
+                .doOnError(e -> log.error("[GROUP_SUMMARY] 그룹 요약 처리 실패: {}", e.getMessage()))
+                .then();
+    }
 
-        // 그룹에 포함된 모든 복제 Chat 내용 병합
-        String mergedText = chatRepository.findAllByGroup_GroupUidAndChatType(groupId, ChatType.GROUP)
+    /**
+     * 그룹에 포함된 모든 복제 Chat 내용 병합
+     */
+    private String mergeGroupText(Long groupId) {
+        if (!groupRepository.existsById(groupId)) {
+            throw new ApiException(ErrorCode.GROUP_NOT_FOUND);
+        }
+
+        return chatRepository.findAllByGroup_GroupUidAndChatType(groupId, ChatType.GROUP)
                 .stream()
                 .map(chat -> {
                     String content;
@@ -58,33 +98,13 @@ public class GroupSummaryServiceImpl implements GroupSummaryService {
                 })
                 .filter(text -> !text.isEmpty())
                 .collect(Collectors.joining("\n\n"));
+    }
 
-        if (mergedText.isBlank()) {
-            log.warn("[GROUP_SUMMARY] 그룹 내에 요약/답변 데이터가 없습니다 → groupId={}", groupId);
-            return;
+    private String toJson(List<String> keywords) {
+        try {
+            return objectMapper.writeValueAsString(keywords);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("키워드 직렬화 실패", e);
         }
-
-        aiAsyncClient.summarizeAsync(mergedText)
-                .thenAccept(result -> {
-                    try {
-                        Group refreshed = groupRepository.findById(groupId)
-                                .orElseThrow(() -> new ApiException(ErrorCode.GROUP_NOT_FOUND));
-
-                        refreshed.updateSummaryAndKeywords(
-                                result.getSummary(),
-                                new ObjectMapper().writeValueAsString(result.getKeywords())
-                        );
-
-                        groupRepository.save(refreshed);
-
-                        log.info("[GROUP_SUMMARY] 요약/키워드 생성 완료 → groupId={}", groupId);
-                    } catch (Exception e) {
-                        log.error("[GROUP_SUMMARY] 그룹 요약 저장 실패: {}", e.getMessage());
-                    }
-                })
-                .exceptionally(e -> {
-                    log.error("[GROUP_SUMMARY] FastAPI 호출 실패: {}", e.getMessage());
-                    return null;
-                });
     }
 }
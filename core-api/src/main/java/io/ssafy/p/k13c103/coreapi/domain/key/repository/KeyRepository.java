@@ -37,4 +37,6 @@ public interface KeyRepository extends JpaRepository<Key, Long> {
 
     Optional<Key> findByMemberAndProvider(Member member, ProviderCatalog provider);
 
+    Optional<Key> findByMember_MemberUidAndProvider(Long memberUid, ProviderCatalog provider);
+
 }
\ No newline at end of file
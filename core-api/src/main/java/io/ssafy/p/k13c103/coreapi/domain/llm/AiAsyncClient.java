@@ -5,7 +5,6 @@ import io.ssafy.p.k13c103.coreapi.domain.chat.dto.AiShortSummaryResponseDto;
 import io.ssafy.p.k13c103.coreapi.domain.chat.dto.AiSummaryKeywordsResponseDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
@@ -13,7 +12,6 @@ import reactor.core.publisher.Mono;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -33,12 +31,11 @@ public class AiAsyncClient {
     }
 
     /**
-     * FastAPI: 긴 요약 + 키워드
-     * - ChatServiceImpl 등에서 @Async("aiTaskExecutor")와 함께 사용
-     * - CompletableFuture로 결과 반환
+     * FastAPI: 긴 요약 + 키워드 (Reactive)
+     * - 채팅 생성 파이프라인에서 스레드 점유 없이 체이닝
+     * - 실패 시 에러 전파 (재시도 후 대체값은 호출하는 단계에서 fallbackResponse 로 결정)
      */
-    @Async("aiTaskExecutor")
-    public CompletableFuture<AiSummaryKeywordsResponseDto> summarizeAsync(String text) {
+    public Mono<AiSummaryKeywordsResponseDto> summarize(String text) {
         String url = summaryApiProperties.getBaseUrl() + "/summarize";
 
         return webClient.post()
@@ -53,16 +50,13 @@ public class AiAsyncClient {
                 .timeout(Duration.ofMillis(summaryApiProperties.getTimeoutMs()))
                 .doOnSubscribe(sub -> log.info("[AiAsyncClient] FastAPI 요약 요청 시작"))
                 .doOnSuccess(res -> log.info("[AiAsyncClient] FastAPI 응답 수신 완료"))
-                .doOnError(e -> log.error("[AiAsyncClient] FastAPI 요청 실패: {}", e.getMessage()))
-                .onErrorResume(e -> Mono.just(fallbackResponse(e)))
-                .toFuture();
+                .doOnError(e -> log.warn("[AiAsyncClient] FastAPI 요청 실패: {}", e.getMessage()));
     }
 
     /**
-     * FastAPI: 짧은 요약 (제목)
+     * FastAPI: 짧은 요약 (제목, Reactive)
      */
-    @Async("aiTaskExecutor")
-    public CompletableFuture<AiShortSummaryResponseDto> shortSummaryAsync(String text) {
+    public Mono<AiShortSummaryResponseDto> shortSummary(String text) {
         String url = summaryApiProperties.getBaseUrl() + "/title-summarize";
 
         return webClient.post()
@@ -76,17 +70,15 @@ public class AiAsyncClient {
                 .bodyToMono(AiShortSummaryResponseDto.class)
                 .timeout(Duration.ofMillis(summaryApiProperties.getTimeoutMs()))
                 .doOnSubscribe(sub -> log.info("[AiAsyncClient] FastAPI 짧은 요약 요청 시작"))
-                .doOnSuccess(res -> log.info("[AiAsyncClient] 짧은 요약 응답 완료: {}", res.getTitle()))
-                .doOnError(e -> log.error("[AiAsyncClient] FastAPI 짧은 요약 요청 실패: {}", e.getMessage()))
-                .onErrorResume(e -> Mono.just(fallbackShortResponse(e)))
-                .toFuture();
+                .doOnSuccess(res -> log.info("[AiAsyncClient] 짧은 요약 응답 완료: {}", res == null ? null : res.getTitle()))
+                .doOnError(e -> log.warn("[AiAsyncClient] FastAPI 짧은 요약 요청 실패: {}", e.getMessage()));
     }
 
     /**
      * FastAPI 실패 시 응답 반환 - AiSummaryKeywordsResponseDto
      */
-    private AiSummaryKeywordsResponseDto fallbackResponse(Throwable e) {
-        log.warn("[AiAsyncClient] Fallback 처리 - {}", e.getMessage());
+    public AiSummaryKeywordsResponseDto fallbackResponse(Throwable e) {
+        log.warn("[AiAsyncClient] Fallback 처리 - {}", e == null ? "empty response" : e.getMessage());
         AiSummaryKeywordsResponseDto fallback = new AiSummaryKeywordsResponseDto();
         fallback.setSummary(null);
         fallback.setKeywords(List.of());
@@ -97,8 +89,8 @@ public class AiAsyncClient {
     /**
      * FastAPI 실패 시 응답 반환 - AiShortSummaryResponseDto
      */
-    private AiShortSummaryResponseDto fallbackShortResponse(Throwable e) {
-        log.warn("[AiAsyncClient] 짧은 요약 실패 Fallback - {}", e.getMessage());
+    public AiShortSummaryResponseDto fallbackShortResponse(Throwable e) {
+        log.warn("[AiAsyncClient] 짧은 요약 실패 Fallback - {}", e == null ? "empty response" : e.getMessage());
         AiShortSummaryResponseDto fallback = new AiShortSummaryResponseDto();
         fallback.setTitle(null);
         fallback.setProcessingTimeMs(0);
@@ -0,0 +1,47 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm;
+
+import lombok.Getter;
+
+/**
+ * 스트림 청크 1개의 디코딩 결과
+ * - 스트림 1개당 인스턴스 1개를 만들어 청크마다 재사용 (reset 후 채움)
+ * - usage 는 마지막으로 수신한 값을 유지
+ */
+@Getter
+public class DecodedChunk {
+
+    private String delta;
+    private boolean done;
+
+    private boolean usagePresent;
+    private int promptTokens;
+    private int completionTokens;
+    private int totalTokens;
+
+    /**
+     * 청크 단위 상태 초기화 (usage 누적값은 유지)
+     */
+    void reset() {
+        this.delta = null;
+        this.done = false;
+    }
+
+    void setDelta(String delta) {
+        this.delta = delta;
+    }
+
+    void markDone() {
+        this.done = true;
+    }
+
+    void setUsage(int promptTokens, int completionTokens, int totalTokens) {
+        this.usagePresent = true;
+        this.promptTokens = promptTokens;
+        this.completionTokens = completionTokens;
+        this.totalTokens = totalTokens;
+    }
+
+    public boolean hasDelta() {
+        return delta != null && !delta.isEmpty();
+    }
+}
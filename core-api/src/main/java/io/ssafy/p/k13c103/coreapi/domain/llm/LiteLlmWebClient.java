@@ -2,11 +2,12 @@ package io.ssafy.p.k13c103.coreapi.domain.llm;
 
 import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
 import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
+import io.ssafy.p.k13c103.coreapi.common.error.RateLimitedException;
 import io.ssafy.p.k13c103.coreapi.config.properties.AiProcessingProperties;
-import io.ssafy.p.k13c103.coreapi.config.properties.GmsProperties;
 import io.ssafy.p.k13c103.coreapi.config.properties.LiteLlmProperties;
+import io.ssafy.p.k13c103.coreapi.config.properties.LlmHttpProperties;
+import io.ssafy.p.k13c103.coreapi.domain.llm.circuit.LlmCircuitRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
@@ -15,26 +16,32 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class LiteLlmWebClient implements LiteLlmClient {
 
-    private final WebClient liteLlmWebClient;
+    private final LlmWebClientRegistry webClientRegistry;
 
     private final LiteLlmProperties liteLlmProperties;
 
-    private final GmsProperties gmsProperties;
-
     private final AiProcessingProperties aiProcessingProperties;
 
-    public LiteLlmWebClient(@Qualifier("liteLlmClient") WebClient liteLlmWebClient, LiteLlmProperties liteLlmProperties, GmsProperties gmsProperties, AiProcessingProperties aiProcessingProperties) {
-        this.liteLlmWebClient = liteLlmWebClient;
+    private final LlmHttpProperties llmHttpProperties;
+
+    private final LlmCircuitRegistry circuitRegistry;
+
+    public LiteLlmWebClient(LlmWebClientRegistry webClientRegistry, LiteLlmProperties liteLlmProperties, AiProcessingProperties aiProcessingProperties, LlmHttpProperties llmHttpProperties, LlmCircuitRegistry circuitRegistry) {
+        this.webClientRegistry = webClientRegistry;
         this.liteLlmProperties = liteLlmProperties;
-        this.gmsProperties = gmsProperties;
         this.aiProcessingProperties = aiProcessingProperties;
+        this.llmHttpProperties = llmHttpProperties;
+        this.circuitRegistry = circuitRegistry;
     }
 
     /**
@@ -50,7 +57,7 @@ public class LiteLlmWebClient implements LiteLlmClient {
                 "temperature", 0
         );
         try {
-            liteLlmWebClient.post()
+            webClientRegistry.get(LlmProvider.LITELLM).post()
                     .uri("/v1/chat/completions")
                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + liteLlmProperties.getApiKey())
                     .bodyValue(body)
@@ -59,6 +66,7 @@ public class LiteLlmWebClient implements LiteLlmClient {
                             r -> map4xxToApiEx(r, "litellm", model, false))
                     .onStatus(HttpStatusCode::is5xxServerError, r -> Mono.error(new ApiException(ErrorCode.UPSTREAM_ERROR)))
                     .toBodilessEntity()
+                    .timeout(requestTimeout(LlmProvider.LITELLM), Mono.error(new ApiException(ErrorCode.UPSTREAM_TIMEOUT)))
                     .block();
         } catch (ApiException e) {
             throw e;
@@ -72,8 +80,6 @@ public class LiteLlmWebClient implements LiteLlmClient {
      */
     @Override
     public void gmsTest(String apiKey, String model, String provider) {
-        String gmsBaseUrl = gmsProperties.getBaseUrl();
-
         Map<String, Object> body = Map.of(
                 "model", model,
                 "messages", List.of(Map.of("role", "user", "content", "ping")),
@@ -82,7 +88,7 @@ public class LiteLlmWebClient implements LiteLlmClient {
         );
         try {
             if (provider.equals("openai")) {
-                WebClient client = liteLlmWebClient.mutate().baseUrl(gmsBaseUrl + "/api.openai.com").build();
+                WebClient client = webClientRegistry.get(LlmProvider.OPENAI);
                 client.post()
                         .uri("/v1/chat/completions")
                         .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
@@ -92,9 +98,10 @@ public class LiteLlmWebClient implements LiteLlmClient {
                                 r -> map4xxToApiEx(r, "openai", model, false))
                         .onStatus(HttpStatusCode::is5xxServerError, r -> Mono.error(new ApiException(ErrorCode.UPSTREAM_ERROR)))
                         .toBodilessEntity()
+                        .timeout(requestTimeout(LlmProvider.OPENAI), Mono.error(new ApiException(ErrorCode.UPSTREAM_TIMEOUT)))
                         .block();
             } else if (provider.equals("gemini") || provider.equals("google")) {
-                WebClient client = liteLlmWebClient.mutate().baseUrl(gmsBaseUrl + "/generativelanguage.googleapis.com").build();
+                WebClient client = webClientRegistry.get(LlmProvider.GEMINI);
                 body = Map.of(
                         "contents", List.of(Map.of(
                                 "role", "user",
@@ -116,9 +123,10 @@ public class LiteLlmWebClient implements LiteLlmClient {
                                 r -> map4xxToApiEx(r, "gemini", model, false))
                         .onStatus(HttpStatusCode::is5xxServerError, r -> Mono.error(new ApiException(ErrorCode.UPSTREAM_ERROR)))
                         .toBodilessEntity()
+                        .timeout(requestTimeout(LlmProvider.GEMINI), Mono.error(new ApiException(ErrorCode.UPSTREAM_TIMEOUT)))
                         .block();
             } else if (provider.equals("anthropic") || provider.equals("claude")) {
-                WebClient client = liteLlmWebClient.mutate().baseUrl(gmsBaseUrl + "/api.anthropic.com").build();
+                WebClient client = webClientRegistry.get(LlmProvider.ANTHROPIC);
                 body = Map.of(
                         "model", model,
                         "max_tokens", 1,
@@ -138,6 +146,7 @@ public class LiteLlmWebClient implements LiteLlmClient {
                                 r -> map4xxToApiEx(r, "anthropic", model, false))
                         .onStatus(HttpStatusCode::is5xxServerError, r -> Mono.error(new ApiException(ErrorCode.UPSTREAM_ERROR)))
                         .toBodilessEntity()
+                        .timeout(requestTimeout(LlmProvider.ANTHROPIC), Mono.error(new ApiException(ErrorCode.UPSTREAM_TIMEOUT)))
                         .block();
             }
         } catch (ApiException e) {
@@ -151,14 +160,19 @@ public class LiteLlmWebClient implements LiteLlmClient {
      * 스트리밍 기반 채팅 생성
      * - useLlm = true -> LiteLLM
      * - useLlm = false -> GMS
+     * - 경로(provider) + model 별 차단기 / 동시 요청 한도를 거쳐 연결 (장애 시 타임아웃까지 기다리지 않고 즉시 실패)
      */
     @Override
     public Flux<String> createChatStream(String apiKey, String model, String provider, List<Map<String, String>> messages, boolean useLlm) {
-        final String gmsBaseUrl = gmsProperties.getBaseUrl();
+        LlmProvider route = useLlm ? LlmProvider.LITELLM : LlmProvider.from(provider);
+        return circuitRegistry.guard(route, model, () -> openChatStream(apiKey, model, provider, messages, useLlm));
+    }
+
+    private Flux<String> openChatStream(String apiKey, String model, String provider, List<Map<String, String>> messages, boolean useLlm) {
         final String masterKey = liteLlmProperties.getApiKey();
 
         final boolean streamEnabled = aiProcessingProperties.isStreamEnabled();
-        final double temperature = resolveTemperature(model, aiProcessingProperties.getTemperature());
+        final double temperature = aiProcessingProperties.temperatureFor(model);
 
         if (useLlm) {
             Map<String, Object> llmBody = Map.of(
@@ -169,7 +183,7 @@ public class LiteLlmWebClient implements LiteLlmClient {
                     "temperature", temperature
             );
 
-            var spec = liteLlmWebClient.post()
+            var spec = webClientRegistry.get(LlmProvider.LITELLM).post()
                     .uri("/v1/chat/completions")
                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + masterKey)
                     .bodyValue(llmBody);
@@ -178,7 +192,8 @@ public class LiteLlmWebClient implements LiteLlmClient {
                     .retrieve()
                     .onStatus(HttpStatusCode::is4xxClientError, r -> map4xxToApiEx(r, "litellm", model, streamEnabled))
                     .onStatus(HttpStatusCode::is5xxServerError, r -> Mono.error(new ApiException(ErrorCode.UPSTREAM_ERROR)))
-                    .bodyToFlux(String.class);
+                    .bodyToFlux(String.class)
+                    .transform(flux -> applyStreamTimeouts(flux, LlmProvider.LITELLM, model));
         }
 
         switch (provider.toLowerCase(Locale.ROOT)) {
@@ -192,9 +207,7 @@ public class LiteLlmWebClient implements LiteLlmClient {
                         "temperature", temperature
                 );
 
-                WebClient client = liteLlmWebClient.mutate()
-                        .baseUrl(gmsBaseUrl + "/api.openai.com")
-                        .build();
+                WebClient client = webClientRegistry.get(LlmProvider.OPENAI);
 
                 var spec = client.post()
                         .uri("/v1/chat/completions")
@@ -205,7 +218,8 @@ public class LiteLlmWebClient implements LiteLlmClient {
                         .retrieve()
                         .onStatus(HttpStatusCode::is4xxClientError, r -> map4xxToApiEx(r, "openai", model, streamEnabled))
                         .onStatus(HttpStatusCode::is5xxServerError, r -> Mono.error(new ApiException(ErrorCode.UPSTREAM_ERROR)))
-                        .bodyToFlux(String.class);
+                        .bodyToFlux(String.class)
+                        .transform(flux -> applyStreamTimeouts(flux, LlmProvider.OPENAI, model));
             }
 
             case "gemini":
@@ -235,9 +249,7 @@ public class LiteLlmWebClient implements LiteLlmClient {
                         ? "/v1beta/models/{model}:streamGenerateContent"
                         : "/v1beta/models/{model}:generateContent";
 
-                WebClient client = liteLlmWebClient.mutate()
-                        .baseUrl(gmsBaseUrl + "/generativelanguage.googleapis.com")
-                        .build();
+                WebClient client = webClientRegistry.get(LlmProvider.GEMINI);
 
                 var spec = client.post()
                         .uri(uriBuilder -> uriBuilder
@@ -257,6 +269,7 @@ public class LiteLlmWebClient implements LiteLlmClient {
                                 r -> Mono.error(new ApiException(ErrorCode.UPSTREAM_ERROR))
                         )
                         .bodyToFlux(String.class)
+                        .transform(flux -> applyStreamTimeouts(flux, LlmProvider.GEMINI, model))
                         .transform(this::assembleGeminiChunks);
             }
             case "anthropic":
@@ -271,9 +284,7 @@ public class LiteLlmWebClient implements LiteLlmClient {
                 body.put("temperature", temperature);
                 body.put("max_tokens", 1024);
 
-                WebClient client = liteLlmWebClient.mutate()
-                        .baseUrl(gmsBaseUrl + "/api.anthropic.com")
-                        .build();
+                WebClient client = webClientRegistry.get(LlmProvider.ANTHROPIC);
 
                 var spec = client.post()
                         .uri("/v1/messages")
@@ -285,7 +296,8 @@ public class LiteLlmWebClient implements LiteLlmClient {
                         .retrieve()
                         .onStatus(HttpStatusCode::is4xxClientError, r -> map4xxToApiEx(r, "anthropic", model, streamEnabled))
                         .onStatus(HttpStatusCode::is5xxServerError, r -> Mono.error(new ApiException(ErrorCode.UPSTREAM_ERROR)))
-                        .bodyToFlux(String.class);
+                        .bodyToFlux(String.class)
+                        .transform(flux -> applyStreamTimeouts(flux, LlmProvider.ANTHROPIC, model));
             }
 
             default:
@@ -294,6 +306,47 @@ public class LiteLlmWebClient implements LiteLlmClient {
     }
 
 
+    /**
+     * 스트리밍 타임아웃
+     * - first-byte: 요청 후 첫 청크까지 (긴 추론 모델 고려해 넉넉하게)
+     * - idle: 청크와 청크 사이 (끊긴 연결 감지)
+     * - total: 전체 소요 시간 → 매 대기 창을 남은 시간으로 잘라서 적용
+     * - 긴 답변도 청크가 계속 들어오면 끊지 않음
+     */
+    private Flux<String> applyStreamTimeouts(Flux<String> flux, LlmProvider provider, String model) {
+        LlmHttpProperties.Pool pool = llmHttpProperties.resolve(provider);
+
+        return Flux.defer(() -> {
+            final long deadline = System.nanoTime() + pool.getTotalTimeout().toNanos();
+            final AtomicBoolean received = new AtomicBoolean(false);
+
+            return flux
+                    .timeout(
+                            Mono.defer(() -> Mono.delay(capToDeadline(pool.getFirstByteTimeout(), deadline))),
+                            chunk -> Mono.delay(capToDeadline(pool.getIdleTimeout(), deadline))
+                    )
+                    .doOnNext(chunk -> received.set(true))
+                    .onErrorMap(TimeoutException.class, e -> {
+                        String stage = System.nanoTime() >= deadline ? "total"
+                                : received.get() ? "idle" : "first-byte";
+                        log.warn("[LLM-TIMEOUT] provider={}, model={}, stage={}", provider, model, stage);
+                        return new ApiException(ErrorCode.UPSTREAM_TIMEOUT, stage + " timeout");
+                    });
+        });
+    }
+
+    private Duration capToDeadline(Duration window, long deadline) {
+        long remaining = Math.max(0, deadline - System.nanoTime());
+        return Duration.ofNanos(Math.min(window.toNanos(), remaining));
+    }
+
+    /**
+     * 비스트리밍(키 검증 등) 요청 타임아웃 = first-byte 기준
+     */
+    private Duration requestTimeout(LlmProvider provider) {
+        return llmHttpProperties.resolve(provider).getFirstByteTimeout();
+    }
+
     private WebClient.RequestHeadersSpec<?> addAcceptIfStream(WebClient.RequestHeadersSpec<?> spec, boolean stream) {
         return stream ? spec.header(HttpHeaders.ACCEPT, "text/event-stream") : spec;
     }
@@ -403,20 +456,6 @@ public class LiteLlmWebClient implements LiteLlmClient {
         });
     }
 
-    private double resolveTemperature(String model, double defaultTemperature) {
-        if (model == null) return defaultTemperature;
-
-        String m = model.toLowerCase(Locale.ROOT);
-
-        // gpt-5, gpt-5-mini, gpt-5-nano 모두 포함
-        if (m.startsWith("gpt-5")) {
-            return 1.0;
-        }
-
-        // 나머지는 기존 설정값 그대로
-        return defaultTemperature;
-    }
-
     /** 4xx 로깅 강화: provider/model/stream 포함 */
     private Mono<? extends Throwable> map4xxToApiEx(ClientResponse response, String provider, String model, boolean stream) {
         return response.bodyToMono(String.class).defaultIfEmpty("")
@@ -426,7 +465,8 @@ public class LiteLlmWebClient implements LiteLlmClient {
                             provider, model, stream, sc, body);
                     return switch (sc) {
                         case 401, 403 -> new ApiException(ErrorCode.INVALID_KEY, body);
-                        case 429 -> new ApiException(ErrorCode.RATE_LIMITED, body);
+                        case 429 -> new RateLimitedException(body,
+                                RateLimitedException.parseRetryAfter(response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
                         default -> new ApiException(ErrorCode.UPSTREAM_ERROR, body);
                     };
                 });
@@ -0,0 +1,296 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 스트림 청크 단일 패스 디코더
+ * - JsonParser(streaming)로 청크를 한 번만 읽어 delta / usage / 종료 여부를 동시에 추출
+ * - 필요 없는 필드는 트리를 만들지 않고 skipChildren 으로 건너뜀
+ * - 결과는 호출 측이 넘긴 DecodedChunk 에 채워서 반환 (청크마다 객체 생성 X)
+ */
+@Slf4j
+@Component
+public class LlmChunkDecoder {
+
+    private static final String DONE_SENTINEL = "[DONE]";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public DecodedChunk decode(LlmProvider provider, String chunk, DecodedChunk out) {
+        out.reset();
+        if (chunk == null || chunk.isBlank()) return out;
+
+        String json = normalizeJson(chunk);
+
+        // 모든 provider 공통: SSE 센티넬 문자열 "[DONE]"
+        if (json.equals(DONE_SENTINEL)) {
+            out.markDone();
+            return out;
+        }
+
+        try (JsonParser p = jsonFactory.createParser(json)) {
+            if (!enterFirstObject(p)) return out;
+
+            switch (provider) {
+                case LITELLM, OPENAI -> decodeOpenAi(p, out);
+                case ANTHROPIC -> decodeAnthropic(p, out);
+                case GEMINI -> decodeGemini(p, out);
+                default -> {
+                }
+            }
+        } catch (IOException e) {
+            log.debug("[Decoder] 청크 디코딩 실패 provider={}, err={}", provider, e.getMessage());
+        }
+
+        return out;
+    }
+
+    /**
+     * OpenAI / LiteLLM
+     * - choices[0].delta.content, usage.*_tokens
+     */
+    private void decodeOpenAi(JsonParser p, DecodedChunk out) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+
+            if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                readFirstElement(p, () -> {
+                    while (p.nextToken() == JsonToken.FIELD_NAME) {
+                        String f = p.currentName();
+                        JsonToken v = p.nextToken();
+                        if ("delta".equals(f) && v == JsonToken.START_OBJECT) {
+                            out.setDelta(readTextField(p, "content"));
+                        } else {
+                            p.skipChildren();
+                        }
+                    }
+                });
+            } else if ("usage".equals(field) && value == JsonToken.START_OBJECT) {
+                readUsage(p, out);
+            } else {
+                p.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Claude / Anthropic
+     * - type=content_block_delta → delta.text
+     * - type=message_stop → 종료
+     */
+    private void decodeAnthropic(JsonParser p, DecodedChunk out) throws IOException {
+        String type = null;
+        String text = null;
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+
+            if ("type".equals(field) && value == JsonToken.VALUE_STRING) {
+                type = p.getText();
+            } else if ("delta".equals(field) && value == JsonToken.START_OBJECT) {
+                text = readTextField(p, "text");
+            } else if ("usage".equals(field) && value == JsonToken.START_OBJECT) {
+                readUsage(p, out);
+            } else {
+                p.skipChildren();
+            }
+        }
+
+        // 필드 순서가 보장되지 않으므로 type 은 객체를 다 읽은 뒤 판단
+        if ("content_block_delta".equals(type)) {
+            out.setDelta(text);
+        } else if ("message_stop".equals(type)) {
+            out.markDone();
+        }
+    }
+
+    /**
+     * Gemini / Google
+     * - candidates[0].content.parts[0].text, candidates[0].finishReason, usageMetadata
+     */
+    private void decodeGemini(JsonParser p, DecodedChunk out) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+
+            if ("candidates".equals(field) && value == JsonToken.START_ARRAY) {
+                readFirstElement(p, () -> readGeminiCandidate(p, out));
+            } else if (("usageMetadata".equals(field) || "usage".equals(field)) && value == JsonToken.START_OBJECT) {
+                readUsage(p, out);
+            } else {
+                p.skipChildren();
+            }
+        }
+    }
+
+    private void readGeminiCandidate(JsonParser p, DecodedChunk out) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+
+            if ("content".equals(field) && value == JsonToken.START_OBJECT) {
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String f = p.currentName();
+                    JsonToken v = p.nextToken();
+                    if ("parts".equals(f) && v == JsonToken.START_ARRAY) {
+                        readFirstElement(p, () -> out.setDelta(readTextField(p, "text")));
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+            } else if ("finishReason".equals(field) && value == JsonToken.VALUE_STRING) {
+                String reason = p.getText();
+                if (reason.equalsIgnoreCase("STOP")
+                        || reason.equalsIgnoreCase("MAX_TOKENS")
+                        || reason.equalsIgnoreCase("SAFETY")) {
+                    out.markDone();
+                }
+            } else {
+                p.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * usage 추출
+     * - OpenAI 스타일: prompt_tokens / completion_tokens
+     * - Gemini 스타일: promptTokenCount / candidatesTokenCount / totalTokenCount
+     */
+    private void readUsage(JsonParser p, DecodedChunk out) throws IOException {
+        boolean openAi = false;
+        boolean gemini = false;
+        int prompt = 0;
+        int completion = 0;
+        int gPrompt = 0;
+        int gCompletion = 0;
+        int gTotal = -1;
+
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+
+            if (value != JsonToken.VALUE_NUMBER_INT) {
+                p.skipChildren();
+                continue;
+            }
+
+            switch (field) {
+                case "prompt_tokens" -> {
+                    openAi = true;
+                    prompt = p.getIntValue();
+                }
+                case "completion_tokens" -> {
+                    openAi = true;
+                    completion = p.getIntValue();
+                }
+                case "promptTokenCount" -> {
+                    gemini = true;
+                    gPrompt = p.getIntValue();
+                }
+                case "candidatesTokenCount" -> {
+                    gemini = true;
+                    gCompletion = p.getIntValue();
+                }
+                case "totalTokenCount" -> gTotal = p.getIntValue();
+                default -> {
+                }
+            }
+        }
+
+        int total = prompt + completion;
+
+        // Gemini 값이 있으면 우선 (OpenAI 가 아닌 경우 대부분 여기로 들어옴)
+        if (gemini) {
+            int resolvedTotal = gTotal >= 0 ? gTotal : gPrompt + gCompletion;
+            if (resolvedTotal > 0) {
+                prompt = gPrompt;
+                completion = gCompletion;
+                total = resolvedTotal;
+            }
+        }
+
+        if (openAi || gemini) {
+            out.setUsage(prompt, completion, total);
+        }
+    }
+
+    /**
+     * 현재 START_OBJECT 위치에서 지정 필드의 문자열 값만 읽고 객체를 끝까지 소비
+     */
+    private String readTextField(JsonParser p, String name) throws IOException {
+        String result = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if (name.equals(field) && value == JsonToken.VALUE_STRING) {
+                result = p.getText();
+            } else {
+                p.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 현재 START_ARRAY 위치에서 첫 번째 원소만 reader 로 읽고 나머지는 건너뜀
+     */
+    private void readFirstElement(JsonParser p, ElementReader reader) throws IOException {
+        boolean first = true;
+        JsonToken t;
+        while ((t = p.nextToken()) != null && t != JsonToken.END_ARRAY) {
+            if (first && t == JsonToken.START_OBJECT) {
+                reader.read();
+            } else {
+                p.skipChildren();
+            }
+            first = false;
+        }
+    }
+
+    /**
+     * 루트가 배열이면 첫 번째 조각만 사용 (기존 unwrapFirstIfArray 와 동일)
+     */
+    private boolean enterFirstObject(JsonParser p) throws IOException {
+        JsonToken t = p.nextToken();
+        if (t == JsonToken.START_ARRAY) {
+            t = p.nextToken();
+        }
+        return t == JsonToken.START_OBJECT;
+    }
+
+    /**
+     * SSE 접두어 제거
+     * - 한 줄: "data: {...}" → "{...}"
+     * - 여러 줄: data: 줄만 모아 줄바꿈으로 이어 붙임 (SSE 규격, 이벤트 1개의 JSON 이 여러 줄로 나뉜 경우)
+     *   event: / id: / 주석(:) 줄은 버림, data: 줄이 없으면 (여러 줄로 된 JSON 그대로) 원문 사용
+     */
+    private String normalizeJson(String raw) {
+        String json = raw.trim();
+        if (json.indexOf('\n') < 0) {
+            return json.startsWith("data:") ? json.substring(5).trim() : json;
+        }
+
+        StringBuilder data = new StringBuilder(json.length());
+        boolean framed = false;
+        for (String line : json.split("\r?\n")) {
+            if (!line.startsWith("data:")) continue;
+            if (framed) data.append('\n');
+            data.append(line, 5, line.length());
+            framed = true;
+        }
+        return framed ? data.toString().trim() : json;
+    }
+
+    @FunctionalInterface
+    private interface ElementReader {
+        void read() throws IOException;
+    }
+}
@@ -0,0 +1,35 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm;
+
+import java.util.Locale;
+
+/**
+ * 스트림 응답 포맷/라우팅 기준이 되는 제공사 구분
+ * - LITELLM 은 OpenAI 호환 포맷으로 응답
+ */
+public enum LlmProvider {
+
+    LITELLM,
+    OPENAI,
+    GEMINI,
+    ANTHROPIC,
+    UNKNOWN;
+
+    public static LlmProvider from(String code) {
+        if (code == null) return UNKNOWN;
+
+        return switch (code.toLowerCase(Locale.ROOT).trim()) {
+            case "litellm" -> LITELLM;
+            case "openai" -> OPENAI;
+            case "gemini", "google" -> GEMINI;
+            case "anthropic", "claude" -> ANTHROPIC;
+            default -> UNKNOWN;
+        };
+    }
+
+    /**
+     * 실제 응답 청크 포맷 (LiteLLM 경유 시 OpenAI 포맷)
+     */
+    public static LlmProvider wireFormat(String code, boolean useLlm) {
+        return useLlm ? LITELLM : from(code);
+    }
+}
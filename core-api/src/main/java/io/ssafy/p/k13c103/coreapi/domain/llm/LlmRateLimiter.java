@@ -0,0 +1,171 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.ssafy.p.k13c103.coreapi.common.error.RateLimitedException;
+import io.ssafy.p.k13c103.coreapi.config.properties.LlmRateLimitProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * LLM 호출 전 한도 확인 (Redis 토큰 버킷, 모든 노드 공유)
+ * - llm:ratelimit:{keyUid}:{provider} → 요청(rpm) / 토큰(tpm) 버킷 2개를 하나의 hash 로 관리
+ * - 버킷은 1분에 걸쳐 한도만큼 채워지고, 부족하면 채워질 때까지의 대기 시간을 돌려줌
+ * - 연결을 열기 전에 대기하므로 provider 의 429 를 미리 피함
+ * - Redis 장애 시에는 한도 검사 없이 통과 (채팅 자체를 막지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmRateLimiter {
+
+    private static final String KEY_PREFIX = "llm:ratelimit:";
+    private static final Duration BUCKET_TTL = Duration.ofMinutes(2);
+
+    // KEYS: bucket / ARGV: rpm, tpm, cost, ttlMillis → 0 이면 통과 (차감 완료), 아니면 대기해야 하는 ms
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local rpm = tonumber(ARGV[1])
+            local tpm = tonumber(ARGV[2])
+            local cost = tonumber(ARGV[3])
+            if tpm > 0 then cost = math.min(cost, tpm) end
+            local b = redis.call('HMGET', KEYS[1], 'r', 't', 'ts')
+            local r = tonumber(b[1]) or rpm
+            local tk = tonumber(b[2]) or tpm
+            local elapsed = math.max(0, now - (tonumber(b[3]) or now))
+            r = math.min(rpm, r + elapsed * rpm / 60000)
+            tk = math.min(tpm, tk + elapsed * tpm / 60000)
+            local wait = 0
+            if rpm > 0 and r < 1 then wait = math.max(wait, (1 - r) * 60000 / rpm) end
+            if tpm > 0 and tk < cost then wait = math.max(wait, (cost - tk) * 60000 / tpm) end
+            if wait == 0 then
+              r = r - 1
+              tk = tk - cost
+            end
+            redis.call('HSET', KEYS[1], 'r', tostring(r), 't', tostring(tk), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return math.ceil(wait)
+            """, Long.class);
+
+    // KEYS: bucket / ARGV: delta (추정 - 실제), tpm → 토큰 버킷 정산 (부족분은 다음 요청의 대기로 반영)
+    private static final DefaultRedisScript<Long> SETTLE_SCRIPT = new DefaultRedisScript<>("""
+            local tk = tonumber(redis.call('HGET', KEYS[1], 't'))
+            if not tk then return 0 end
+            local tpm = tonumber(ARGV[2])
+            tk = math.max(-tpm, math.min(tpm, tk + tonumber(ARGV[1])))
+            redis.call('HSET', KEYS[1], 't', tostring(tk))
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LlmRateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 한도 내에 들어올 때까지 대기 (논블로킹)
+     * - 대기가 필요할 때마다 onQueued 로 예상 대기 시간 전달 (SSE 안내용)
+     * - 예상 대기가 maxWait 를 넘으면 RateLimitedException (retryAfter = 예상 대기)
+     */
+    public Mono<Void> acquire(Long keyUid, String provider, int estimatedTokens, Consumer<Duration> onQueued) {
+        if (!properties.isEnabled() || keyUid == null) {
+            return Mono.empty();
+        }
+        LlmProvider llmProvider = LlmProvider.from(provider);
+        LlmRateLimitProperties.Limit limit = properties.resolve(llmProvider);
+        String key = bucketKey(keyUid, llmProvider);
+        long deadline = System.nanoTime() + properties.getMaxWait().toNanos();
+
+        return attempt(key, llmProvider, limit, estimatedTokens, deadline, onQueued);
+    }
+
+    /**
+     * 응답 후 실제 사용량으로 토큰 버킷 정산 (추정보다 많이 썼으면 추가 차감, 적게 썼으면 반환)
+     */
+    public void settle(Long keyUid, String provider, int estimatedTokens, int actualTokens) {
+        if (!properties.isEnabled() || keyUid == null || actualTokens <= 0 || actualTokens == estimatedTokens) {
+            return;
+        }
+        LlmProvider llmProvider = LlmProvider.from(provider);
+        LlmRateLimitProperties.Limit limit = properties.resolve(llmProvider);
+        if (limit.getTpm() <= 0) {
+            return;
+        }
+
+        Mono.fromRunnable(() -> redisTemplate.execute(SETTLE_SCRIPT, List.of(bucketKey(keyUid, llmProvider)),
+                        String.valueOf(estimatedTokens - actualTokens), String.valueOf(limit.getTpm())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("[RATE-LIMIT] 사용량 정산 실패 (key={}): {}", keyUid, e.getMessage()));
+    }
+
+    /**
+     * 요청 전 토큰 추정 (입력 + 예상 출력)
+     */
+    public int estimateTokens(List<Map<String, String>> messages) {
+        long chars = 0;
+        for (Map<String, String> message : messages) {
+            String content = message.get("content");
+            if (content != null) chars += content.length();
+        }
+        return (int) Math.min(Integer.MAX_VALUE,
+                chars / Math.max(1, properties.getCharsPerToken()) + properties.getExpectedCompletionTokens());
+    }
+
+    private Mono<Void> attempt(String key, LlmProvider provider, LlmRateLimitProperties.Limit limit, int cost,
+                               long deadline, Consumer<Duration> onQueued) {
+        return Mono.fromCallable(() -> tryAcquire(key, limit, cost))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("[RATE-LIMIT] 한도 확인 실패 → 검사 없이 진행 (key={}): {}", key, e.getMessage());
+                    return Mono.just(0L);
+                })
+                .flatMap(waitMillis -> {
+                    if (waitMillis <= 0) {
+                        return Mono.empty();
+                    }
+                    Duration wait = Duration.ofMillis(waitMillis);
+                    if (System.nanoTime() + wait.toNanos() > deadline) {
+                        count(provider, "rejected");
+                        return Mono.error(RateLimitedException.local(
+                                "요청 한도 초과 (예상 대기 " + wait.toSeconds() + "초)", wait));
+                    }
+                    count(provider, "queued");
+                    log.info("[RATE-LIMIT] 한도 초과 → {}ms 대기 (key={})", waitMillis, key);
+                    onQueued.accept(wait);
+                    return Mono.delay(wait)
+                            .then(Mono.defer(() -> attempt(key, provider, limit, cost, deadline, onQueued)));
+                });
+    }
+
+    private long tryAcquire(String key, LlmRateLimitProperties.Limit limit, int cost) {
+        Long wait = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key),
+                String.valueOf(limit.getRpm()),
+                String.valueOf(limit.getTpm()),
+                String.valueOf(cost),
+                String.valueOf(BUCKET_TTL.toMillis()));
+        return wait == null ? 0L : wait;
+    }
+
+    private String bucketKey(Long keyUid, LlmProvider provider) {
+        return KEY_PREFIX + keyUid + ":" + provider.name().toLowerCase(Locale.ROOT);
+    }
+
+    private void count(LlmProvider provider, String outcome) {
+        Counter.builder("llm.ratelimit.waits")
+                .tag("provider", provider.name().toLowerCase(Locale.ROOT))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
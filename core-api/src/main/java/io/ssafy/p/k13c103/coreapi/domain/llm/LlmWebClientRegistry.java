@@ -0,0 +1,173 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm;
+
+import io.netty.channel.ChannelOption;
+import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
+import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
+import io.ssafy.p.k13c103.coreapi.config.properties.GmsProperties;
+import io.ssafy.p.k13c103.coreapi.config.properties.LiteLlmProperties;
+import io.ssafy.p.k13c103.coreapi.config.properties.LlmHttpProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * provider 별 WebClient 레지스트리
+ * - 기동 시 provider 마다 WebClient 를 한 번만 만들고 요청마다 재사용 (mutate().build() 반복 X)
+ * - provider 마다 ConnectionProvider 를 따로 두어 느린 provider 가 다른 provider 의 소켓을 잠식하지 않도록 분리
+ * - GMS / LiteLLM base-url 이 바뀌면 WebClient 맵을 통째로 다시 만들어 교체 (커넥션 풀은 유지)
+ * - 응답 타임아웃은 HttpClient 가 아닌 호출부에서 스트리밍 기준으로 적용 (LiteLlmWebClient)
+ */
+@Slf4j
+@Component
+public class LlmWebClientRegistry {
+
+    private static final int MAX_IN_MEMORY_SIZE = 2 * 1024 * 1024;
+
+    private final WebClient.Builder webClientBuilder;
+    private final LiteLlmProperties liteLlmProperties;
+    private final GmsProperties gmsProperties;
+
+    private final Map<LlmProvider, HttpClient> httpClients;
+    private final Map<LlmProvider, ConnectionProvider> connectionProviders;
+
+    private volatile Snapshot snapshot;
+
+    public LlmWebClientRegistry(WebClient.Builder webClientBuilder, LiteLlmProperties liteLlmProperties,
+                                GmsProperties gmsProperties, LlmHttpProperties llmHttpProperties) {
+        this.webClientBuilder = webClientBuilder;
+        this.liteLlmProperties = liteLlmProperties;
+        this.gmsProperties = gmsProperties;
+
+        Map<LlmProvider, HttpClient> clients = new EnumMap<>(LlmProvider.class);
+        Map<LlmProvider, ConnectionProvider> pools = new EnumMap<>(LlmProvider.class);
+        for (LlmProvider provider : routableProviders()) {
+            LlmHttpProperties.Pool pool = llmHttpProperties.resolve(provider);
+            ConnectionProvider connectionProvider = createConnectionProvider(provider, pool);
+            pools.put(provider, connectionProvider);
+            clients.put(provider, createHttpClient(connectionProvider, pool));
+        }
+        this.httpClients = Collections.unmodifiableMap(clients);
+        this.connectionProviders = Collections.unmodifiableMap(pools);
+
+        this.snapshot = build(liteLlmProperties.getBaseUrl(), gmsProperties.getBaseUrl());
+    }
+
+    /**
+     * provider 에 해당하는 WebClient 반환
+     * - base-url 변경이 감지되면 새 스냅샷으로 교체 후 반환
+     */
+    public WebClient get(LlmProvider provider) {
+        Snapshot current = snapshot;
+        String liteLlmBaseUrl = liteLlmProperties.getBaseUrl();
+        String gmsBaseUrl = gmsProperties.getBaseUrl();
+
+        if (!current.matches(liteLlmBaseUrl, gmsBaseUrl)) {
+            current = rebuild(liteLlmBaseUrl, gmsBaseUrl);
+        }
+
+        WebClient client = current.clients().get(provider);
+        if (client == null) {
+            throw new ApiException(ErrorCode.PROVIDER_NOT_FOUND);
+        }
+        return client;
+    }
+
+    private synchronized Snapshot rebuild(String liteLlmBaseUrl, String gmsBaseUrl) {
+        Snapshot current = snapshot;
+        if (current.matches(liteLlmBaseUrl, gmsBaseUrl)) {
+            return current;
+        }
+
+        log.info("[LLM-HTTP] base-url 변경 감지 → WebClient 재생성 (litellm={}, gms={})", liteLlmBaseUrl, gmsBaseUrl);
+        Snapshot next = build(liteLlmBaseUrl, gmsBaseUrl);
+        snapshot = next;
+        return next;
+    }
+
+    private Snapshot build(String liteLlmBaseUrl, String gmsBaseUrl) {
+        Map<LlmProvider, WebClient> clients = new EnumMap<>(LlmProvider.class);
+        for (LlmProvider provider : routableProviders()) {
+            String baseUrl = resolveBaseUrl(provider, liteLlmBaseUrl, gmsBaseUrl);
+            if (baseUrl == null) {
+                continue;
+            }
+
+            clients.put(provider, webClientBuilder.clone()
+                    .baseUrl(baseUrl)
+                    .clientConnector(new ReactorClientHttpConnector(httpClients.get(provider)))
+                    .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .codecs(c -> c.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
+                    .build());
+        }
+        return new Snapshot(liteLlmBaseUrl, gmsBaseUrl, Collections.unmodifiableMap(clients));
+    }
+
+    private String resolveBaseUrl(LlmProvider provider, String liteLlmBaseUrl, String gmsBaseUrl) {
+        if (provider == LlmProvider.LITELLM) {
+            return liteLlmBaseUrl;
+        }
+        if (gmsBaseUrl == null) {
+            return null;
+        }
+        return switch (provider) {
+            case OPENAI -> gmsBaseUrl + "/api.openai.com";
+            case GEMINI -> gmsBaseUrl + "/generativelanguage.googleapis.com";
+            case ANTHROPIC -> gmsBaseUrl + "/api.anthropic.com";
+            default -> null;
+        };
+    }
+
+    private ConnectionProvider createConnectionProvider(LlmProvider provider, LlmHttpProperties.Pool pool) {
+        return ConnectionProvider.builder("llm-" + provider.name().toLowerCase(Locale.ROOT))
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                // active / idle / pending 커넥션 gauge + acquire 시간 (reactor.netty.connection.provider.*)
+                .metrics(true)
+                .build();
+    }
+
+    private HttpClient createHttpClient(ConnectionProvider connectionProvider, LlmHttpProperties.Pool pool) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, pool.isKeepAlive())
+                .keepAlive(pool.isKeepAlive());
+
+        if (pool.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        return httpClient;
+    }
+
+    private static LlmProvider[] routableProviders() {
+        return new LlmProvider[]{LlmProvider.LITELLM, LlmProvider.OPENAI, LlmProvider.GEMINI, LlmProvider.ANTHROPIC};
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProviders.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private record Snapshot(String liteLlmBaseUrl, String gmsBaseUrl, Map<LlmProvider, WebClient> clients) {
+
+        boolean matches(String liteLlmBaseUrl, String gmsBaseUrl) {
+            return Objects.equals(this.liteLlmBaseUrl, liteLlmBaseUrl) && Objects.equals(this.gmsBaseUrl, gmsBaseUrl);
+        }
+    }
+}
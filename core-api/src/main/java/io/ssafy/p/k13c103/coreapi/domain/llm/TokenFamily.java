@@ -0,0 +1,54 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * 모델 계열별 토큰 추정 비율 (토크나이저 없이 근사)
+ * - ASCII: 토큰당 글자 수 / 그 외(한글 등): 글자당 토큰 수
+ * - 실제보다 약간 크게 잡아 컨텍스트 한도를 넘지 않도록 함
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TokenFamily {
+
+    O200K(4.0, 0.7),    // gpt-4o, gpt-4.1, gpt-5, o 시리즈
+    CL100K(3.8, 1.1),   // gpt-4, gpt-3.5
+    CLAUDE(3.5, 1.0),
+    GEMINI(4.0, 0.6),
+    DEFAULT(3.5, 1.1);
+
+    private final double asciiCharsPerToken;
+    private final double nonAsciiTokensPerChar;
+
+    public static TokenFamily of(String model) {
+        if (model == null) return DEFAULT;
+        String m = model.toLowerCase(Locale.ROOT);
+        int slash = m.lastIndexOf('/');
+        if (slash >= 0) m = m.substring(slash + 1);
+
+        if (m.startsWith("gpt-4o") || m.startsWith("gpt-4.1") || m.startsWith("gpt-5")
+                || m.startsWith("o1") || m.startsWith("o3") || m.startsWith("o4")) {
+            return O200K;
+        }
+        if (m.startsWith("gpt-4") || m.startsWith("gpt-3.5")) return CL100K;
+        if (m.startsWith("claude")) return CLAUDE;
+        if (m.startsWith("gemini")) return GEMINI;
+        return DEFAULT;
+    }
+
+    public int estimate(CharSequence text) {
+        if (text == null || text.isEmpty()) return 0;
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLowSurrogate(c)) continue;
+            if (c < 0x80) ascii++;
+            else other++;
+        }
+        return (int) Math.ceil(ascii / asciiCharsPerToken + other * nonAsciiTokensPerChar);
+    }
+}
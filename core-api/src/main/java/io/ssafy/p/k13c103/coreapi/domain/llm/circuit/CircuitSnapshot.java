@@ -0,0 +1,18 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm.circuit;
+
+/**
+ * 차단기 현재 상태 (관리 endpoint 응답용)
+ */
+public record CircuitSnapshot(
+        String provider,
+        String model,
+        CircuitState state,
+        int calls,
+        double failureRate,
+        double slowCallRate,
+        int concurrencyLimit,
+        int inFlight,
+        Long latencyMs,
+        long openRemainingMs
+) {
+}
@@ -0,0 +1,9 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm.circuit;
+
+public enum CircuitState {
+
+    CLOSED,
+    HALF_OPEN,
+    OPEN
+
+}
@@ -0,0 +1,34 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm.circuit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리용: /actuator/llmcircuits
+ * - GET  → provider + model 별 차단기 / 동시 요청 한도 상태 (이 노드 기준)
+ * - POST {"provider": "...", "model": "..."} → 수동 초기화 (CLOSED, 한도 초기값)
+ */
+@Component
+@Endpoint(id = "llmcircuits")
+@RequiredArgsConstructor
+public class LlmCircuitEndpoint {
+
+    private final LlmCircuitRegistry circuitRegistry;
+
+    @ReadOperation
+    public List<CircuitSnapshot> circuits() {
+        return circuitRegistry.snapshots();
+    }
+
+    @WriteOperation
+    public Map<String, Object> reset(String provider, @Nullable String model) {
+        return Map.of("reset", circuitRegistry.reset(provider, model));
+    }
+}
@@ -0,0 +1,152 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm.circuit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
+import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
+import io.ssafy.p.k13c103.coreapi.common.error.Retries;
+import io.ssafy.p.k13c103.coreapi.config.properties.LlmCircuitProperties;
+import io.ssafy.p.k13c103.coreapi.domain.llm.LlmProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * provider + model 별 차단기 관리
+ * - 스트림 구독 시 허가를 받고, 첫 청크 지연 + 종료 결과를 차단기 / 동시 요청 한도에 반영
+ * - provider 장애로 볼 수 없는 실패(키 오류, 키별 429, 사용자 중단)는 결과에 반영하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmCircuitRegistry {
+
+    private final LlmCircuitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ProviderCircuit> circuits = new ConcurrentHashMap<>();
+
+    public Flux<String> guard(LlmProvider route, String model, Supplier<Flux<String>> call) {
+        if (!properties.isEnabled()) {
+            return Flux.defer(call);
+        }
+
+        return Flux.defer(() -> {
+            ProviderCircuit circuit = circuitOf(route, model);
+            ProviderCircuit.Permit permit;
+            try {
+                permit = circuit.acquire();
+            } catch (ApiException e) {
+                reject(circuit, e.getErrorCode());
+                return Flux.error(e);
+            }
+
+            AtomicLong firstChunkAt = new AtomicLong();
+            return call.get()
+                    .doOnNext(chunk -> firstChunkAt.compareAndSet(0, System.nanoTime()))
+                    .doOnComplete(() -> circuit.onSuccess(permit, latency(permit, firstChunkAt)))
+                    .doOnError(error -> {
+                        if (isProviderFailure(error)) {
+                            circuit.onFailure(permit, latency(permit, firstChunkAt));
+                        } else {
+                            circuit.onIgnored(permit);
+                        }
+                    })
+                    .doOnCancel(() -> circuit.onIgnored(permit));
+        });
+    }
+
+    public List<CircuitSnapshot> snapshots() {
+        return circuits.values().stream()
+                .map(ProviderCircuit::snapshot)
+                .sorted(Comparator.comparing(CircuitSnapshot::provider).thenComparing(CircuitSnapshot::model))
+                .toList();
+    }
+
+    /**
+     * 이 노드에서 관측한 최근 첫 청크 지연 (호출 기록이 없으면 null)
+     */
+    public Long recentLatencyMillis(LlmProvider route, String model) {
+        ProviderCircuit circuit = circuits.get(circuitKey(route, model));
+        return circuit == null ? null : circuit.recentLatencyMillis();
+    }
+
+    /**
+     * 차단 중인지 (OPEN 이고 아직 시험 호출 시점 전)
+     */
+    public boolean isOpen(LlmProvider route, String model) {
+        ProviderCircuit circuit = circuits.get(circuitKey(route, model));
+        return circuit != null && circuit.snapshot().openRemainingMs() > 0;
+    }
+
+    /**
+     * 수동 복구 (provider 만 주면 해당 provider 의 모든 model)
+     */
+    public int reset(String provider, String model) {
+        int count = 0;
+        for (ProviderCircuit circuit : circuits.values()) {
+            if (circuit.getProvider().equalsIgnoreCase(provider) && (model == null || circuit.getModel().equals(model))) {
+                circuit.reset();
+                count++;
+            }
+        }
+        log.info("[CIRCUIT] 수동 초기화 → provider={}, model={}, count={}", provider, model, count);
+        return count;
+    }
+
+    private ProviderCircuit circuitOf(LlmProvider route, String model) {
+        String provider = route.name().toLowerCase(Locale.ROOT);
+        return circuits.computeIfAbsent(circuitKey(route, model), key -> {
+            ProviderCircuit circuit = new ProviderCircuit(provider, model, properties);
+            Tags tags = Tags.of("provider", provider, "model", model);
+            Gauge.builder("llm.circuit.state", circuit, c -> c.state().ordinal())
+                    .description("차단기 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                    .tags(tags)
+                    .register(meterRegistry);
+            Gauge.builder("llm.concurrency.limit", circuit, ProviderCircuit::limit)
+                    .description("현재 동시 요청 한도")
+                    .tags(tags)
+                    .register(meterRegistry);
+            Gauge.builder("llm.concurrency.inflight", circuit, ProviderCircuit::inFlight)
+                    .description("진행 중인 요청 수")
+                    .tags(tags)
+                    .register(meterRegistry);
+            return circuit;
+        });
+    }
+
+    private String circuitKey(LlmProvider route, String model) {
+        return route.name().toLowerCase(Locale.ROOT) + ":" + model;
+    }
+
+    private boolean isProviderFailure(Throwable error) {
+        if (error instanceof ApiException apiException && apiException.getErrorCode() == ErrorCode.RATE_LIMITED) {
+            return false;
+        }
+        return Retries.isTransient(error);
+    }
+
+    private long latency(ProviderCircuit.Permit permit, AtomicLong firstChunkAt) {
+        long end = firstChunkAt.get() != 0 ? firstChunkAt.get() : System.nanoTime();
+        return end - permit.startedAt();
+    }
+
+    private void reject(ProviderCircuit circuit, ErrorCode reason) {
+        Counter.builder("llm.circuit.rejected")
+                .tag("provider", circuit.getProvider())
+                .tag("model", circuit.getModel())
+                .tag("reason", reason.name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
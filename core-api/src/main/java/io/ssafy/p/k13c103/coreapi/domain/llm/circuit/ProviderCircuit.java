@@ -0,0 +1,245 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm.circuit;
+
+import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
+import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
+import io.ssafy.p.k13c103.coreapi.config.properties.LlmCircuitProperties;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * provider + model 하나의 차단기 + AIMD 동시 요청 한도
+ * - CLOSED: 최근 windowSize 건의 실패율 / 느린 호출 비율이 기준을 넘으면 OPEN
+ * - OPEN: openDuration 동안 즉시 거절 (CIRCUIT_OPEN), 이후 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls 건만 통과, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ * - 동시 요청이 현재 한도에 도달하면 즉시 거절 (LLM_OVERLOADED)
+ * - 호출 1건당 잠깐 잡는 락이라 synchronized 로 충분
+ */
+@Slf4j
+public class ProviderCircuit {
+
+    @Getter
+    private final String provider;
+    @Getter
+    private final String model;
+    private final LlmCircuitProperties properties;
+
+    // 최근 호출 결과 (순환 버퍼)
+    private final boolean[] failures;
+    private final boolean[] slows;
+    private int cursor;
+    private int calls;
+    private int failureCount;
+    private int slowCount;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    private double limit;
+    private int inFlight;
+
+    // 성공 호출의 첫 청크 지연 (지수 이동 평균, 0 이면 기록 없음)
+    private double latencyEwmaNanos;
+
+    public ProviderCircuit(String provider, String model, LlmCircuitProperties properties) {
+        this.provider = provider;
+        this.model = model;
+        this.properties = properties;
+        this.failures = new boolean[Math.max(1, properties.getWindowSize())];
+        this.slows = new boolean[failures.length];
+        this.limit = properties.getConcurrency().getInitialLimit();
+    }
+
+    /**
+     * 호출 허가 (거절 시 ApiException)
+     */
+    public synchronized Permit acquire() {
+        long now = System.nanoTime();
+        if (state == CircuitState.OPEN) {
+            if (now - openedAt < properties.getOpenDuration().toNanos()) {
+                throw new ApiException(ErrorCode.CIRCUIT_OPEN,
+                        ErrorCode.CIRCUIT_OPEN.getMessage() + " (" + provider + "/" + model + ")");
+            }
+            transition(CircuitState.HALF_OPEN);
+        }
+        if (state == CircuitState.HALF_OPEN && halfOpenInFlight >= properties.getHalfOpenCalls()) {
+            throw new ApiException(ErrorCode.CIRCUIT_OPEN,
+                    ErrorCode.CIRCUIT_OPEN.getMessage() + " (" + provider + "/" + model + ", 복구 확인 중)");
+        }
+        if (inFlight >= (int) limit) {
+            throw new ApiException(ErrorCode.LLM_OVERLOADED,
+                    ErrorCode.LLM_OVERLOADED.getMessage() + " (" + provider + "/" + model + ", limit=" + (int) limit + ")");
+        }
+
+        inFlight++;
+        boolean probe = state == CircuitState.HALF_OPEN;
+        if (probe) halfOpenInFlight++;
+        return new Permit(now, probe);
+    }
+
+    public synchronized void onSuccess(Permit permit, long latencyNanos) {
+        if (!permit.release()) return;
+        release(permit);
+
+        boolean slow = latencyNanos > properties.getSlowCallDuration().toNanos();
+        record(false, slow);
+        latencyEwmaNanos = latencyEwmaNanos == 0 ? latencyNanos : latencyEwmaNanos * 0.8 + latencyNanos * 0.2;
+        adjustLimit(latencyNanos > properties.getConcurrency().getLatencyThreshold().toNanos());
+
+        if (permit.probe() && state == CircuitState.HALF_OPEN) {
+            if (++halfOpenSuccesses >= properties.getHalfOpenCalls()) {
+                transition(CircuitState.CLOSED);
+            }
+            return;
+        }
+        evaluate();
+    }
+
+    public synchronized void onFailure(Permit permit, long latencyNanos) {
+        if (!permit.release()) return;
+        release(permit);
+
+        record(true, latencyNanos > properties.getSlowCallDuration().toNanos());
+        adjustLimit(true);
+
+        if (state == CircuitState.HALF_OPEN) {
+            transition(CircuitState.OPEN);
+            return;
+        }
+        evaluate();
+    }
+
+    /**
+     * 상태 판단에 반영하지 않는 종료 (사용자 중단, 키 오류 등 provider 상태와 무관한 실패)
+     */
+    public synchronized void onIgnored(Permit permit) {
+        if (!permit.release()) return;
+        release(permit);
+    }
+
+    public synchronized void reset() {
+        transition(CircuitState.CLOSED);
+        limit = properties.getConcurrency().getInitialLimit();
+    }
+
+    public synchronized CircuitSnapshot snapshot() {
+        long openRemainingMs = state == CircuitState.OPEN
+                ? Math.max(0, (properties.getOpenDuration().toNanos() - (System.nanoTime() - openedAt)) / 1_000_000)
+                : 0;
+        return new CircuitSnapshot(provider, model, state, calls,
+                calls == 0 ? 0 : (double) failureCount / calls,
+                calls == 0 ? 0 : (double) slowCount / calls,
+                (int) limit, inFlight, recentLatencyMillis(), openRemainingMs);
+    }
+
+    /**
+     * 최근 첫 청크 지연 (기록 없으면 null)
+     */
+    public synchronized Long recentLatencyMillis() {
+        return latencyEwmaNanos == 0 ? null : (long) (latencyEwmaNanos / 1_000_000);
+    }
+
+    public synchronized CircuitState state() {
+        return state;
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    private void release(Permit permit) {
+        inFlight--;
+        if (permit.probe() && halfOpenInFlight > 0) halfOpenInFlight--;
+    }
+
+    private void record(boolean failure, boolean slow) {
+        if (calls == failures.length) {
+            if (failures[cursor]) failureCount--;
+            if (slows[cursor]) slowCount--;
+        } else {
+            calls++;
+        }
+        failures[cursor] = failure;
+        slows[cursor] = slow;
+        if (failure) failureCount++;
+        if (slow) slowCount++;
+        cursor = (cursor + 1) % failures.length;
+    }
+
+    private void evaluate() {
+        if (state != CircuitState.CLOSED || calls < properties.getMinimumCalls()) return;
+
+        double failureRate = (double) failureCount / calls;
+        double slowRate = (double) slowCount / calls;
+        if (failureRate >= properties.getFailureRateThreshold() || slowRate >= properties.getSlowCallRateThreshold()) {
+            log.warn("[CIRCUIT] {}/{} 차단 → failureRate={}, slowRate={}, calls={}",
+                    provider, model, String.format("%.2f", failureRate), String.format("%.2f", slowRate), calls);
+            transition(CircuitState.OPEN);
+        }
+    }
+
+    private void adjustLimit(boolean congested) {
+        LlmCircuitProperties.Concurrency concurrency = properties.getConcurrency();
+        if (congested) {
+            limit = Math.max(concurrency.getMinLimit(), limit * concurrency.getBackoffRatio());
+        } else {
+            limit = Math.min(concurrency.getMaxLimit(), limit + 1.0 / limit);
+        }
+    }
+
+    private void transition(CircuitState next) {
+        if (state != next) {
+            log.info("[CIRCUIT] {}/{} {} → {}", provider, model, state, next);
+        }
+        state = next;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        if (next == CircuitState.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (next == CircuitState.CLOSED) {
+            // 차단 전 결과로 바로 다시 차단되지 않도록 창 초기화
+            Arrays.fill(failures, false);
+            Arrays.fill(slows, false);
+            cursor = 0;
+            calls = 0;
+            failureCount = 0;
+            slowCount = 0;
+        }
+    }
+
+    /**
+     * 호출 1건의 허가 (결과는 한 번만 반영)
+     */
+    public static final class Permit {
+
+        private final long startedAt;
+        private final boolean probe;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startedAt, boolean probe) {
+            this.startedAt = startedAt;
+            this.probe = probe;
+        }
+
+        public long startedAt() {
+            return startedAt;
+        }
+
+        boolean probe() {
+            return probe;
+        }
+
+        private boolean release() {
+            return released.compareAndSet(false, true);
+        }
+    }
+}
@@ -98,4 +98,15 @@ public class RoomController {
         return ResponseEntity.ok(JSend.success(response));
     }
 
+    @Operation(summary = "답변 생성 중단", description = "생성 중인 답변을 중단합니다. 중단 시점까지의 답변은 CANCELLED 상태로 저장되고 CHAT_DONE(cancelled=true) 이벤트가 전송됩니다.")
+    @DeleteMapping("/{roomId}/chats/{chatId}/generation")
+    public ResponseEntity<JSend> cancelGeneration(
+            @AuthenticationPrincipal CustomMemberDetails member,
+            @PathVariable Long roomId,
+            @PathVariable Long chatId
+    ) {
+        roomService.cancelGeneration(member.getMemberUid(), roomId, chatId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(JSend.success("답변 생성 중단 요청 완료"));
+    }
+
 }
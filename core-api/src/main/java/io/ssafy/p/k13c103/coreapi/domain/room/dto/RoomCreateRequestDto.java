@@ -22,4 +22,10 @@ public class RoomCreateRequestDto {
     private String model; // modelCode
 
     private boolean useLlm;
+
+    // 선택한 모델 장애(5xx / 타임아웃 / 차단) 시 회원의 다른 모델로 자동 전환
+    private boolean failover;
+
+    // 같은 모델 + 같은 프롬프트의 이전 답변이 캐시에 있으면 LLM 호출 없이 재생
+    private boolean useCache;
 }
@@ -16,7 +16,8 @@ import org.hibernate.type.SqlTypes;
 public class Room extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_seq_generator")
+    @SequenceGenerator(name = "room_seq_generator", sequenceName = "room_seq", allocationSize = 50)
     @Column(name = "room_uid")
     private Long roomUid;
 
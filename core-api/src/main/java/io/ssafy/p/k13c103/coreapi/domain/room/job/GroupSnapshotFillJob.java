@@ -0,0 +1,7 @@
+package io.ssafy.p.k13c103.coreapi.domain.room.job;
+
+/**
+ * GROUP_SNAPSHOT_FILL 작업 입력값
+ */
+public record GroupSnapshotFillJob(Long groupId, Long snapshotChatId, Long roomId, Long branchId) {
+}
@@ -0,0 +1,48 @@
+package io.ssafy.p.k13c103.coreapi.domain.room.job;
+
+import io.ssafy.p.k13c103.coreapi.common.job.Job;
+import io.ssafy.p.k13c103.coreapi.common.job.JobHandler;
+import io.ssafy.p.k13c103.coreapi.common.job.JobType;
+import io.ssafy.p.k13c103.coreapi.domain.group.notify.GroupSummaryNotifier;
+import io.ssafy.p.k13c103.coreapi.domain.room.service.RoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * GROUP_SNAPSHOT_FILL: 그룹 요약이 준비되면 방의 그룹 스냅샷을 채움
+ * - 요약 완료 알림으로 등록되므로 보통 바로 채워짐
+ * - 그 사이 요약이 다시 비었으면 대기자로 재등록 (재시도 폴링 X)
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupSnapshotFillJobHandler implements JobHandler<GroupSnapshotFillJob> {
+
+    private final RoomService roomService;
+    private final GroupSummaryNotifier groupSummaryNotifier;
+    private final Scheduler dbScheduler;
+
+    @Override
+    public JobType type() {
+        return JobType.GROUP_SNAPSHOT_FILL;
+    }
+
+    @Override
+    public Class<GroupSnapshotFillJob> payloadType() {
+        return GroupSnapshotFillJob.class;
+    }
+
+    @Override
+    public Mono<Void> handle(GroupSnapshotFillJob payload, Job job) {
+        return Mono.fromRunnable(() -> {
+                    boolean filled = roomService.fillSnapshotFromGroup(
+                            payload.groupId(), payload.snapshotChatId(), payload.roomId(), payload.branchId());
+                    if (!filled) {
+                        groupSummaryNotifier.fillSnapshotWhenReady(payload);
+                    }
+                })
+                .subscribeOn(dbScheduler)
+                .then();
+    }
+}
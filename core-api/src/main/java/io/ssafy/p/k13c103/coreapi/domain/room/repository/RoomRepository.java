@@ -15,7 +15,7 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
             select new io.ssafy.p.k13c103.coreapi.domain.room.dto.RoomResponseDto$RoomListInfo(
                 r.roomUid,
                 r.name,
-                c.question,
+                q.body,
                 c.createdAt
             )
             from Room r
@@ -26,6 +26,7 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
                   from Chat c2
                   where c2.room = r
              )
+            left join c.questionContent q
             where r.owner.memberUid = :memberUid
             order by r.roomUid asc
             """)
@@ -26,4 +26,8 @@ public interface RoomService {
     RoomRenameResponseDto updateRoomName(Long memberId, Long roomId, RoomRenameRequestDto request);
 
     ChatCreateResponseDto createChatInRoom(Long memberId, Long roomId, ChatCreateRequestDto request);
+
+    void cancelGeneration(Long memberId, Long roomId, Long chatId);
+
+    boolean fillSnapshotFromGroup(Long groupId, Long snapshotChatId, Long roomId, Long branchId);
 }
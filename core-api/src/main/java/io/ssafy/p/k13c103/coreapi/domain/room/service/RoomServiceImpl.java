@@ -4,26 +4,35 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
 import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
+import io.ssafy.p.k13c103.coreapi.common.job.JobType;
+import io.ssafy.p.k13c103.coreapi.common.job.RedisJobQueue;
 import io.ssafy.p.k13c103.coreapi.common.sse.SseEmitterManager;
 import io.ssafy.p.k13c103.coreapi.domain.catalog.entity.ModelCatalog;
 import io.ssafy.p.k13c103.coreapi.domain.catalog.entity.ProviderCatalog;
 import io.ssafy.p.k13c103.coreapi.domain.catalog.repository.ModelCatalogRepository;
+import io.ssafy.p.k13c103.coreapi.domain.chat.content.ChatContentStore;
+import io.ssafy.p.k13c103.coreapi.domain.chat.context.ContextNode;
+import io.ssafy.p.k13c103.coreapi.domain.chat.context.ContextPacker;
 import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatCreateRequestDto;
 import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatCreateResponseDto;
 import io.ssafy.p.k13c103.coreapi.domain.chat.dto.ChatSseEvent;
 import io.ssafy.p.k13c103.coreapi.domain.chat.entity.Chat;
 import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatSseEventType;
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatStatus;
 import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatType;
+import io.ssafy.p.k13c103.coreapi.domain.chat.graph.ChatBranchGraph;
+import io.ssafy.p.k13c103.coreapi.domain.chat.job.ChatAnswerJob;
 import io.ssafy.p.k13c103.coreapi.domain.chat.repository.ChatRepository;
+import io.ssafy.p.k13c103.coreapi.domain.chat.stream.ChatGenerationRegistry;
 import io.ssafy.p.k13c103.coreapi.domain.group.entity.Group;
+import io.ssafy.p.k13c103.coreapi.domain.group.notify.GroupSummaryNotifier;
 import io.ssafy.p.k13c103.coreapi.domain.group.repository.GroupRepository;
-import io.ssafy.p.k13c103.coreapi.domain.key.entity.Key;
 import io.ssafy.p.k13c103.coreapi.domain.key.repository.KeyRepository;
-import io.ssafy.p.k13c103.coreapi.domain.key.service.KeyService;
 import io.ssafy.p.k13c103.coreapi.domain.member.entity.Member;
 import io.ssafy.p.k13c103.coreapi.domain.member.repository.MemberRepository;
 import io.ssafy.p.k13c103.coreapi.domain.room.dto.*;
 import io.ssafy.p.k13c103.coreapi.domain.room.entity.Room;
+import io.ssafy.p.k13c103.coreapi.domain.room.job.GroupSnapshotFillJob;
 import io.ssafy.p.k13c103.coreapi.domain.room.repository.RoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,8 +45,6 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -46,8 +53,7 @@ import java.util.stream.Collectors;
 @Transactional
 public class RoomServiceImpl implements RoomService {
 
-    private final AsyncChatProcessor asyncChatProcessor;
-    private final KeyService keyService;
+    private final RedisJobQueue jobQueue;
     private final RoomRepository roomRepository;
     private final ChatRepository chatRepository;
     private final GroupRepository groupRepository;
@@ -55,8 +61,12 @@ public class RoomServiceImpl implements RoomService {
     private final ModelCatalogRepository modelCatalogRepository;
     private final KeyRepository keyRepository;
     private final SseEmitterManager sseEmitterManager;
+    private final ChatGenerationRegistry chatGenerationRegistry;
+    private final ContextPacker contextPacker;
+    private final ChatBranchGraph chatBranchGraph;
+    private final ChatContentStore chatContentStore;
+    private final GroupSummaryNotifier groupSummaryNotifier;
     private final TransactionTemplate txTemplate;
-    private final Executor aiTaskExecutor;
     private final ObjectMapper objectMapper;
     private final RedisTemplate<String, String> redisTemplate;
 
@@ -82,75 +92,84 @@ public class RoomServiceImpl implements RoomService {
 
         ProviderCatalog provider = modelCatalog.getProvider();
 
-        Key key = keyRepository.findByMemberAndProvider(member, provider)
-                .orElseThrow(() -> new ApiException(ErrorCode.KEY_NOT_FOUND));
-
-        String decryptedKey = keyService.decrypt(key.getEncryptedKey());
+        // 키 존재 여부만 확인 (복호화는 답변 생성 작업에서 수행)
+        if (keyRepository.findByMemberAndProvider(member, provider).isEmpty()) {
+            throw new ApiException(ErrorCode.KEY_NOT_FOUND);
+        }
 
-        log.info("[ROOM_CREATE] memberId={}, model={}, provider={}, decryptedKey={}",
-                memberId, request.getModel(), provider.getCode(), decryptedKey.substring(0, 6) + "****");
+        log.info("[ROOM_CREATE] memberId={}, model={}, provider={}", memberId, request.getModel(), provider.getCode());
 
-        List<String> contextParts = new ArrayList<>();
+        List<ContextNode> contextNodes = new ArrayList<>();
 
         // 기존 노드 복제 (nodes 존재 시)
+        // - 원본 채팅 / 그룹은 종류별로 한 번에 조회, 복제본은 saveAll 한 번 (pooled 시퀀스 → 배치 INSERT)
+        List<GroupSnapshotFillJob> snapshotFills = new ArrayList<>();
         if (request.getNodes() != null && !request.getNodes().isEmpty()) {
             log.info("[ROOM] 기존 노드 기반 복제 요청 - size={}", request.getNodes().size());
 
-            request.getNodes().stream()
+            List<NodeInfo> nodes = request.getNodes().stream()
                     .sorted(Comparator.comparingInt(NodeInfo::getOrder))
-                    .forEach(node -> {
-                        if (node.getType() == ChatType.CHAT) {
-                            Chat origin = chatRepository.findById(node.getId())
-                                    .orElseThrow(() -> new ApiException(ErrorCode.CHAT_NOT_FOUND));
-                            Chat cloned = Chat.cloneFrom(origin, room);
-                            chatRepository.save(cloned);
-                            createdChats.add(cloned);
-
-                            String a = Optional.ofNullable(origin.getAnswer()).orElse("").trim();
-                            if (!a.isBlank()) contextParts.add(trimForContext(a));
-
-                        } else if (node.getType() == ChatType.GROUP) {
-                            log.info("[ROOM] 그룹 요약 노드 생성 요청 - groupId={}", node.getId());
-
-                            // 기존 그룹 조회
-                            Group originGroup = groupRepository.findById(node.getId())
-                                    .orElseThrow(() -> new ApiException(ErrorCode.GROUP_NOT_FOUND));
-
-                            Chat snapshot = Chat.createGroupSnapshot(room, originGroup);
-                            chatRepository.save(snapshot);
-                            snapshot.updateSearchContent();
-                            createdChats.add(snapshot);
-
-                            String groupText = bestAvailableGroupText(originGroup.getGroupUid());
-                            if (!groupText.isBlank()) contextParts.add(trimForContext(groupText));
-
-                            final Long snapshotId = snapshot.getChatUid();
-                            final Long groupId = originGroup.getGroupUid();
-                            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                                @Override
-                                public void afterCommit() {
-                                    if (isBlank(snapshot.getSummary()) || isBlank(snapshot.getKeywords())) {
-                                        fillSnapshotFromGroupAsync(groupId, snapshotId, room.getRoomUid(), request.getBranchId());
-                                    }
-                                }
-                            });
-
-                            log.info("[ROOM] 그룹 요약 스냅샷 Chat 생성 완료 -> originGroupId={}, snapshotChatId={}", originGroup.getGroupUid(), snapshot.getChatUid());
-                        }
-                    });
+                    .toList();
+            Map<Long, Chat> origins = chatRepository.findAllById(idsOf(nodes, ChatType.CHAT)).stream()
+                    .collect(Collectors.toMap(Chat::getChatUid, chat -> chat));
+            Map<Long, Group> groups = groupRepository.findAllById(idsOf(nodes, ChatType.GROUP)).stream()
+                    .collect(Collectors.toMap(Group::getGroupUid, group -> group));
+            Map<Long, String> groupTexts = bestAvailableGroupTexts(groups.values());
+
+            List<Chat> clones = new ArrayList<>();
+            List<Chat> snapshots = new ArrayList<>();
+            for (NodeInfo node : nodes) {
+                if (node.getType() == ChatType.CHAT) {
+                    Chat origin = origins.get(node.getId());
+                    if (origin == null) throw new ApiException(ErrorCode.CHAT_NOT_FOUND);
+
+                    Chat cloned = Chat.cloneFrom(origin, room);
+                    clones.add(cloned);
+                    createdChats.add(cloned);
+
+                    contextNodes.add(new ContextNode(origin.getChatUid(), origin.getQuestion(), origin.getAnswer(), origin.getSummary()));
+
+                } else if (node.getType() == ChatType.GROUP) {
+                    log.info("[ROOM] 그룹 요약 노드 생성 요청 - groupId={}", node.getId());
+
+                    Group originGroup = groups.get(node.getId());
+                    if (originGroup == null) throw new ApiException(ErrorCode.GROUP_NOT_FOUND);
+
+                    Chat snapshot = Chat.createGroupSnapshot(room, originGroup,
+                            isBlank(originGroup.getSummary()) ? null : chatContentStore.intern(originGroup.getSummary()));
+                    snapshots.add(snapshot);
+                    createdChats.add(snapshot);
+
+                    String groupText = groupTexts.getOrDefault(originGroup.getGroupUid(), "");
+                    if (!groupText.isBlank()) contextNodes.add(new ContextNode(null, null, groupText, null));
+                }
+            }
+
+            chatRepository.saveAll(createdChats);
+            chatContentStore.retain(clones);
+
+            // 그룹 요약이 아직 없으면 커밋 후 요약 완료 대기자로 등록 (완료 알림 시 스냅샷 채우기)
+            for (Chat snapshot : snapshots) {
+                Long groupId = snapshot.getGroup().getGroupUid();
+                if (isBlank(groups.get(groupId).getSummary()) || isBlank(snapshot.getKeywords())) {
+                    snapshotFills.add(new GroupSnapshotFillJob(groupId, snapshot.getChatUid(), room.getRoomUid(), request.getBranchId()));
+                }
+                log.info("[ROOM] 그룹 요약 스냅샷 Chat 생성 완료 -> originGroupId={}, snapshotChatId={}", groupId, snapshot.getChatUid());
+            }
         } else {
             log.info("[ROOM] 완전 새 대화 시작");
         }
 
         // 마지막 노드로 새 질문 Chat 추가
-        Chat newChat = Chat.create(room, request.getQuestion(), modelCatalog);
+        Chat newChat = Chat.create(room, chatContentStore.intern(request.getQuestion()), modelCatalog);
         chatRepository.save(newChat);
         createdChats.add(newChat);
 
-        // 복제된 채팅/그룹 스탭샷들의 요약 및 답변을 병합하여 컨텍스트 생성
-        String contextPrompt = contextParts.stream()
-                .filter(s -> !s.isBlank())
-                .collect(Collectors.joining("\n\n"));
+        // 복제 노드는 order 순서대로 한 줄로 연결, 새 질문은 마지막 노드의 자식
+        chatBranchGraph.linkChain(createdChats);
+
+        // 복제된 채팅/그룹 스냅샷들의 답변 및 요약을 모델 토큰 예산 안에서 병합하여 컨텍스트 생성
+        String contextPrompt = contextPacker.pack(request.getModel(), contextNodes, request.getQuestion());
 
         String providerCode = provider.getCode();
 
@@ -173,6 +192,14 @@ public class RoomServiceImpl implements RoomService {
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
+                for (GroupSnapshotFillJob fill : snapshotFills) {
+                    try {
+                        groupSummaryNotifier.fillSnapshotWhenReady(fill);
+                    } catch (Exception e) {
+                        log.error("[GROUP->SNAPSHOT] 대기 등록 실패 → snapshotId={}, error={}", fill.snapshotChatId(), e.getMessage());
+                    }
+                }
+
                 try {
                     if (request.getSessionUuid() != null && !request.getSessionUuid().isBlank()) {
                         sseEmitterManager.migrateSessionEmitterToRoom(request.getSessionUuid(), room.getRoomUid());
@@ -184,17 +211,7 @@ public class RoomServiceImpl implements RoomService {
                     log.error("[ROOM_CREATE] afterCommit SSE 처리 실패: {}", e.getMessage());
                 }
 
-                try {
-                    asyncChatProcessor.processAsync(
-                            newChat.getChatUid(),
-                            request,
-                            decryptedKey,
-                            providerCode,
-                            contextPrompt
-                    );
-                } catch (Exception e) {
-                    log.error("[ROOM_CREATE] afterCommit Async 처리 실패: {}", e.getMessage());
-                }
+                enqueueChatAnswer(room.getRoomUid(), memberId, newChat.getChatUid(), request, providerCode, contextPrompt);
             }
         });
 
@@ -289,7 +306,9 @@ public class RoomServiceImpl implements RoomService {
             throw new ApiException(ErrorCode.ROOM_NOT_FOUND);
 
         chatRepository.detachGroupChats(roomUid);
+        chatContentStore.releaseRoom(roomUid);
         chatRepository.deleteChatsByRoom(roomUid);
+        chatBranchGraph.removeRoom(roomUid);
 
         roomRepository.deleteByRoomUidAndOwner_MemberUid(roomUid, memberUid);
         try {
@@ -348,13 +367,25 @@ public class RoomServiceImpl implements RoomService {
                 .orElseThrow(() -> new ApiException(ErrorCode.MODEL_NOT_FOUND));
         ProviderCatalog provider = modelCatalog.getProvider();
 
-        Key key = keyRepository.findByMemberAndProvider(room.getOwner(), provider)
-                .orElseThrow(() -> new ApiException(ErrorCode.KEY_NOT_FOUND));
-        String decryptedKey = keyService.decrypt(key.getEncryptedKey());
+        if (keyRepository.findByMemberAndProvider(room.getOwner(), provider).isEmpty()) {
+            throw new ApiException(ErrorCode.KEY_NOT_FOUND);
+        }
+
+        // 부모는 같은 방의 채팅만 허용
+        List<Chat> parentChats = List.of();
+        if (request.getParents() != null && !request.getParents().isEmpty()) {
+            parentChats = chatRepository.findAllById(new LinkedHashSet<>(request.getParents()));
+            boolean foreign = parentChats.stream()
+                    .anyMatch(parent -> parent.getRoom() == null || !parent.getRoom().getRoomUid().equals(roomId));
+            if (foreign || parentChats.size() != new HashSet<>(request.getParents()).size()) {
+                throw new ApiException(ErrorCode.CHAT_NOT_FOUND);
+            }
+        }
 
-        // 새 Chat 엔티티 생성
-        Chat newChat = Chat.create(room, request.getQuestion(), modelCatalog);
+        // 새 Chat 엔티티 생성 + 부모 간선 / 조상 closure 기록
+        Chat newChat = Chat.create(room, chatContentStore.intern(request.getQuestion()), modelCatalog);
         chatRepository.save(newChat);
+        chatBranchGraph.link(newChat, parentChats);
 
         Map<String, Object> payload = new LinkedHashMap<>();
         payload.put("room_id", room.getRoomUid());
@@ -371,17 +402,10 @@ public class RoomServiceImpl implements RoomService {
 
         String providerCode = provider.getCode();
 
-        String tempPrompt = "";
-        if (request.getParents() != null && !request.getParents().isEmpty()) {
-            List<Chat> parentChats = chatRepository.findAllById(request.getParents());
-            tempPrompt = parentChats.stream()
-                    .map(parent -> Optional.ofNullable(parent.getAnswer()).orElse("").trim())
-                    .filter(s -> !s.isBlank())
-                    .collect(Collectors.joining("\n\n"));
-        }
-        final String contextPrompt = tempPrompt;
+        // 조상 전체(closure 한 번 조회)를 토큰 예산 안에서 최근 노드부터 채움
+        final String contextPrompt = chatBranchGraph.assembleContext(request.getModel(), newChat, parentChats, request.getQuestion());
 
-        // 트랜잭션 종료 후 비동기 LLM/GMS 처리 시작
+        // 트랜잭션 종료 후 답변 생성 작업 등록
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
@@ -390,13 +414,7 @@ public class RoomServiceImpl implements RoomService {
                         new ChatSseEvent<>(ChatSseEventType.QUESTION_CREATED, payload)
                 );
 
-                asyncChatProcessor.processAsync(
-                        newChat.getChatUid(),
-                        buildRoomRequest(request),
-                        decryptedKey,
-                        providerCode,
-                        contextPrompt
-                );
+                enqueueChatAnswer(room.getRoomUid(), memberId, newChat.getChatUid(), buildRoomRequest(request), providerCode, contextPrompt);
             }
         });
 
@@ -409,12 +427,36 @@ public class RoomServiceImpl implements RoomService {
                 .build();
     }
 
+    /**
+     * 답변 생성 중단
+     * - 생성 중(QUESTION)인 채팅만 허용
+     * - 실제 중단은 생성 중인 노드에서 처리되며, 부분 답변은 CANCELLED 로 저장 후 CHAT_DONE(cancelled) 전송
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void cancelGeneration(Long memberId, Long roomId, Long chatId) {
+        isOwner(memberId, roomId);
+
+        Chat chat = chatRepository.findById(chatId)
+                .filter(c -> c.getRoom() != null && c.getRoom().getRoomUid().equals(roomId))
+                .orElseThrow(() -> new ApiException(ErrorCode.CHAT_NOT_FOUND));
+
+        if (chat.getStatus() != ChatStatus.QUESTION) {
+            throw new ApiException(ErrorCode.GENERATION_NOT_RUNNING);
+        }
+
+        chatGenerationRegistry.cancel(roomId, chatId);
+        log.info("[GENERATION] 답변 생성 중단 요청 → roomId={}, chatId={}", roomId, chatId);
+    }
+
     private RoomCreateRequestDto buildRoomRequest(ChatCreateRequestDto request) {
         RoomCreateRequestDto dto = new RoomCreateRequestDto();
         dto.setQuestion(request.getQuestion());
         dto.setBranchId(request.getBranchId());
         dto.setModel(request.getModel());
         dto.setUseLlm(request.isUseLlm());
+        dto.setFailover(request.isFailover());
+        dto.setUseCache(request.isUseCache());
         return dto;
     }
 
@@ -437,85 +479,118 @@ public class RoomServiceImpl implements RoomService {
         }
     }
 
-    private String bestAvailableGroupText(Long groupId) {
+    private List<Long> idsOf(List<NodeInfo> nodes, ChatType type) {
+        return nodes.stream()
+                .filter(node -> node.getType() == type)
+                .map(NodeInfo::getId)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 그룹별 컨텍스트 텍스트: 요약이 있으면 요약, 없으면 그룹 복사본의 답변/요약을 이어붙임
+     * - 요약 없는 그룹들의 복사본은 한 번에 조회
+     */
+    private Map<Long, String> bestAvailableGroupTexts(Collection<Group> groups) {
+        Map<Long, String> texts = new HashMap<>();
+        List<Long> pending = new ArrayList<>();
+        for (Group g : groups) {
+            if (!isBlank(g.getSummary())) texts.put(g.getGroupUid(), g.getSummary().trim());
+            else pending.add(g.getGroupUid());
+        }
+        if (pending.isEmpty()) return texts;
+
+        chatRepository.findAllByGroup_GroupUidInAndChatType(pending, ChatType.GROUP).stream()
+                .collect(Collectors.groupingBy(c -> c.getGroup().getGroupUid()))
+                .forEach((groupId, copies) -> texts.put(groupId, copies.stream()
+                        .map(c -> {
+                            String a = Optional.ofNullable(c.getAnswer()).orElse("").trim();
+                            if (!a.isBlank()) return a;
+                            return Optional.ofNullable(c.getSummary()).orElse("").trim();
+                        })
+                        .filter(s -> !s.isBlank())
+                        .limit(10) // 과도한 길이 방지
+                        .collect(Collectors.joining("\n\n"))));
+        return texts;
+    }
+
+    /**
+     * 그룹 요약/키워드가 준비됐으면 스냅샷을 채우고 GROUP_SUMMARY_KEYWORDS 전송 (작업 큐의 GROUP_SNAPSHOT_FILL 단계)
+     * - 아직 준비되지 않았으면 false → 호출 측에서 요약 완료 대기자로 재등록
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean fillSnapshotFromGroup(Long groupId, Long snapshotChatId, Long roomId, Long branchId) {
+        // 항상 DB에서 새로 읽어서 최신 상태 확인 (지연로딩/1차캐시 문제 회피)
         Group g = groupRepository.findById(groupId)
                 .orElseThrow(() -> new ApiException(ErrorCode.GROUP_NOT_FOUND));
 
-        if (!isBlank(g.getSummary())) return g.getSummary().trim();
-
-        return chatRepository.findAllByGroup_GroupUidAndChatType(groupId, io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatType.GROUP)
-                .stream()
-                .map(c -> {
-                    String a = Optional.ofNullable(c.getAnswer()).orElse("").trim();
-                    if (!a.isBlank()) return a;
-                    return Optional.ofNullable(c.getSummary()).orElse("").trim();
-                })
-                .filter(s -> !s.isBlank())
-                .limit(10) // 과도한 길이 방지
-                .collect(Collectors.joining("\n\n"));
-    }
+        String summary = g.getSummary();
+        String keywordsJson = g.getKeywords();
 
-    private void fillSnapshotFromGroupAsync(Long groupId, Long snapshotChatId, Long roomId, Long branchId) {
-        // "그룹 요약/키워드가 준비될 때까지" 기다렸다가 스냅샷을 채움
-        CompletableFuture.runAsync(() -> {
-            final int maxRetry = 100;   // 총 50초 (100 * 500ms), 필요에 맞게 조정
-            final long sleepMs = 500L;
-            int attempt = 0;
+        if (isBlank(summary) || isBlank(keywordsJson)) {
+            return false;
+        }
 
-            while (attempt < maxRetry) {
-                try {
-                    // 항상 DB에서 새로 읽어서 최신 상태 확인 (지연로딩/1차캐시 문제 회피)
-                    Group g = groupRepository.findById(groupId)
-                            .orElseThrow(() -> new ApiException(ErrorCode.GROUP_NOT_FOUND));
-
-                    String summary = g.getSummary();
-                    String keywordsJson = g.getKeywords();
-
-                    if (!isBlank(summary) && !isBlank(keywordsJson)) {
-                        // 스냅샷 업데이트는 "새 트랜잭션"에서 안전하게 수행
-                        txTemplate.execute(status -> {
-                            Chat snap = chatRepository.findById(snapshotChatId)
-                                    .orElseThrow(() -> new ApiException(ErrorCode.CHAT_NOT_FOUND));
-                            snap.updateSummaryAndKeywords(summary, keywordsJson);
-                            snap.updateSearchContent();
-                            chatRepository.save(snap);
-                            return null;
-                        });
-
-                        // 키워드 파싱해서 SSE로 프론트에 알림
-                        List<String> keywords = parseKeywordsJson(keywordsJson);
-
-                        Map<String, Object> sse = new LinkedHashMap<>();
-                        sse.put("room_id", roomId);
-                        sse.put("branch_id", branchId);
-                        sse.put("chat_id", snapshotChatId);
-                        sse.put("group_id", groupId);
-                        sse.put("summary", summary);
-                        sse.put("keywords", keywords);
-
-                        sseEmitterManager.sendEvent(
-                                roomId,
-                                new ChatSseEvent<>(ChatSseEventType.GROUP_SUMMARY_KEYWORDS, sse)
-                        );
-
-                        log.info("[GROUP->SNAPSHOT] ready → snapshot filled: groupId={}, snapshotId={}", groupId, snapshotChatId);
-                        return;
-                    }
+        // 스냅샷 업데이트는 "새 트랜잭션"에서 안전하게 수행
+        txTemplate.execute(status -> {
+            Chat snap = chatRepository.findById(snapshotChatId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.CHAT_NOT_FOUND));
+            snap.updateSummaryAndKeywords(chatContentStore.swap(snap.getSummaryContent(), summary), keywordsJson);
+            chatRepository.save(snap);
+            return null;
+        });
 
-                    Thread.sleep(sleepMs);
-                    attempt++;
+        // 키워드 파싱해서 SSE로 프론트에 알림
+        List<String> keywords = parseKeywordsJson(keywordsJson);
 
-                } catch (InterruptedException ignored) {
-                    Thread.currentThread().interrupt();
-                    return;
-                } catch (Exception e) {
-                    log.warn("[GROUP->SNAPSHOT] polling error: {}", e.getMessage());
-                    return;
-                }
-            }
+        Map<String, Object> sse = new LinkedHashMap<>();
+        sse.put("room_id", roomId);
+        sse.put("branch_id", branchId);
+        sse.put("chat_id", snapshotChatId);
+        sse.put("group_id", groupId);
+        sse.put("summary", summary);
+        sse.put("keywords", keywords);
+
+        sseEmitterManager.sendEvent(
+                roomId,
+                new ChatSseEvent<>(ChatSseEventType.GROUP_SUMMARY_KEYWORDS, sse)
+        );
+
+        // 그룹 붙이기 요청이 기다리는 경우 (요청을 받은 노드에서 응답)
+        groupSummaryNotifier.publishSnapshotFilled(snapshotChatId);
+
+        log.info("[GROUP->SNAPSHOT] ready → snapshot filled: groupId={}, snapshotId={}", groupId, snapshotChatId);
+        return true;
+    }
 
-            log.info("[GROUP->SNAPSHOT] timeout waiting group summary/keywords → groupId={}, snapshotChatId={}", groupId, snapshotChatId);
-        }, aiTaskExecutor);
+    /**
+     * 답변 생성 작업 등록 (afterCommit 에서 호출)
+     * - 등록 실패 시 질문이 응답 없이 남지 않도록 CHAT_ERROR 전송
+     */
+    private void enqueueChatAnswer(Long roomId, Long memberId, Long chatId, RoomCreateRequestDto request,
+                                   String providerCode, String contextPrompt) {
+        try {
+            jobQueue.enqueue(JobType.CHAT_ANSWER, new ChatAnswerJob(
+                    chatId,
+                    memberId,
+                    request.getBranchId(),
+                    request.getModel(),
+                    providerCode,
+                    request.isUseLlm(),
+                    request.isFailover(),
+                    request.isUseCache(),
+                    contextPrompt
+            ));
+            log.info("[JOB] 답변 생성 작업 등록 → chatId={}, model={}, provider={}", chatId, request.getModel(), providerCode);
+        } catch (Exception e) {
+            log.error("[JOB] 답변 생성 작업 등록 실패 → chatId={}, error={}", chatId, e.getMessage());
+
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("chat_id", chatId);
+            payload.put("error", "답변 생성 요청을 등록하지 못했습니다.");
+            sseEmitterManager.sendEvent(roomId, new ChatSseEvent<>(ChatSseEventType.CHAT_ERROR, payload));
+        }
     }
 
     private List<String> parseKeywords(Chat chat) {
@@ -547,10 +622,4 @@ public class RoomServiceImpl implements RoomService {
         return s == null || s.isBlank();
     }
 
-    private String trimForContext(String text) {
-        if (text == null) return "";
-        text = text.trim();
-        if (text.length() <= 100) return text;
-        return text.substring(0, 100) + "...";
-    }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package io.ssafy.p.k13c103.coreapi.common.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.ssafy.p.k13c103.coreapi.config.properties.JobQueueProperties;
+import io.ssafy.p.k13c103.coreapi.domain.group.job.GroupSummaryJob;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 죽은 노드가 남긴 작업 회수 검증
+ * - 다른 컨슈머 이름으로 pending 상태인 작업이 visibilityTimeout 을 넘기면 폴러가 이 노드로 가져와 실행
+ */
+class JobWorkerTest {
+
+    private static final String STALE_ID = "1700000000000-0";
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 다른_노드에_pending_으로_남은_작업을_회수해서_다시_실행한다() throws Exception {
+        JobQueueProperties properties = new JobQueueProperties();
+        properties.setConcurrency(4);
+        properties.setVisibilityTimeout(Duration.ofSeconds(90));
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        StreamOperations<String, String, String> streamOps = mock(StreamOperations.class);
+        when(redisTemplate.<String, String>opsForStream()).thenReturn(streamOps);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        RedisJobQueue jobQueue = new RedisJobQueue(redisTemplate, objectMapper, properties);
+
+        // node-dead 가 2분 전에 가져간 뒤 ACK 없이 사라진 작업
+        PendingMessage stale = new PendingMessage(RecordId.of(STALE_ID), Consumer.from(properties.getGroup(), "node-dead"),
+                Duration.ofMinutes(2), 1);
+        when(streamOps.pending(eq(RedisJobQueue.STREAM_KEY), eq(properties.getGroup()), any(), anyLong()))
+                .thenReturn(new PendingMessages(properties.getGroup(), List.of(stale)));
+
+        MapRecord<String, String, String> record = StreamRecords.newRecord()
+                .in(RedisJobQueue.STREAM_KEY)
+                .withId(RecordId.of(STALE_ID))
+                .ofMap(Map.of("type", JobType.GROUP_SUMMARY.name(), "attempt", "1",
+                        "payload", objectMapper.writeValueAsString(new GroupSummaryJob(7L))));
+        when(streamOps.claim(eq(RedisJobQueue.STREAM_KEY), eq(properties.getGroup()), eq(jobQueue.getConsumerName()),
+                eq(properties.getVisibilityTimeout()), any(RecordId[].class)))
+                .thenReturn(List.of(record));
+        when(streamOps.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset[].class))).thenReturn(List.of());
+
+        RecordingHandler handler = new RecordingHandler();
+        JobWorker worker = new JobWorker(jobQueue, List.of(handler), properties, objectMapper, new SimpleMeterRegistry());
+
+        worker.pollOnce();
+
+        assertThat(handler.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handler.received).containsExactly(new GroupSummaryJob(7L));
+        verify(streamOps).claim(eq(RedisJobQueue.STREAM_KEY), eq(properties.getGroup()), eq(jobQueue.getConsumerName()),
+                eq(properties.getVisibilityTimeout()), eq(RecordId.of(STALE_ID)));
+        // 회수한 1건을 뺀 슬롯만큼만 새 작업 조회
+        verify(streamOps).read(any(Consumer.class), argThat((StreamReadOptions options) -> options.getCount() == 3L),
+                any(StreamOffset[].class));
+    }
+
+    private static class RecordingHandler implements JobHandler<GroupSummaryJob> {
+
+        private final List<GroupSummaryJob> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        @Override
+        public JobType type() {
+            return JobType.GROUP_SUMMARY;
+        }
+
+        @Override
+        public Class<GroupSummaryJob> payloadType() {
+            return GroupSummaryJob.class;
+        }
+
+        @Override
+        public Mono<Void> handle(GroupSummaryJob payload, Job job) {
+            return Mono.fromRunnable(() -> {
+                received.add(payload);
+                done.countDown();
+            });
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.ssafy.p.k13c103.coreapi.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.ssafy.p.k13c103.coreapi.common.sse.SseDeltaCoalescer;
+import io.ssafy.p.k13c103.coreapi.common.sse.SseEmitterManager;
+import io.ssafy.p.k13c103.coreapi.common.sse.SseEventBus;
+import io.ssafy.p.k13c103.coreapi.config.properties.AiProcessingProperties;
+import io.ssafy.p.k13c103.coreapi.config.properties.ChatContextProperties;
+import io.ssafy.p.k13c103.coreapi.config.properties.ChatResponseCacheProperties;
+import io.ssafy.p.k13c103.coreapi.config.properties.ChatRetryProperties;
+import io.ssafy.p.k13c103.coreapi.config.properties.ChatStreamProperties;
+import io.ssafy.p.k13c103.coreapi.config.properties.LlmRateLimitProperties;
+import io.ssafy.p.k13c103.coreapi.config.properties.SseProperties;
+import io.ssafy.p.k13c103.coreapi.domain.catalog.repository.ProviderCatalogRepository;
+import io.ssafy.p.k13c103.coreapi.domain.chat.content.ChatContentStore;
+import io.ssafy.p.k13c103.coreapi.domain.chat.context.ContextPacker;
+import io.ssafy.p.k13c103.coreapi.domain.chat.entity.Chat;
+import io.ssafy.p.k13c103.coreapi.domain.chat.enums.ChatStatus;
+import io.ssafy.p.k13c103.coreapi.domain.chat.repository.ChatRepository;
+import io.ssafy.p.k13c103.coreapi.domain.chat.stream.AnswerRoute;
+import io.ssafy.p.k13c103.coreapi.domain.chat.stream.ChatGenerationRegistry;
+import io.ssafy.p.k13c103.coreapi.domain.chat.stream.ChatResponseCache;
+import io.ssafy.p.k13c103.coreapi.domain.chat.stream.ChatStreamCheckpointStore;
+import io.ssafy.p.k13c103.coreapi.domain.key.repository.KeyRepository;
+import io.ssafy.p.k13c103.coreapi.domain.llm.AiAsyncClient;
+import io.ssafy.p.k13c103.coreapi.domain.llm.LiteLlmWebClient;
+import io.ssafy.p.k13c103.coreapi.domain.llm.LlmChunkDecoder;
+import io.ssafy.p.k13c103.coreapi.domain.llm.LlmRateLimiter;
+import io.ssafy.p.k13c103.coreapi.domain.member.entity.Member;
+import io.ssafy.p.k13c103.coreapi.domain.member.repository.MemberRepository;
+import io.ssafy.p.k13c103.coreapi.domain.room.entity.Room;
+import io.ssafy.p.k13c103.coreapi.domain.room.repository.RoomRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 답변 스트리밍 중 DB 커넥션(트랜잭션) 점유 여부 검증
+ * - 트랜잭션 매니저가 열린 트랜잭션 수를 세고, N개의 스트림을 열어둔 상태에서 0인지 확인
+ */
+class ChatServiceImplTest {
+
+    private static final int STREAMS = 20;
+
+    private static final String CHUNK =
+            "data: {\"choices\":[{\"index\":0,\"delta\":{\"content\":\"안녕\"}}]}";
+
+    @Test
+    void 스트리밍_중에는_커넥션을_점유하지_않는다() {
+        CountingTransactionManager txManager = new CountingTransactionManager();
+
+        ChatRepository chatRepository = mock(ChatRepository.class);
+        LiteLlmWebClient liteLlmWebClient = mock(LiteLlmWebClient.class);
+        AiAsyncClient aiAsyncClient = mock(AiAsyncClient.class);
+        SseEmitterManager sseEmitterManager = mock(SseEmitterManager.class);
+
+        Member owner = mock(Member.class);
+        when(owner.getMemberUid()).thenReturn(1L);
+        Room room = mock(Room.class);
+        when(room.getRoomUid()).thenReturn(10L);
+        when(room.getOwner()).thenReturn(owner);
+
+        List<Sinks.Many<String>> sinks = new ArrayList<>();
+        List<Chat> chats = new ArrayList<>();
+        for (long id = 1; id <= STREAMS; id++) {
+            Chat chat = mock(Chat.class);
+            when(chat.getChatUid()).thenReturn(id);
+            when(chat.getRoom()).thenReturn(room);
+            when(chat.getQuestion()).thenReturn("질문 " + id);
+            when(chat.getStatus()).thenReturn(ChatStatus.QUESTION);
+            when(chat.getAnsweredAt()).thenReturn(LocalDateTime.now());
+            when(chatRepository.findById(id)).thenReturn(Optional.of(chat));
+            chats.add(chat);
+            sinks.add(Sinks.many().unicast().onBackpressureBuffer());
+        }
+
+        AtomicInteger opened = new AtomicInteger();
+        when(liteLlmWebClient.createChatStream(any(), any(), any(), any(), anyBoolean()))
+                .thenAnswer(inv -> sinks.get(opened.getAndIncrement()).asFlux());
+
+        // 호출 한도 검사는 이 테스트 범위 밖
+        LlmRateLimitProperties rateLimitProperties = new LlmRateLimitProperties();
+        rateLimitProperties.setEnabled(false);
+
+        ChatServiceImpl chatService = new ChatServiceImpl(
+                chatRepository,
+                mock(ChatContentStore.class),
+                mock(RoomRepository.class),
+                mock(MemberRepository.class),
+                mock(KeyRepository.class),
+                mock(ProviderCatalogRepository.class),
+                sseEmitterManager,
+                new SseDeltaCoalescer(sseEmitterManager, new SseProperties()),
+                new ChatStreamCheckpointStore(mock(RedisTemplate.class), new ChatStreamProperties()),
+                new ChatGenerationRegistry(mock(SseEventBus.class)),
+                liteLlmWebClient,
+                new LlmRateLimiter(mock(RedisTemplate.class), rateLimitProperties, new SimpleMeterRegistry()),
+                new ChatResponseCache(mock(RedisTemplate.class), new ChatResponseCacheProperties(),
+                        new AiProcessingProperties(), new SimpleMeterRegistry()),
+                new ContextPacker(new ChatContextProperties()),
+                new LlmChunkDecoder(),
+                aiAsyncClient,
+                new ObjectMapper(),
+                Schedulers.immediate(),
+                new TransactionTemplate(txManager),
+                new AiProcessingProperties(),
+                mock(RedisTemplate.class),
+                new ChatRetryProperties()
+        );
+
+        List<AnswerRoute> routes = List.of(new AnswerRoute(1L, "gpt-4o-mini", "openai", 1L, "key"));
+        for (long id = 1; id <= STREAMS; id++) {
+            chatService.generateAnswer(id, 1L, routes, false, false, null).subscribe();
+        }
+        sinks.forEach(sink -> sink.tryEmitNext(CHUNK));
+
+        // 모든 스트림이 열려 있는 동안 트랜잭션 0개
+        assertThat(opened.get()).isEqualTo(STREAMS);
+        assertThat(txManager.active.get()).isZero();
+
+        sinks.forEach(Sinks.Many::tryEmitComplete);
+
+        // 답변 저장은 스트림 종료 후 짧은 트랜잭션으로만 수행
+        assertThat(txManager.active.get()).isZero();
+        assertThat(txManager.max.get()).isEqualTo(1);
+        chats.forEach(chat -> verify(chat).updateAnswer("안녕"));
+        verify(chatRepository, times(STREAMS)).save(any(Chat.class));
+    }
+
+    /**
+     * 열린 트랜잭션 수 = 사용 중인 커넥션 수로 간주
+     */
+    private static class CountingTransactionManager implements PlatformTransactionManager {
+
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            max.accumulateAndGet(active.incrementAndGet(), Math::max);
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            active.decrementAndGet();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            active.decrementAndGet();
+        }
+    }
+}
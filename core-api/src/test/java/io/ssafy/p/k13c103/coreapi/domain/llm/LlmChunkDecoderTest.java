@@ -0,0 +1,115 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트림 청크 디코딩 검증
+ * - 바이트 경계에서 잘린 UTF-8, [DONE] 센티넬, 여러 줄 data: 프레임, 깨진 JSON
+ */
+class LlmChunkDecoderTest {
+
+    private final LlmChunkDecoder decoder = new LlmChunkDecoder();
+
+    @Test
+    void 멀티바이트_문자가_버퍼_경계에서_잘려도_온전한_delta_로_디코딩한다() {
+        String text = "안녕하세요 😀";
+        byte[] frame = ("data: " + openAiDelta(text) + "\n\n").getBytes(StandardCharsets.UTF_8);
+
+        // 한글 첫 글자(3바이트)와 이모지(4바이트) 중간에서 각각 자름
+        int hangul = indexOf(frame, "안".getBytes(StandardCharsets.UTF_8)) + 1;
+        int emoji = indexOf(frame, "😀".getBytes(StandardCharsets.UTF_8)) + 2;
+
+        List<String> lines = StringDecoder.allMimeTypes()
+                .decode(Flux.just(buffer(frame, 0, hangul), buffer(frame, hangul, emoji), buffer(frame, emoji, frame.length)),
+                        ResolvableType.forClass(String.class), null, Map.of())
+                .filter(line -> !line.isBlank())
+                .collectList()
+                .block();
+
+        assertThat(lines).hasSize(1);
+        DecodedChunk out = decoder.decode(LlmProvider.OPENAI, lines.get(0), new DecodedChunk());
+        assertThat(out.getDelta()).isEqualTo(text);
+    }
+
+    @Test
+    void 이스케이프된_서로게이트_쌍도_하나의_문자로_디코딩한다() {
+        DecodedChunk out = decoder.decode(LlmProvider.OPENAI,
+                "data: {\"choices\":[{\"delta\":{\"content\":\"\\uD83D\\uDE00\"}}]}", new DecodedChunk());
+
+        assertThat(out.getDelta()).isEqualTo("😀");
+    }
+
+    @Test
+    void DONE_센티넬은_delta_없이_종료로_표시한다() {
+        DecodedChunk out = new DecodedChunk();
+
+        decoder.decode(LlmProvider.OPENAI, "data: [DONE]", out);
+        assertThat(out.isDone()).isTrue();
+        assertThat(out.hasDelta()).isFalse();
+
+        decoder.decode(LlmProvider.GEMINI, "  [DONE]  ", out);
+        assertThat(out.isDone()).isTrue();
+    }
+
+    @Test
+    void 여러_줄로_나뉜_data_프레임은_이어_붙여서_디코딩한다() {
+        String chunk = """
+                event: completion
+                data: {"choices":[{"delta":
+                data: {"content":"hello"}}],
+                data: "usage":{"prompt_tokens":3,"completion_tokens":2}}
+                """;
+
+        DecodedChunk out = decoder.decode(LlmProvider.OPENAI, chunk, new DecodedChunk());
+
+        assertThat(out.getDelta()).isEqualTo("hello");
+        assertThat(out.isUsagePresent()).isTrue();
+        assertThat(out.getTotalTokens()).isEqualTo(5);
+    }
+
+    @Test
+    void 깨진_JSON_은_예외_없이_건너뛰고_다음_청크는_정상_디코딩한다() {
+        DecodedChunk out = new DecodedChunk();
+
+        decoder.decode(LlmProvider.OPENAI, "data: {\"choices\":[{\"delta\":{\"content\":\"hi\"", out);
+        assertThat(out.hasDelta()).isFalse();
+        assertThat(out.isDone()).isFalse();
+
+        decoder.decode(LlmProvider.ANTHROPIC, "data: not-json", out);
+        assertThat(out.hasDelta()).isFalse();
+
+        decoder.decode(LlmProvider.OPENAI, "data: " + openAiDelta("ok"), out);
+        assertThat(out.getDelta()).isEqualTo("ok");
+    }
+
+    private static String openAiDelta(String content) {
+        return "{\"choices\":[{\"delta\":{\"content\":\"" + content + "\"}}]}";
+    }
+
+    private static DataBuffer buffer(byte[] bytes, int from, int to) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, from, to));
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        outer:
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (bytes[i + j] != target[j]) continue outer;
+            }
+            return i;
+        }
+        throw new IllegalArgumentException("not found");
+    }
+}
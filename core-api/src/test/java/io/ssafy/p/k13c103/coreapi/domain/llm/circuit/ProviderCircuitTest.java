@@ -0,0 +1,168 @@
+package io.ssafy.p.k13c103.coreapi.domain.llm.circuit;
+
+import io.ssafy.p.k13c103.coreapi.common.error.ApiException;
+import io.ssafy.p.k13c103.coreapi.common.error.ErrorCode;
+import io.ssafy.p.k13c103.coreapi.config.properties.LlmCircuitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 차단기 상태 전이 + AIMD 동시 요청 한도 검증
+ */
+class ProviderCircuitTest {
+
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(6).toNanos();     // latencyThreshold(5초) 초과
+
+    @Test
+    void 실패율이_기준을_넘으면_차단하고_즉시_거절한다() {
+        ProviderCircuit circuit = new ProviderCircuit("openai", "gpt-4o", properties(Duration.ofHours(1)));
+
+        succeed(circuit, FAST);
+        succeed(circuit, FAST);
+        fail(circuit);
+        assertThat(circuit.state()).isEqualTo(CircuitState.CLOSED);    // minimumCalls 미만
+
+        fail(circuit);
+        assertThat(circuit.state()).isEqualTo(CircuitState.OPEN);
+        assertRejected(circuit, ErrorCode.CIRCUIT_OPEN);
+    }
+
+    @Test
+    void 차단_시간이_지나면_시험_호출만_통과시키고_모두_성공하면_복구한다() {
+        ProviderCircuit circuit = new ProviderCircuit("openai", "gpt-4o", properties(Duration.ZERO));
+        trip(circuit);
+
+        ProviderCircuit.Permit first = circuit.acquire();
+        ProviderCircuit.Permit second = circuit.acquire();
+        assertThat(circuit.state()).isEqualTo(CircuitState.HALF_OPEN);
+        assertRejected(circuit, ErrorCode.CIRCUIT_OPEN);               // halfOpenCalls(2) 초과
+
+        circuit.onSuccess(first, FAST);
+        assertThat(circuit.state()).isEqualTo(CircuitState.HALF_OPEN);
+        circuit.onSuccess(second, FAST);
+        assertThat(circuit.state()).isEqualTo(CircuitState.CLOSED);
+        assertThat(circuit.snapshot().calls()).isZero();               // 차단 전 결과는 초기화
+    }
+
+    @Test
+    void 시험_호출이_하나라도_실패하면_다시_차단한다() {
+        ProviderCircuit circuit = new ProviderCircuit("openai", "gpt-4o", properties(Duration.ZERO));
+        trip(circuit);
+
+        ProviderCircuit.Permit probe = circuit.acquire();
+        circuit.onFailure(probe, FAST);
+
+        assertThat(circuit.state()).isEqualTo(CircuitState.OPEN);
+    }
+
+    @Test
+    void 실패하면_한도를_줄이고_빠른_성공이_쌓이면_한도를_조금씩_늘린다() {
+        LlmCircuitProperties properties = properties(Duration.ofHours(1));
+        properties.setMinimumCalls(100);                                // 차단 없이 한도만 확인
+        ProviderCircuit circuit = new ProviderCircuit("openai", "gpt-4o", properties);
+        assertThat(circuit.limit()).isEqualTo(10);
+
+        fail(circuit);
+        assertThat(circuit.limit()).isEqualTo(5);                       // × backoffRatio
+
+        for (int i = 0; i < 5; i++) {
+            succeed(circuit, FAST);
+        }
+        assertThat(circuit.limit()).isEqualTo(5);                       // +1/limit 씩 → 5.93
+        succeed(circuit, FAST);
+        assertThat(circuit.limit()).isEqualTo(6);
+
+        succeed(circuit, SLOW);                                         // 느린 성공도 혼잡으로 보고 감소
+        assertThat(circuit.limit()).isEqualTo(3);
+    }
+
+    @Test
+    void 한도는_최소값과_최대값_사이로_유지된다() {
+        LlmCircuitProperties properties = properties(Duration.ofHours(1));
+        properties.setMinimumCalls(1000);
+        properties.setWindowSize(1000);
+        ProviderCircuit circuit = new ProviderCircuit("openai", "gpt-4o", properties);
+
+        for (int i = 0; i < 10; i++) {
+            fail(circuit);
+        }
+        assertThat(circuit.limit()).isEqualTo(2);
+
+        for (int i = 0; i < 500; i++) {
+            succeed(circuit, FAST);
+        }
+        assertThat(circuit.limit()).isEqualTo(12);
+    }
+
+    @Test
+    void 동시_요청이_한도에_도달하면_과부하로_거절한다() {
+        LlmCircuitProperties properties = properties(Duration.ofHours(1));
+        properties.getConcurrency().setInitialLimit(2);
+        ProviderCircuit circuit = new ProviderCircuit("openai", "gpt-4o", properties);
+
+        ProviderCircuit.Permit first = circuit.acquire();
+        circuit.acquire();
+        assertRejected(circuit, ErrorCode.LLM_OVERLOADED);
+
+        circuit.onIgnored(first);
+        assertThat(circuit.inFlight()).isEqualTo(1);
+        circuit.acquire();
+    }
+
+    @Test
+    void 같은_허가의_결과는_한_번만_반영한다() {
+        ProviderCircuit circuit = new ProviderCircuit("openai", "gpt-4o", properties(Duration.ofHours(1)));
+
+        ProviderCircuit.Permit permit = circuit.acquire();
+        circuit.onFailure(permit, FAST);
+        circuit.onFailure(permit, FAST);
+        circuit.onSuccess(permit, FAST);
+
+        assertThat(circuit.inFlight()).isZero();
+        assertThat(circuit.snapshot().calls()).isEqualTo(1);
+        assertThat(circuit.limit()).isEqualTo(5);
+    }
+
+    private LlmCircuitProperties properties(Duration openDuration) {
+        LlmCircuitProperties properties = new LlmCircuitProperties();
+        properties.setWindowSize(10);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(0.5);
+        properties.setSlowCallDuration(Duration.ofSeconds(10));
+        properties.setOpenDuration(openDuration);
+        properties.setHalfOpenCalls(2);
+        properties.getConcurrency().setInitialLimit(10);
+        properties.getConcurrency().setMinLimit(2);
+        properties.getConcurrency().setMaxLimit(12);
+        properties.getConcurrency().setLatencyThreshold(Duration.ofSeconds(5));
+        properties.getConcurrency().setBackoffRatio(0.5);
+        return properties;
+    }
+
+    private void trip(ProviderCircuit circuit) {
+        for (int i = 0; i < 4; i++) {
+            fail(circuit);
+        }
+        assertThat(circuit.state()).isEqualTo(CircuitState.OPEN);
+    }
+
+    private void succeed(ProviderCircuit circuit, long latencyNanos) {
+        circuit.onSuccess(circuit.acquire(), latencyNanos);
+    }
+
+    private void fail(ProviderCircuit circuit) {
+        circuit.onFailure(circuit.acquire(), FAST);
+    }
+
+    private void assertRejected(ProviderCircuit circuit, ErrorCode errorCode) {
+        assertThatThrownBy(circuit::acquire)
+                .isInstanceOf(ApiException.class)
+                .extracting(e -> ((ApiException) e).getErrorCode())
+                .isEqualTo(errorCode);
+    }
+}